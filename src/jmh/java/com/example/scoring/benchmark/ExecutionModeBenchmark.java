@@ -0,0 +1,99 @@
+package com.example.scoring.benchmark;
+
+import com.example.scoring.ScoringServiceApplication;
+import com.example.scoring.monitoring.LatencyHistogram;
+import com.example.scoring.monitoring.LatencySnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the platform-thread and virtual-thread execution modes under a burst of
+ * concurrent clients hitting {@code /api/scores/sync}.
+ *
+ * Each invocation fires {@code clients} requests at once and waits for all of them, so the
+ * reported score is the time to drain the burst (throughput = clients / score). Per-request
+ * latencies are collected in a {@link LatencyHistogram} and the p99 is printed on teardown.
+ * Run with {@code -Djdk.tracePinnedThreads=short} to surface carrier-thread pinning.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+    private static final String PAYLOAD = "{\"candidateId\":\"bench-%d\",\"totalQuestions\":50,\"correctAnswers\":37}";
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"1000", "10000"})
+    public int clients;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private URI syncUri;
+    private LatencyHistogram latencies;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(ScoringServiceApplication.class).run(
+                "--server.port=0",
+                "--scoring.executor.mode=" + mode,
+                "--server.tomcat.max-connections=20000",
+                "--server.tomcat.accept-count=20000",
+                "--scoring.monitoring.log-invocations=false",
+                "--logging.level.com.example.scoring=WARN");
+        String port = context.getEnvironment().getProperty("local.server.port");
+        syncUri = URI.create("http://localhost:" + port + "/api/scores/sync");
+        httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+        latencies = new LatencyHistogram(8);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        LatencySnapshot snapshot = latencies.snapshot(mode + "/" + clients, 0L, 0L);
+        System.out.printf("%n[%s] requests=%d p50=%.2fms p99=%.2fms max=%.2fms%n",
+                snapshot.getName(), snapshot.getCount(),
+                snapshot.getP50Nanos() / 1e6, snapshot.getP99Nanos() / 1e6, snapshot.getMaxNanos() / 1e6);
+        context.close();
+    }
+
+    @Benchmark
+    public long burst() {
+        CompletableFuture<?>[] inFlight = new CompletableFuture<?>[clients];
+        for (int i = 0; i < clients; i++) {
+            HttpRequest request = HttpRequest.newBuilder(syncUri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(String.format(PAYLOAD, i)))
+                    .build();
+            long sentAtNanos = System.nanoTime();
+            inFlight[i] = httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenRun(() -> latencies.record(System.nanoTime() - sentAtNanos));
+        }
+        CompletableFuture.allOf(inFlight).join();
+        return clients;
+    }
+}
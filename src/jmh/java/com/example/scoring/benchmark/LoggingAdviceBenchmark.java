@@ -0,0 +1,69 @@
+package com.example.scoring.benchmark;
+
+import com.example.scoring.monitoring.ArgumentFormatter;
+import com.example.scoring.monitoring.LatencyMetrics;
+import com.example.scoring.monitoring.LoggingSamplingPolicy;
+import com.example.scoring.monitoring.MethodMetrics;
+import com.example.scoring.monitoring.MonitoredMethodRegistry;
+import com.example.scoring.monitoring.MonitoringProperties;
+import com.example.scoring.monitoring.ServiceMonitoringAspect;
+import com.example.scoring.service.AdviceBenchmarkTarget;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ServiceMonitoringAspect#logAndTime} per logging mode.
+ *
+ * {@code disabled} only times the call and records the histogram, {@code enabled} also writes
+ * an entry and an exit line for every call, and {@code sampled} logs 1% of the calls. The log
+ * lines go to whatever appender the benchmark classpath configures (the console by default),
+ * so absolute numbers for {@code enabled} depend on that appender.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingAdviceBenchmark {
+
+    @Param({"disabled", "enabled", "sampled"})
+    public String logging;
+
+    private AdviceBenchmarkTarget proxied;
+
+    @Setup
+    public void setUp() {
+        MonitoringProperties properties = new MonitoringProperties();
+        properties.setLogInvocations(!"disabled".equals(logging));
+        if ("sampled".equals(logging)) {
+            properties.getSampling().setSampleRatePercent(1.0);
+        }
+        MonitoredMethodRegistry registry = new MonitoredMethodRegistry(new LatencyMetrics(properties),
+                new MethodMetrics(properties));
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new AdviceBenchmarkTarget());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceMonitoringAspect(registry, new ArgumentFormatter(List.of()),
+                new LoggingSamplingPolicy(properties), properties));
+        proxied = factory.getProxy();
+    }
+
+    @Benchmark
+    public int logAndTime() {
+        return proxied.compute(42);
+    }
+}
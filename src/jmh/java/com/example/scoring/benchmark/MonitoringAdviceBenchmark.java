@@ -0,0 +1,90 @@
+package com.example.scoring.benchmark;
+
+import com.example.scoring.monitoring.ArgumentFormatter;
+import com.example.scoring.monitoring.LatencyMetrics;
+import com.example.scoring.monitoring.LoggingSamplingPolicy;
+import com.example.scoring.monitoring.MethodMetrics;
+import com.example.scoring.monitoring.MonitoredMethodDescriptor;
+import com.example.scoring.monitoring.MonitoredMethodRegistry;
+import com.example.scoring.monitoring.MonitoringProperties;
+import com.example.scoring.monitoring.PerformanceMonitored;
+import com.example.scoring.monitoring.ServiceMonitoringAspect;
+import com.example.scoring.service.AdviceBenchmarkTarget;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.core.annotation.AnnotationUtils;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-call overhead of {@link ServiceMonitoringAspect}.
+ *
+ * {@code legacyMetadataLookup} reproduces the reflection and string building the advice
+ * used to perform on every invocation, {@code cachedMetadataLookup} the descriptor lookup
+ * that replaced it. {@code directCall} and {@code proxiedCall} put the remaining advice
+ * cost (timing and histogram recording, with invocation logging disabled) into perspective.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonitoringAdviceBenchmark {
+
+    private Method method;
+    private MonitoredMethodRegistry registry;
+    private AdviceBenchmarkTarget direct;
+    private AdviceBenchmarkTarget proxied;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        MonitoringProperties properties = new MonitoringProperties();
+        properties.setLogInvocations(false);
+        registry = new MonitoredMethodRegistry(new LatencyMetrics(properties),
+                new MethodMetrics(properties));
+        method = AdviceBenchmarkTarget.class.getMethod("compute", int.class);
+
+        direct = new AdviceBenchmarkTarget();
+        AspectJProxyFactory factory = new AspectJProxyFactory(direct);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceMonitoringAspect(registry, new ArgumentFormatter(List.of()),
+                new LoggingSamplingPolicy(properties), properties));
+        proxied = factory.getProxy();
+    }
+
+    @Benchmark
+    public void legacyMetadataLookup(Blackhole blackhole) {
+        boolean monitored = AnnotationUtils.findAnnotation(method, PerformanceMonitored.class) != null
+                || AnnotationUtils.findAnnotation(method.getDeclaringClass(), PerformanceMonitored.class) != null;
+        blackhole.consume(monitored);
+        blackhole.consume(method.getDeclaringClass().getSimpleName() + "." + method.getName() + "(..)");
+    }
+
+    @Benchmark
+    public MonitoredMethodDescriptor cachedMetadataLookup() {
+        return registry.descriptorFor(method);
+    }
+
+    @Benchmark
+    public int directCall() {
+        return direct.compute(42);
+    }
+
+    @Benchmark
+    public int proxiedCall() {
+        return proxied.compute(42);
+    }
+}
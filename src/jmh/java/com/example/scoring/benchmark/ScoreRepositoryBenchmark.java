@@ -0,0 +1,77 @@
+package com.example.scoring.benchmark;
+
+import com.example.scoring.ScoringServiceApplication;
+import com.example.scoring.domain.Score;
+import com.example.scoring.repository.ScoreRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ScoreRepository#save} against the in-memory H2 database, one row per
+ * transaction and as a JDBC batch of {@value #BATCH_SIZE} rows (reported per row).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoreRepositoryBenchmark {
+
+    private static final int BATCH_SIZE = 50;
+
+    private ConfigurableApplicationContext context;
+    private ScoreRepository repository;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(ScoringServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:repository-benchmark;DB_CLOSE_DELAY=-1",
+                        "--logging.level.com.example.scoring=WARN");
+        repository = context.getBean(ScoreRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public Score save() {
+        return repository.save(newScore());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<Score> saveAllBatched() {
+        List<Score> scores = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            scores.add(newScore());
+        }
+        return repository.saveAll(scores);
+    }
+
+    private static Score newScore() {
+        return new Score("bench-candidate", 74.0, 50, 37, LocalDateTime.now(), false);
+    }
+}
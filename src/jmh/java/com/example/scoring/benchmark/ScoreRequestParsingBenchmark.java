@@ -0,0 +1,69 @@
+package com.example.scoring.benchmark;
+
+import com.example.scoring.codec.ScoreRequestJsonReader;
+import com.example.scoring.dto.ScoreRequest;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares binding a scoring request body with Jackson and with {@link ScoreRequestJsonReader},
+ * for a counts-only request and for one carrying a 500-answer vector. Run with
+ * {@code -prof gc} to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreRequestParsingBenchmark {
+
+    @Param({"0", "500"})
+    public int answers;
+
+    private byte[] body;
+    private ObjectReader jacksonReader;
+    private ScoreRequestJsonReader codecReader;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("{\"candidateId\":\"bench-candidate\",\"assessmentId\":\"java-backend\"");
+        if (answers == 0) {
+            json.append(",\"totalQuestions\":50,\"correctAnswers\":37");
+        } else {
+            json.append(",\"answers\":[");
+            for (int i = 0; i < answers; i++) {
+                json.append(i > 0 ? "," : "").append(i % 4);
+            }
+            json.append(']');
+        }
+        body = json.append('}').toString().getBytes(StandardCharsets.UTF_8);
+        jacksonReader = JsonMapper.builder().findAndAddModules().build().readerFor(ScoreRequest.class);
+        codecReader = new ScoreRequestJsonReader();
+    }
+
+    @Benchmark
+    public ScoreRequest jackson() throws IOException {
+        return jacksonReader.readValue(body);
+    }
+
+    @Benchmark
+    public ScoreRequest codec() {
+        return codecReader.read(body, body.length);
+    }
+}
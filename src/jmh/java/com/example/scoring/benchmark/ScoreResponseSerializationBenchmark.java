@@ -0,0 +1,67 @@
+package com.example.scoring.benchmark;
+
+import com.example.scoring.codec.ScoreJsonWriter;
+import com.example.scoring.domain.Score;
+import com.example.scoring.dto.ScoreResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the response path of a calculation: mapping the entity with
+ * {@link ScoreResponse#fromEntity(Score)} and serializing it with a Jackson mapper configured
+ * like Spring Boot's (Java time module, ISO dates), versus writing the entity directly with
+ * {@link ScoreJsonWriter}. Run with {@code -prof gc} to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreResponseSerializationBenchmark {
+
+    private Score score;
+    private ObjectWriter writer;
+    private ScoreJsonWriter codecWriter;
+
+    @Setup
+    public void setUp() {
+        score = new Score("bench-candidate", 74.0, 50, 37, LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_456_000), false);
+        writer = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writerFor(ScoreResponse.class);
+        codecWriter = new ScoreJsonWriter();
+    }
+
+    @Benchmark
+    public ScoreResponse fromEntity() {
+        return ScoreResponse.fromEntity(score);
+    }
+
+    @Benchmark
+    public byte[] fromEntityToJson() throws JsonProcessingException {
+        return writer.writeValueAsBytes(ScoreResponse.fromEntity(score));
+    }
+
+    @Benchmark
+    public int codecWrite() {
+        return codecWriter.writeScore(score).size();
+    }
+}
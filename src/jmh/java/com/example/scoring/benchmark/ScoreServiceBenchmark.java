@@ -0,0 +1,119 @@
+package com.example.scoring.benchmark;
+
+import com.example.scoring.ScoringServiceApplication;
+import com.example.scoring.cache.LatestScoreCache;
+import com.example.scoring.config.DatabaseBulkhead;
+import com.example.scoring.config.ScoringExecutorConfiguration;
+import com.example.scoring.config.WriteBehindProperties;
+import com.example.scoring.domain.Score;
+import com.example.scoring.dto.ScoreRequest;
+import com.example.scoring.event.PersistedScoreNotifier;
+import com.example.scoring.service.ScoreService;
+import com.example.scoring.service.impl.ScoreBatchProcessor;
+import com.example.scoring.service.impl.ScoreCalculator;
+import com.example.scoring.service.impl.ScoreReader;
+import com.example.scoring.service.impl.ScoreServiceImpl;
+import com.example.scoring.service.impl.ScoreWriteBehindQueue;
+import com.example.scoring.service.impl.ScoreWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.Advised;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the scoring service and calculator called through their Spring AOP proxies with
+ * unproxied instances, against the in-memory H2 database.
+ *
+ * The proxied service advises three calls per score: the service method itself and the
+ * {@link ScoreCalculator} and {@link ScoreWriter} it delegates to. The unproxied service is a
+ * separate {@link ScoreServiceImpl} wired to the targets of those two beans, so no monitoring
+ * advice runs anywhere on its path. The {@code *Proxied} and {@code *Target} pairs therefore
+ * differ only by the monitoring advice and proxy dispatch, and their difference is the cost of
+ * monitoring on a real call path. Transactions are applied by the store on both paths.
+ * Invocation logging is disabled to keep console output out of the numbers;
+ * {@link LoggingAdviceBenchmark} covers the logging modes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoreServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private ScoreService proxiedService;
+    private ScoreService targetService;
+    private ScoreCalculator proxiedCalculator;
+    private ScoreCalculator targetCalculator;
+    private ScoreRequest request;
+
+    @Setup(Level.Trial)
+    public void startApplication() throws Exception {
+        context = new SpringApplicationBuilder(ScoringServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:service-benchmark;DB_CLOSE_DELAY=-1",
+                        "--scoring.monitoring.log-invocations=false",
+                        "--logging.level.com.example.scoring=WARN");
+        proxiedService = context.getBean(ScoreService.class);
+        proxiedCalculator = context.getBean(ScoreCalculator.class);
+        targetCalculator = target(proxiedCalculator);
+        targetService = new ScoreServiceImpl(
+                targetCalculator,
+                target(context.getBean(ScoreWriter.class)),
+                context.getBean(ScoreReader.class),
+                context.getBean(DatabaseBulkhead.class),
+                context.getBean(ScoreWriteBehindQueue.class),
+                context.getBean(WriteBehindProperties.class),
+                context.getBean(ScoreBatchProcessor.class),
+                context.getBean(LatestScoreCache.class),
+                context.getBean(PersistedScoreNotifier.class),
+                context.getBean(ScoringExecutorConfiguration.SCORING_EXECUTOR, Executor.class));
+        request = new ScoreRequest("bench-candidate", 50, 37);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T target(T bean) throws Exception {
+        return bean instanceof Advised advised ? (T) advised.getTargetSource().getTarget() : bean;
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public Score serviceSyncProxied() {
+        return proxiedService.calculateScoreSync(request);
+    }
+
+    @Benchmark
+    public Score serviceSyncTarget() {
+        return targetService.calculateScoreSync(request);
+    }
+
+    @Benchmark
+    public Score calculatorProxied() {
+        return proxiedCalculator.calculate(request, false);
+    }
+
+    @Benchmark
+    public Score calculatorTarget() {
+        return targetCalculator.calculate(request, false);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.scoring.benchmark;
+
+import com.example.scoring.dto.ScoreRequest;
+import com.example.scoring.dto.SectionAnswers;
+import com.example.scoring.rules.AnswerSheetResult;
+import com.example.scoring.rules.CompiledScoringRule;
+import com.example.scoring.rules.ScoringRuleDefinition;
+import com.example.scoring.rules.ScoringRulesEngine;
+import com.example.scoring.rules.ScoringRulesProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rule evaluation, which has to stay in the tens of nanoseconds per request.
+ *
+ * {@code percentage} is the hard-coded calculation the rules engine replaced, {@code defaultRule}
+ * the same result through the engine, and {@code weightedSections} a rule with three weighted
+ * sections, negative marking and a three-point curve. Run with {@code -prof gc} to confirm that
+ * evaluation does not allocate. {@code answerSheet500} grades a 500-question answer vector
+ * against a bitplane answer key; {@code answerSheet500Scalar} is the per-question comparison
+ * loop it is measured against.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoringRulesBenchmark {
+
+    private ScoringRulesEngine engine;
+    private CompiledScoringRule compiledRule;
+    private ScoreRequest plainRequest;
+    private ScoreRequest sectionedRequest;
+    private int[] answerKey;
+    private int[] answers;
+
+    @Setup
+    public void setUp() {
+        ScoringRuleDefinition rule = new ScoringRuleDefinition();
+        rule.setNegativeMarking(0.25);
+        rule.setSections(List.of(
+                new ScoringRuleDefinition.Section("fundamentals", 1.0),
+                new ScoringRuleDefinition.Section("design", 2.0),
+                new ScoringRuleDefinition.Section("concurrency", 3.0)));
+        rule.setCurve(List.of(
+                new ScoringRuleDefinition.CurvePoint(0.0, 0.0),
+                new ScoringRuleDefinition.CurvePoint(40.0, 50.0),
+                new ScoringRuleDefinition.CurvePoint(100.0, 100.0)));
+        ScoringRulesProperties properties = new ScoringRulesProperties();
+        properties.getAssessments().put("java-backend", rule);
+
+        answerKey = new int[500];
+        answers = new int[500];
+        for (int question = 0; question < answerKey.length; question++) {
+            answerKey[question] = (question * 7) % 4;
+            answers[question] = question % 11 == 0 ? -1 : (question * 5) % 4;
+        }
+        ScoringRuleDefinition exam = new ScoringRuleDefinition();
+        exam.setNegativeMarking(0.25);
+        exam.setAnswerKey(answerKey);
+        properties.getAssessments().put("exam-500", exam);
+
+        engine = new ScoringRulesEngine(properties);
+        compiledRule = CompiledScoringRule.compile("java-backend", rule);
+
+        plainRequest = new ScoreRequest("candidate-1", 30, 21);
+        sectionedRequest = new ScoreRequest("candidate-1", 30, 21);
+        sectionedRequest.setAssessmentId("java-backend");
+        sectionedRequest.setSections(List.of(
+                new SectionAnswers("fundamentals", 10, 9, 1),
+                new SectionAnswers("design", 10, 7, 2),
+                new SectionAnswers("concurrency", 10, 5, 4)));
+    }
+
+    @Benchmark
+    public double percentage() {
+        return (plainRequest.getCorrectAnswers() * 100.0) / plainRequest.getTotalQuestions();
+    }
+
+    @Benchmark
+    public double defaultRule() {
+        return engine.score(plainRequest);
+    }
+
+    @Benchmark
+    public double weightedSections() {
+        return engine.score(sectionedRequest);
+    }
+
+    @Benchmark
+    public double weightedSectionsCompiledRule() {
+        return compiledRule.evaluate(sectionedRequest.getSections());
+    }
+
+    @Benchmark
+    public AnswerSheetResult answerSheet500() {
+        return engine.scoreAnswers("exam-500", answers);
+    }
+
+    @Benchmark
+    public int answerSheet500Scalar() {
+        int correct = 0;
+        for (int question = 0; question < answers.length; question++) {
+            if (answers[question] == answerKey[question]) {
+                correct++;
+            }
+        }
+        return correct;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.scoring.service;
+
+import com.example.scoring.monitoring.PerformanceMonitored;
+
+/**
+ * Minimal service-layer type used by the monitoring benchmarks. It lives in the service
+ * package so that it matches the pointcut of the monitoring aspect.
+ */
+@PerformanceMonitored
+public class AdviceBenchmarkTarget {
+
+    public int compute(int value) {
+        return value * 31 + 7;
+    }
+}
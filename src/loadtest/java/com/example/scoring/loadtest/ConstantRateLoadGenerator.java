@@ -0,0 +1,133 @@
+package com.example.scoring.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Closed-loop load generator that keeps a constant arrival rate, in the style of wrk2.
+ *
+ * Each connection owns a worker thread that sends one request at a time on a fixed schedule:
+ * request {@code k} of connection {@code c} is due at
+ * {@code start + (k * connections + c) / rate}. When a response arrives late, the following
+ * requests are sent immediately to catch up instead of being skipped or re-timed, and their
+ * latency is measured from the time they were due. This corrects for coordinated omission:
+ * a server stall shows up in the percentiles for every request that should have been sent
+ * during it, not just for the single request that was in flight.
+ */
+final class ConstantRateLoadGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final WorkloadSpec spec;
+    private final URI syncUri;
+    private final URI asyncUri;
+    private final HttpClient httpClient;
+    private final EndpointResults syncResults;
+    private final EndpointResults asyncResults;
+    private Duration measuredElapsed = Duration.ZERO;
+
+    ConstantRateLoadGenerator(WorkloadSpec spec, String baseUrl) {
+        this.spec = spec;
+        this.syncUri = URI.create(baseUrl + "/api/scores/sync");
+        this.asyncUri = URI.create(baseUrl + "/api/scores/async");
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        int stripes = Math.min(spec.getConnections(), 16);
+        this.syncResults = new EndpointResults("POST /api/scores/sync", stripes);
+        this.asyncResults = new EndpointResults("POST /api/scores/async", stripes);
+    }
+
+    /**
+     * Runs the warmup and the measured phase and blocks until every worker has finished.
+     */
+    void run() throws InterruptedException {
+        int connections = spec.getConnections();
+        long intervalNanos = Math.round(connections * 1_000_000_000.0 / spec.getRate());
+        long startNanos = System.nanoTime() + 100_000_000L;
+        long measureFromNanos = startNanos + spec.getWarmup().toNanos();
+        long endNanos = measureFromNanos + spec.getDuration().toNanos();
+
+        List<Thread> workers = new ArrayList<>(connections);
+        SplittableRandom seeds = new SplittableRandom(spec.getSeed());
+        for (int c = 0; c < connections; c++) {
+            long firstDueNanos = startNanos + Math.round(c * 1_000_000_000.0 / spec.getRate());
+            SplittableRandom random = seeds.split();
+            Thread worker = new Thread(() -> drive(firstDueNanos, intervalNanos, measureFromNanos, endNanos, random),
+                    "load-connection-" + c);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        measuredElapsed = Duration.ofNanos(Math.max(0L, System.nanoTime() - measureFromNanos));
+    }
+
+    private void drive(long firstDueNanos, long intervalNanos, long measureFromNanos, long endNanos,
+                       SplittableRandom random) {
+        ScorePayloads payloads = new ScorePayloads(spec, random);
+        for (long dueNanos = firstDueNanos; dueNanos < endNanos; dueNanos += intervalNanos) {
+            long waitNanos = dueNanos - System.nanoTime();
+            while (waitNanos > 0L) {
+                LockSupport.parkNanos(waitNanos);
+                waitNanos = dueNanos - System.nanoTime();
+            }
+            boolean sync = random.nextDouble() < spec.getSyncRatio();
+            HttpRequest request = HttpRequest.newBuilder(sync ? syncUri : asyncUri)
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(payloads.next()))
+                    .build();
+            EndpointResults results = sync ? syncResults : asyncResults;
+            boolean measured = dueNanos >= measureFromNanos;
+
+            long sentAtNanos = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                long completedAtNanos = System.nanoTime();
+                if (!measured) {
+                    continue;
+                }
+                if (response.statusCode() / 100 == 2) {
+                    results.recordSuccess(dueNanos, sentAtNanos, completedAtNanos);
+                } else {
+                    results.recordError("HTTP " + response.statusCode(), dueNanos, sentAtNanos, completedAtNanos);
+                }
+            } catch (IOException ex) {
+                if (measured) {
+                    results.recordError(ex.getClass().getSimpleName(), dueNanos, sentAtNanos, System.nanoTime());
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Time from the start of the measured phase until the last response arrived. It exceeds
+     * the configured duration whenever the target falls behind the schedule.
+     */
+    Duration getMeasuredElapsed() {
+        return measuredElapsed;
+    }
+
+    EndpointResults getSyncResults() {
+        return syncResults;
+    }
+
+    EndpointResults getAsyncResults() {
+        return asyncResults;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.scoring.loadtest;
+
+import com.example.scoring.monitoring.LatencyHistogram;
+import com.example.scoring.monitoring.LatencySnapshot;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcomes of the measured requests sent to one endpoint.
+ *
+ * Every response is recorded twice: the corrected latency runs from the time the request was
+ * scheduled to be sent, so a stalled server is charged for the requests queued up behind the
+ * stall; the uncorrected (service) latency runs from the time it was actually sent and is what
+ * a naive closed-loop client would report.
+ */
+final class EndpointResults {
+
+    private final String name;
+    private final LatencyHistogram corrected;
+    private final LatencyHistogram uncorrected;
+    private final LongAdder successes = new LongAdder();
+    private final ConcurrentMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    EndpointResults(String name, int stripes) {
+        this.name = name;
+        this.corrected = new LatencyHistogram(stripes);
+        this.uncorrected = new LatencyHistogram(stripes);
+    }
+
+    void recordSuccess(long intendedStartNanos, long sentAtNanos, long completedAtNanos) {
+        successes.increment();
+        recordLatency(intendedStartNanos, sentAtNanos, completedAtNanos);
+    }
+
+    /**
+     * Records a failed request under the given kind, e.g. an HTTP status or an exception type.
+     * Every failure counts towards the latencies as well, measured until the error response
+     * arrived or the exception was raised, so that timeouts and dropped connections are not
+     * hidden from the percentiles.
+     */
+    void recordError(String kind, long intendedStartNanos, long sentAtNanos, long completedAtNanos) {
+        errors.computeIfAbsent(kind, key -> new LongAdder()).increment();
+        recordLatency(intendedStartNanos, sentAtNanos, completedAtNanos);
+    }
+
+    private void recordLatency(long intendedStartNanos, long sentAtNanos, long completedAtNanos) {
+        corrected.record(completedAtNanos - intendedStartNanos);
+        uncorrected.record(completedAtNanos - sentAtNanos);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    long getSuccesses() {
+        return successes.sum();
+    }
+
+    long getErrorCount() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    Map<String, Long> getErrors() {
+        Map<String, Long> counts = new TreeMap<>();
+        errors.forEach((kind, count) -> counts.put(kind, count.sum()));
+        return counts;
+    }
+
+    LatencySnapshot correctedLatencies() {
+        return corrected.snapshot(name, 0L, 0L);
+    }
+
+    LatencySnapshot uncorrectedLatencies() {
+        return uncorrected.snapshot(name, 0L, 0L);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.scoring.loadtest;
+
+import com.example.scoring.ScoringServiceApplication;
+import com.example.scoring.monitoring.LatencySnapshot;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Entry point of the end-to-end load test.
+ *
+ * Boots the application in-process on a random port against a dedicated H2 database (unless
+ * {@code --target} points at a running instance), drives it with a
+ * {@link ConstantRateLoadGenerator} shaped by the {@link WorkloadSpec} and prints throughput,
+ * error counts and latency percentiles per endpoint. Example:
+ *
+ * <pre>
+ * --rate=500 --duration=2m --connections=64 --sync-ratio=0.7 --candidates=50000 --answers=200
+ * </pre>
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        WorkloadSpec spec = WorkloadSpec.parse(args);
+        ConfigurableApplicationContext context = spec.getTarget() == null ? startApplication(spec) : null;
+        try {
+            String baseUrl = context != null
+                    ? "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    : spec.getTarget();
+            System.out.printf("Load test against %s: %s%n", baseUrl, spec);
+
+            ConstantRateLoadGenerator generator = new ConstantRateLoadGenerator(spec, baseUrl);
+            generator.run();
+            report(System.out, spec, generator.getMeasuredElapsed(),
+                    List.of(generator.getSyncResults(), generator.getAsyncResults()));
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(WorkloadSpec spec) {
+        List<String> properties = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                "--server.tomcat.threads.max=" + Math.max(200, spec.getConnections()),
+                "--scoring.monitoring.log-invocations=false",
+                "--logging.level.com.example.scoring=WARN"));
+        if (spec.getAnswers() > 0) {
+            properties.add("--scoring.rules.assessments." + ScorePayloads.ASSESSMENT_ID + ".answer-key="
+                    + ScorePayloads.answerKey(spec));
+        }
+        return new SpringApplicationBuilder(ScoringServiceApplication.class).run(properties.toArray(new String[0]));
+    }
+
+    /**
+     * Prints the results; throughput is computed over the measured elapsed time rather than the
+     * configured duration, so a target that falls behind shows its achieved rate.
+     */
+    private static void report(PrintStream out, WorkloadSpec spec, Duration elapsed, List<EndpointResults> endpoints) {
+        double seconds = Math.max(elapsed.toNanos(), 1L) / 1e9;
+        long total = 0L;
+        long failed = 0L;
+        for (EndpointResults endpoint : endpoints) {
+            long errors = endpoint.getErrorCount();
+            long requests = endpoint.getSuccesses() + errors;
+            total += requests;
+            failed += errors;
+            out.printf(Locale.ROOT, "%n%s%n", endpoint.getName());
+            out.printf(Locale.ROOT, "  requests=%d throughput=%.1f/s errors=%d (%.2f%%)%n",
+                    requests, requests / seconds, errors, percent(errors, requests));
+            for (Map.Entry<String, Long> error : endpoint.getErrors().entrySet()) {
+                out.printf(Locale.ROOT, "    %s: %d%n", error.getKey(), error.getValue());
+            }
+            printLatencies(out, "corrected  ", endpoint.correctedLatencies());
+            printLatencies(out, "uncorrected", endpoint.uncorrectedLatencies());
+        }
+        out.printf(Locale.ROOT, "%nTotal: requests=%d in %.1fs throughput=%.1f/s (target %.1f/s) errors=%d (%.2f%%)%n",
+                total, seconds, total / seconds, spec.getRate(), failed, percent(failed, total));
+    }
+
+    private static void printLatencies(PrintStream out, String label, LatencySnapshot snapshot) {
+        out.printf(Locale.ROOT, "  %s p50=%.2fms p90=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms%n",
+                label, snapshot.getP50Nanos() / 1e6, snapshot.getP90Nanos() / 1e6, snapshot.getP99Nanos() / 1e6,
+                snapshot.getP999Nanos() / 1e6, snapshot.getMaxNanos() / 1e6);
+    }
+
+    private static double percent(long part, long whole) {
+        return whole == 0L ? 0.0 : part * 100.0 / whole;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.scoring.loadtest;
+
+import java.util.SplittableRandom;
+
+/**
+ * Generates scoring request bodies for one connection.
+ *
+ * With {@link WorkloadSpec#getAnswers()} set, requests carry a random answer vector for the
+ * {@value #ASSESSMENT_ID} assessment whose key is produced by {@link #answerKey(WorkloadSpec)};
+ * otherwise they carry answer counts for a 50-question test.
+ */
+final class ScorePayloads {
+
+    static final String ASSESSMENT_ID = "loadtest";
+
+    private static final int TOTAL_QUESTIONS = 50;
+
+    private final WorkloadSpec spec;
+    private final SplittableRandom random;
+    private final StringBuilder body = new StringBuilder(256);
+
+    ScorePayloads(WorkloadSpec spec, SplittableRandom random) {
+        this.spec = spec;
+        this.random = random;
+    }
+
+    String next() {
+        body.setLength(0);
+        body.append("{\"candidateId\":\"load-").append(random.nextInt(spec.getCandidates())).append('"');
+        if (spec.getAnswers() == 0) {
+            body.append(",\"totalQuestions\":").append(TOTAL_QUESTIONS)
+                    .append(",\"correctAnswers\":").append(random.nextInt(TOTAL_QUESTIONS + 1));
+        } else {
+            body.append(",\"assessmentId\":\"").append(ASSESSMENT_ID).append("\",\"answers\":[");
+            for (int i = 0; i < spec.getAnswers(); i++) {
+                if (i > 0) {
+                    body.append(',');
+                }
+                body.append(random.nextInt(spec.getOptions()));
+            }
+            body.append(']');
+        }
+        return body.append('}').toString();
+    }
+
+    /**
+     * Answer key of the {@value #ASSESSMENT_ID} assessment as a comma-separated list, suitable
+     * for {@code scoring.rules.assessments.loadtest.answer-key}.
+     */
+    static String answerKey(WorkloadSpec spec) {
+        SplittableRandom random = new SplittableRandom(spec.getSeed());
+        StringBuilder key = new StringBuilder(spec.getAnswers() * 2);
+        for (int i = 0; i < spec.getAnswers(); i++) {
+            if (i > 0) {
+                key.append(',');
+            }
+            key.append(random.nextInt(spec.getOptions()));
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.scoring.loadtest;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Shape of the load generated by {@link LoadTestRunner}, parsed from {@code --name=value}
+ * command-line options.
+ *
+ * <ul>
+ *     <li>{@code rate}: requests per second across all connections (default 200)</li>
+ *     <li>{@code duration}: measured phase, e.g. {@code 60s} or {@code 2m} (default 60s)</li>
+ *     <li>{@code warmup}: unmeasured phase run before it (default 10s)</li>
+ *     <li>{@code connections}: concurrent connections, each issuing its share of the rate (default 32)</li>
+ *     <li>{@code sync-ratio}: fraction of requests sent to {@code /api/scores/sync}, the rest go to
+ *     {@code /api/scores/async} (default 0.8)</li>
+ *     <li>{@code candidates}: number of distinct candidate ids, picked uniformly (default 10000)</li>
+ *     <li>{@code answers}: length of the submitted answer vector; zero sends answer counts
+ *     instead (default 0)</li>
+ *     <li>{@code options}: options per question when answer vectors are sent (default 4)</li>
+ *     <li>{@code target}: base URL of a running instance; without it the application is booted
+ *     in-process against H2</li>
+ *     <li>{@code seed}: random seed of the workload (default 42)</li>
+ * </ul>
+ */
+public final class WorkloadSpec {
+
+    private double rate = 200.0;
+    private Duration duration = Duration.ofSeconds(60);
+    private Duration warmup = Duration.ofSeconds(10);
+    private int connections = 32;
+    private double syncRatio = 0.8;
+    private int candidates = 10_000;
+    private int answers = 0;
+    private int options = 4;
+    private String target;
+    private long seed = 42L;
+
+    /**
+     * Parses the given options on top of the defaults.
+     *
+     * @throws IllegalArgumentException on unknown options or invalid values
+     */
+    public static WorkloadSpec parse(String[] args) {
+        WorkloadSpec spec = new WorkloadSpec();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "rate" -> spec.rate = Double.parseDouble(value);
+                case "duration" -> spec.duration = parseDuration(value);
+                case "warmup" -> spec.warmup = parseDuration(value);
+                case "connections" -> spec.connections = Integer.parseInt(value);
+                case "sync-ratio" -> spec.syncRatio = Double.parseDouble(value);
+                case "candidates" -> spec.candidates = Integer.parseInt(value);
+                case "answers" -> spec.answers = Integer.parseInt(value);
+                case "options" -> spec.options = Integer.parseInt(value);
+                case "target" -> spec.target = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                case "seed" -> spec.seed = Long.parseLong(value);
+                default -> throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+        spec.validate();
+        return spec;
+    }
+
+    private void validate() {
+        if (rate <= 0.0 || connections < 1 || candidates < 1 || answers < 0 || options < 2 || options > 64) {
+            throw new IllegalArgumentException("rate, connections and candidates must be positive, answers "
+                    + "must not be negative and options must be between 2 and 64");
+        }
+        if (syncRatio < 0.0 || syncRatio > 1.0) {
+            throw new IllegalArgumentException("sync-ratio must be between 0 and 1");
+        }
+        if (duration.isNegative() || duration.isZero() || warmup.isNegative()) {
+            throw new IllegalArgumentException("duration must be positive and warmup must not be negative");
+        }
+    }
+
+    /**
+     * Parses {@code 500ms}, {@code 30s}, {@code 2m} or a plain number of seconds.
+     */
+    static Duration parseDuration(String value) {
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        if (normalized.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(normalized.substring(0, normalized.length() - 2)));
+        }
+        if (normalized.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(normalized.substring(0, normalized.length() - 1)));
+        }
+        if (normalized.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(normalized.substring(0, normalized.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(normalized));
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public int getConnections() {
+        return connections;
+    }
+
+    public double getSyncRatio() {
+        return syncRatio;
+    }
+
+    public int getCandidates() {
+        return candidates;
+    }
+
+    public int getAnswers() {
+        return answers;
+    }
+
+    public int getOptions() {
+        return options;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "rate=%.1f/s duration=%ds warmup=%ds connections=%d sync-ratio=%.2f candidates=%d answers=%d options=%d",
+                rate, duration.toSeconds(), warmup.toSeconds(), connections, syncRatio, candidates, answers, options);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.scoring.analytics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the columnar score snapshot, bound from {@code scoring.analytics.*}.
+ */
+@ConfigurationProperties(prefix = "scoring.analytics")
+public class AnalyticsProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Pause between two incremental refreshes from newly persisted scores.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(1);
+
+    /**
+     * Upper bound on the rows held off-heap; the oldest rows are dropped beyond it. A row takes
+     * 32 bytes of direct memory and a rebuild briefly holds two snapshots, so
+     * {@code -XX:MaxDirectMemorySize} must allow for twice this many rows (about 128 MB by
+     * default) besides other direct buffers.
+     */
+    private long maxRows = 2_000_000L;
+
+    /**
+     * Newly persisted scores buffered between two refreshes. When the buffer overflows, the
+     * snapshot is rebuilt from the database on the next refresh.
+     */
+    private int pendingCapacity = 100_000;
+
+    /**
+     * Threads scanning the columns. Zero uses the number of available processors.
+     */
+    private int parallelism = 0;
+
+    /**
+     * JDBC fetch size used when loading the snapshot from the database.
+     */
+    private int fetchSize = 10_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    public long getMaxRows() {
+        return maxRows;
+    }
+
+    public void setMaxRows(long maxRows) {
+        this.maxRows = maxRows;
+    }
+
+    public int getPendingCapacity() {
+        return pendingCapacity;
+    }
+
+    public void setPendingCapacity(int pendingCapacity) {
+        this.pendingCapacity = pendingCapacity;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+}
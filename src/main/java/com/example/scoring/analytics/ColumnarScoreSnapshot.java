@@ -0,0 +1,209 @@
+package com.example.scoring.analytics;
+
+import com.example.scoring.domain.Score;
+import com.example.scoring.dto.ScoreStatisticsResponse;
+import com.example.scoring.event.PersistedScoreListener;
+import com.example.scoring.stats.ScoreSketch;
+import com.example.scoring.stats.ScoreStatisticsAggregator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Read-optimized {@link ScoreColumns columnar snapshot} of all scores for ad-hoc aggregations
+ * over arbitrary time ranges, cohorts and candidates.
+ *
+ * The snapshot is loaded once from the {@code scores} table with a plain JDBC cursor in id
+ * order, so rows are streamed into the columns without hydrating entities. After that it is
+ * refreshed incrementally: committed scores are buffered by the {@link PersistedScoreListener}
+ * callback and appended on every refresh, skipping the ones a load already saw. If the buffer
+ * overflows, the next refresh rebuilds the snapshot from the database and swaps it in once
+ * complete; queries keep using the previous one meanwhile. The replaced snapshot's direct
+ * memory is released when it is garbage collected, so a rebuild briefly holds two snapshots;
+ * a direct allocation beyond {@code -XX:MaxDirectMemorySize} makes the JVM collect such
+ * unreachable buffers before it fails, unless explicit GC is disabled.
+ *
+ * Scores the database did not return yet, such as journal records not yet exported, survive
+ * a rebuild: buffered ones stay queued and are appended after it, and those the previous
+ * snapshot already held with an id above the loaded ones are copied over. Only scores dropped
+ * by a full buffer and not yet in the database at the rebuild are missing until the next one.
+ */
+@Component
+@ConditionalOnProperty(prefix = "scoring.analytics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ColumnarScoreSnapshot implements PersistedScoreListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ColumnarScoreSnapshot.class);
+
+    private static final String LOAD_QUERY =
+            "select id, candidate_id, assessment_id, calculated_at, score_value from scores order by id";
+
+    private final AnalyticsProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Score> pending;
+    private final ForkJoinPool scanPool;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile ScoreColumns columns;
+    private volatile boolean reloadRequired = true;
+    private volatile boolean running;
+    private Thread refresher;
+
+    public ColumnarScoreSnapshot(AnalyticsProperties properties,
+                                 DataSource dataSource,
+                                 PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.getFetchSize());
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.pending = new ArrayBlockingQueue<>(properties.getPendingCapacity());
+        this.scanPool = new ForkJoinPool(properties.getParallelism() > 0
+                ? properties.getParallelism()
+                : Runtime.getRuntime().availableProcessors());
+        this.columns = new ScoreColumns(properties.getMaxRows());
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        refresher = new Thread(this::runRefreshLoop, "score-analytics-refresh");
+        refresher.setDaemon(true);
+        refresher.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (refresher != null) {
+            LockSupport.unpark(refresher);
+            refresher.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        scanPool.shutdown();
+    }
+
+    @Override
+    public void onScorePersisted(Score score) {
+        if (!pending.offer(score)) {
+            reloadRequired = true;
+        }
+    }
+
+    /**
+     * Makes the next refresh rebuild the snapshot from the database.
+     */
+    public void requestReload() {
+        reloadRequired = true;
+    }
+
+    /**
+     * Appends all buffered scores, or rebuilds the snapshot if that has been requested.
+     */
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            if (reloadRequired) {
+                reloadRequired = false;
+                reload();
+            }
+            ScoreColumns target = columns;
+            int appended = 0;
+            Score score;
+            while ((score = pending.poll()) != null) {
+                if (target.containsSorted(score.getId())) {
+                    continue;
+                }
+                append(target, score.getId(), score.getCandidateId(), score.getAssessmentId(),
+                        score.getCalculatedAt(), score.getScoreValue());
+                appended++;
+            }
+            if (appended > 0) {
+                target.publish();
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public int rowCount() {
+        return columns.rowCount();
+    }
+
+    /**
+     * Score distribution over {@code [from, to)}, optionally restricted to an assessment (the
+     * {@link ScoreStatisticsAggregator#DEFAULT_COHORT default cohort} for scores without one)
+     * and to a candidate.
+     */
+    public ScoreStatisticsResponse summarize(LocalDateTime from, LocalDateTime to, String assessmentId, String candidateId) {
+        ScoreSketch sketch = columns.aggregate(scanPool, epochMillis(from), epochMillis(to), assessmentId, candidateId);
+        ScoreStatisticsResponse response = new ScoreStatisticsResponse();
+        response.setCohort(assessmentId);
+        response.setWindowStart(from);
+        response.setWindowEnd(to);
+        response.setCount(sketch.getCount());
+        response.setMean(sketch.getMean());
+        response.setStandardDeviation(Math.sqrt(sketch.getVariance()));
+        response.setMin(sketch.getMin());
+        response.setMax(sketch.getMax());
+        response.setP50(sketch.quantile(0.50));
+        response.setP90(sketch.quantile(0.90));
+        response.setP99(sketch.quantile(0.99));
+        return response;
+    }
+
+    private void reload() {
+        long started = System.nanoTime();
+        // Buffered scores stay queued: refresh() skips those the load returns and appends the rest.
+        ScoreColumns loaded = new ScoreColumns(properties.getMaxRows());
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(LOAD_QUERY, resultSet -> {
+            append(loaded, resultSet.getLong(1), resultSet.getString(2), resultSet.getString(3),
+                    resultSet.getObject(4, LocalDateTime.class), resultSet.getDouble(5));
+        }));
+        loaded.markSorted();
+        int carried = loaded.appendNewer(columns);
+        loaded.publish();
+        columns = loaded;
+        LOGGER.info("Loaded {} scores into the columnar snapshot in {} ms, {} of them from the previous snapshot",
+                loaded.rowCount(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), carried);
+    }
+
+    private void runRefreshLoop() {
+        long intervalNanos = properties.getRefreshInterval().toNanos();
+        while (running) {
+            try {
+                refresh();
+            } catch (RuntimeException ex) {
+                reloadRequired = true;
+                LOGGER.warn("Refreshing the columnar score snapshot failed, rebuilding it in {}",
+                        properties.getRefreshInterval(), ex);
+            }
+            LockSupport.parkNanos(intervalNanos);
+        }
+    }
+
+    private static void append(ScoreColumns target, long id, String candidateId, String assessmentId,
+                               LocalDateTime calculatedAt, double value) {
+        String cohort = assessmentId != null ? assessmentId : ScoreStatisticsAggregator.DEFAULT_COHORT;
+        target.append(id, candidateId, cohort, epochMillis(calculatedAt), value);
+    }
+
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,336 @@
+package com.example.scoring.analytics;
+
+import com.example.scoring.candidate.CandidateDictionary;
+import com.example.scoring.stats.ScoreSketch;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Columnar, off-heap copy of the analytically relevant score fields.
+ *
+ * Rows are stored in chunks of {@value #CHUNK_ROWS} rows. A chunk is a single direct buffer
+ * sliced into one column per field, in native byte order: id and calculation time in epoch
+ * milliseconds as {@code long}, score value as {@code double}, and candidate and cohort as
+ * {@code int} codes into per-instance dictionaries. A row costs {@value #ROW_BYTES} bytes
+ * outside the heap instead of an entity with two strings and a {@code LocalDateTime} on it.
+ * Once {@code maxChunks} chunks are full, the oldest chunk is dropped. The candidate dictionary
+ * is bounded by the same row limit; candidates first seen after it filled up, which takes
+ * dropped chunks, are stored as {@link CandidateDictionary#NO_CODE} with their id kept in an
+ * on-heap array of the chunk, and queries for them compare those ids instead of codes.
+ *
+ * One thread appends rows and makes them visible with {@link #publish()}; any number of
+ * threads aggregate over the last published state. A scan splits the chunks into fork-join
+ * tasks, each running a branch-light loop over its primitive columns into its own
+ * {@link ScoreSketch}, and merges the partial sketches on the way back.
+ */
+final class ScoreColumns {
+
+    static final int CHUNK_BITS = 16;
+    static final int CHUNK_ROWS = 1 << CHUNK_BITS;
+    static final int ROW_BYTES = 3 * Long.BYTES + 2 * Integer.BYTES;
+
+    private static final int CHUNK_MASK = CHUNK_ROWS - 1;
+    private static final int ANY_CANDIDATE = Integer.MIN_VALUE;
+
+    private final int maxChunks;
+    private final CandidateDictionary candidateCodes;
+    private final Map<String, Integer> cohortCodes = new ConcurrentHashMap<>();
+
+    private Chunk[] chunks = new Chunk[0];
+    private int size;
+    private int sortedRows;
+    private long maxSortedId;
+
+    private volatile Snapshot published = new Snapshot(new Chunk[0], 0);
+
+    ScoreColumns(long maxRows) {
+        this.maxChunks = (int) Math.min(Integer.MAX_VALUE / CHUNK_ROWS, (Math.max(1L, maxRows) - 1) / CHUNK_ROWS + 1);
+        this.candidateCodes = new CandidateDictionary(
+                (int) Math.min(CandidateDictionary.MAX_ENTRIES, (long) maxChunks * CHUNK_ROWS));
+    }
+
+    /**
+     * Appends a row; not visible to readers before the next {@link #publish()}.
+     */
+    void append(long id, String candidateId, String cohort, long epochMillis, double value) {
+        int row = size & CHUNK_MASK;
+        if (row == 0) {
+            addChunk();
+        }
+        chunks[chunks.length - 1].set(row, id, candidateId, candidateCodes.encode(candidateId),
+                code(cohortCodes, cohort), epochMillis, value);
+        size++;
+    }
+
+    /**
+     * Appends the rows of {@code previous} whose id is above every row marked sorted here, such
+     * as scores appended to it after they were read from the database for a rebuild but before
+     * they reached it.
+     *
+     * @return the number of rows appended
+     */
+    int appendNewer(ScoreColumns previous) {
+        String[] cohorts = new String[previous.cohortCodes.size()];
+        previous.cohortCodes.forEach((cohort, code) -> cohorts[code] = cohort);
+        int appended = 0;
+        for (int row = 0; row < previous.size; row++) {
+            Chunk chunk = previous.chunks[row >>> CHUNK_BITS];
+            int slot = row & CHUNK_MASK;
+            long id = chunk.ids.get(slot);
+            if (id <= maxSortedId) {
+                continue;
+            }
+            int candidate = chunk.candidates.get(slot);
+            String candidateId = candidate == CandidateDictionary.NO_CODE
+                    ? chunk.uncodedIds[slot]
+                    : previous.candidateCodes.decode(candidate);
+            append(id, candidateId, cohorts[chunk.cohorts.get(slot)], chunk.epochMillis.get(slot), chunk.values.get(slot));
+            appended++;
+        }
+        return appended;
+    }
+
+    /**
+     * Marks all rows appended so far as sorted by ascending id, as they are after a bulk load,
+     * so that {@link #containsSorted(long)} can search them.
+     */
+    void markSorted() {
+        sortedRows = size;
+        maxSortedId = size == 0 ? 0L : id(size - 1);
+    }
+
+    /**
+     * Whether a row with this id is among the rows marked sorted. Ids below the oldest
+     * retained row count as contained, since they were loaded and dropped again.
+     */
+    boolean containsSorted(long id) {
+        if (id > maxSortedId) {
+            return false;
+        }
+        if (sortedRows == 0 || id < id(0)) {
+            return true;
+        }
+        int low = 0;
+        int high = sortedRows - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = id(mid);
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void publish() {
+        published = new Snapshot(chunks, size);
+    }
+
+    int rowCount() {
+        return published.size;
+    }
+
+    /**
+     * Aggregates the values of all published rows with {@code fromMillis <= time < toMillis},
+     * optionally restricted to one cohort and one candidate.
+     */
+    ScoreSketch aggregate(ForkJoinPool pool, long fromMillis, long toMillis, String cohort, String candidateId) {
+        Snapshot snapshot = published;
+        int cohortCode = -1;
+        int candidateCode = ANY_CANDIDATE;
+        if (cohort != null) {
+            Integer code = cohortCodes.get(cohort);
+            if (code == null) {
+                return new ScoreSketch();
+            }
+            cohortCode = code;
+        }
+        if (candidateId != null) {
+            candidateCode = candidateCodes.find(candidateId);
+        }
+        if (snapshot.size == 0) {
+            return new ScoreSketch();
+        }
+        Filter filter = new Filter(fromMillis, toMillis, cohortCode, candidateCode, candidateId);
+        return pool.invoke(new ScanTask(snapshot, filter, 0, snapshot.chunks.length));
+    }
+
+    private void addChunk() {
+        Chunk[] grown;
+        if (chunks.length == maxChunks) {
+            grown = Arrays.copyOfRange(chunks, 1, chunks.length + 1);
+            size -= CHUNK_ROWS;
+            sortedRows = Math.max(0, sortedRows - CHUNK_ROWS);
+        } else {
+            grown = Arrays.copyOf(chunks, chunks.length + 1);
+        }
+        grown[grown.length - 1] = new Chunk();
+        chunks = grown;
+    }
+
+    private long id(int row) {
+        return chunks[row >>> CHUNK_BITS].ids.get(row & CHUNK_MASK);
+    }
+
+    private static int code(Map<String, Integer> dictionary, String value) {
+        Integer code = dictionary.get(value);
+        if (code == null) {
+            code = dictionary.size();
+            dictionary.put(value, code);
+        }
+        return code;
+    }
+
+    private static final class Snapshot {
+
+        private final Chunk[] chunks;
+        private final int size;
+
+        private Snapshot(Chunk[] chunks, int size) {
+            this.chunks = chunks;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Time range and dictionary codes to match. A negative cohort code and
+     * {@link #ANY_CANDIDATE} match every row; a candidate without a code matches the rows
+     * stored under {@link CandidateDictionary#NO_CODE} with the same id.
+     */
+    private static final class Filter {
+
+        private final long fromMillis;
+        private final long toMillis;
+        private final int cohort;
+        private final int candidate;
+        private final String candidateId;
+
+        private Filter(long fromMillis, long toMillis, int cohort, int candidate, String candidateId) {
+            this.fromMillis = fromMillis;
+            this.toMillis = toMillis;
+            this.cohort = cohort;
+            this.candidate = candidate;
+            this.candidateId = candidateId;
+        }
+    }
+
+    private static final class Chunk {
+
+        private final LongBuffer ids;
+        private final LongBuffer epochMillis;
+        private final DoubleBuffer values;
+        private final IntBuffer candidates;
+        private final IntBuffer cohorts;
+        /**
+         * Ids of the rows stored under {@link CandidateDictionary#NO_CODE}, allocated with the
+         * first such row.
+         */
+        private String[] uncodedIds;
+
+        private Chunk() {
+            ByteBuffer memory = ByteBuffer.allocateDirect(CHUNK_ROWS * ROW_BYTES);
+            int offset = 0;
+            ids = column(memory, offset, Long.BYTES).asLongBuffer();
+            offset += CHUNK_ROWS * Long.BYTES;
+            epochMillis = column(memory, offset, Long.BYTES).asLongBuffer();
+            offset += CHUNK_ROWS * Long.BYTES;
+            values = column(memory, offset, Double.BYTES).asDoubleBuffer();
+            offset += CHUNK_ROWS * Double.BYTES;
+            candidates = column(memory, offset, Integer.BYTES).asIntBuffer();
+            offset += CHUNK_ROWS * Integer.BYTES;
+            cohorts = column(memory, offset, Integer.BYTES).asIntBuffer();
+        }
+
+        private static ByteBuffer column(ByteBuffer memory, int offset, int width) {
+            return memory.slice(offset, CHUNK_ROWS * width).order(ByteOrder.nativeOrder());
+        }
+
+        void set(int row, long id, String candidateId, int candidate, int cohort, long millis, double value) {
+            ids.put(row, id);
+            epochMillis.put(row, millis);
+            values.put(row, value);
+            candidates.put(row, candidate);
+            cohorts.put(row, cohort);
+            if (candidate == CandidateDictionary.NO_CODE) {
+                if (uncodedIds == null) {
+                    uncodedIds = new String[CHUNK_ROWS];
+                }
+                uncodedIds[row] = candidateId;
+            }
+        }
+    }
+
+    private static final class ScanTask extends RecursiveTask<ScoreSketch> {
+
+        private final Snapshot snapshot;
+        private final Filter filter;
+        private final int fromChunk;
+        private final int toChunk;
+
+        private ScanTask(Snapshot snapshot, Filter filter, int fromChunk, int toChunk) {
+            this.snapshot = snapshot;
+            this.filter = filter;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected ScoreSketch compute() {
+            if (toChunk - fromChunk == 1) {
+                return scan(fromChunk);
+            }
+            int middle = (fromChunk + toChunk) >>> 1;
+            ScanTask left = new ScanTask(snapshot, filter, fromChunk, middle);
+            left.fork();
+            ScoreSketch right = new ScanTask(snapshot, filter, middle, toChunk).compute();
+            ScoreSketch merged = left.join();
+            merged.merge(right);
+            return merged;
+        }
+
+        private ScoreSketch scan(int chunkIndex) {
+            Chunk chunk = snapshot.chunks[chunkIndex];
+            int rows = Math.min(CHUNK_ROWS, snapshot.size - chunkIndex * CHUNK_ROWS);
+            LongBuffer times = chunk.epochMillis;
+            IntBuffer cohorts = chunk.cohorts;
+            IntBuffer candidates = chunk.candidates;
+            DoubleBuffer values = chunk.values;
+            long from = filter.fromMillis;
+            long to = filter.toMillis;
+            int cohort = filter.cohort;
+            int candidate = filter.candidate;
+            String[] uncodedIds = chunk.uncodedIds;
+
+            ScoreSketch sketch = new ScoreSketch();
+            if (candidate == CandidateDictionary.NO_CODE && uncodedIds == null) {
+                return sketch;
+            }
+            for (int row = 0; row < rows; row++) {
+                long time = times.get(row);
+                if (time < from || time >= to
+                        || (cohort >= 0 && cohorts.get(row) != cohort)
+                        || (candidate != ANY_CANDIDATE && candidates.get(row) != candidate)) {
+                    continue;
+                }
+                if (candidate == CandidateDictionary.NO_CODE && !filter.candidateId.equals(uncodedIds[row])) {
+                    continue;
+                }
+                sketch.add(values.get(row));
+            }
+            return sketch;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.scoring.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the in-process caches, bound from {@code scoring.cache.*}.
+ */
+@ConfigurationProperties(prefix = "scoring.cache")
+public class CacheProperties {
+
+    private final LatestScore latestScore = new LatestScore();
+
+    public LatestScore getLatestScore() {
+        return latestScore;
+    }
+
+    /**
+     * Settings of {@link LatestScoreCache}.
+     */
+    public static class LatestScore {
+
+        /**
+         * Maximum number of candidates kept in the cache.
+         */
+        private int maximumSize = 100_000;
+
+        /**
+         * Time after the last write after which an entry is no longer served.
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        public int getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(int maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.example.scoring.cache;
+
+import com.example.scoring.candidate.CandidateDictionary;
+import com.example.scoring.candidate.CandidateTable;
+import com.example.scoring.domain.Score;
+import com.example.scoring.dto.ScoreResponse;
+import com.example.scoring.event.PersistedScoreListener;
+import com.example.scoring.monitoring.CacheMetrics;
+import com.example.scoring.monitoring.CacheStatistics;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process cache of the latest score per candidate.
+ *
+ * Entries are keyed by the candidate's code in the shared {@link CandidateDictionary} and held
+ * in a {@link CandidateTable}, so a lookup is a lock-free dictionary probe plus an array read
+ * and never blocks. Candidates the dictionary has no room for are kept in a map by id instead;
+ * they take part in the same eviction policy and count against the same capacity, so the cache
+ * keeps adapting to the hot set once the dictionary is full. Eviction follows
+ * the W-TinyLFU scheme: new entries land in a small LRU admission window (1% of the
+ * capacity); when the window overflows, its oldest entry only replaces the least recently
+ * used entry of the main region if a {@link FrequencySketch} has seen it more often. One-off
+ * lookups therefore cannot flush the hot candidates out of the cache. Entries expire a
+ * fixed time after they were last written.
+ *
+ * The policy structures, two access-ordered lists threaded through the entries, are guarded
+ * by a single lock. Writers always take it; readers only
+ * record their access when the lock is free, so a contended hit costs no more than a map
+ * lookup at the price of slightly less accurate recency information.
+ *
+ * Every committed score is written through via {@link PersistedScoreListener}, so a read
+ * straight after a calculation is always served from memory.
+ */
+@Component
+public class LatestScoreCache implements PersistedScoreListener {
+
+    static final String CACHE_NAME = "latestScore";
+
+    private final CandidateDictionary dictionary;
+    private final CandidateTable<Node> data;
+    private final Map<String, Node> uncoded = new ConcurrentHashMap<>();
+    private final ReentrantLock policyLock = new ReentrantLock();
+    private final AccessOrder window = new AccessOrder();
+    private final AccessOrder main = new AccessOrder();
+    private final FrequencySketch sketch;
+    private final int windowMaximum;
+    private final int mainMaximum;
+    private final long ttlNanos;
+    private final CacheStatistics statistics;
+
+    public LatestScoreCache(CacheProperties properties, CacheMetrics cacheMetrics, CandidateDictionary dictionary) {
+        CacheProperties.LatestScore settings = properties.getLatestScore();
+        int maximumSize = settings.getMaximumSize();
+        if (maximumSize < 2) {
+            throw new IllegalArgumentException("Latest score cache must hold at least two entries");
+        }
+        this.dictionary = dictionary;
+        this.data = new CandidateTable<>(dictionary);
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.mainMaximum = maximumSize - windowMaximum;
+        this.ttlNanos = settings.getTtl().toNanos();
+        this.sketch = new FrequencySketch(maximumSize);
+        this.statistics = cacheMetrics.register(CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached latest score of the candidate, if present and not expired.
+     */
+    public Optional<ScoreResponse> get(String candidateId) {
+        Node node = lookup(candidateId);
+        if (node == null) {
+            statistics.recordMiss();
+            return Optional.empty();
+        }
+        if (node.isExpired(System.nanoTime())) {
+            expire(node);
+            statistics.recordMiss();
+            return Optional.empty();
+        }
+        statistics.recordHit();
+        recordAccess(node);
+        return Optional.of(node.value);
+    }
+
+    /**
+     * Stores a score unless a more recent one is already cached for the same candidate,
+     * so that a late read-through load cannot overwrite a fresher write.
+     */
+    public void put(ScoreResponse score) {
+        String candidateId = score.getCandidateId();
+        int code = dictionary.encode(candidateId);
+        if (code == CandidateDictionary.NO_CODE && candidateId == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        policyLock.lock();
+        try {
+            Node existing = code != CandidateDictionary.NO_CODE ? data.get(code) : uncoded.get(candidateId);
+            if (existing != null) {
+                if (existing.isExpired(now) || isNewer(score, existing.value)) {
+                    existing.value = score;
+                    existing.expiresAtNanos = now + ttlNanos;
+                }
+                sketch.increment(existing.sketchKey());
+                regionOf(existing).moveToLast(existing);
+                return;
+            }
+            Node node = new Node(code, code != CandidateDictionary.NO_CODE ? null : candidateId, score,
+                    now + ttlNanos);
+            sketch.increment(node.sketchKey());
+            if (code != CandidateDictionary.NO_CODE) {
+                data.putIfAbsent(code, node);
+            } else {
+                uncoded.putIfAbsent(candidateId, node);
+            }
+            window.addLast(node);
+            if (window.size() > windowMaximum) {
+                evictFromWindow();
+            }
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    @Override
+    public void onScorePersisted(Score score) {
+        put(ScoreResponse.fromEntity(score));
+    }
+
+    /**
+     * Removes the cached score of the candidate.
+     */
+    public void invalidate(String candidateId) {
+        policyLock.lock();
+        try {
+            Node node = lookup(candidateId);
+            if (node != null && unlink(node)) {
+                regionOf(node).remove(node);
+            }
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    public int size() {
+        return data.size() + uncoded.size();
+    }
+
+    public CacheStatistics statistics() {
+        return statistics;
+    }
+
+    private void recordAccess(Node node) {
+        if (!policyLock.tryLock()) {
+            return;
+        }
+        try {
+            sketch.increment(node.sketchKey());
+            // The node may have been evicted since the lookup; only linked nodes are in the table.
+            if (lookup(node) == node) {
+                regionOf(node).moveToLast(node);
+            }
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    private void expire(Node node) {
+        policyLock.lock();
+        try {
+            // A put may have refreshed the entry since the caller found it expired.
+            if (node.isExpired(System.nanoTime()) && unlink(node)) {
+                regionOf(node).remove(node);
+                statistics.recordExpiration();
+            }
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    private void evictFromWindow() {
+        Node candidate = window.removeFirst();
+
+        if (main.size() < mainMaximum) {
+            promote(candidate);
+            return;
+        }
+        Node victim = main.first();
+        if (sketch.frequency(candidate.sketchKey()) > sketch.frequency(victim.sketchKey())) {
+            main.remove(victim);
+            unlink(victim);
+            promote(candidate);
+            statistics.recordEviction();
+        } else {
+            unlink(candidate);
+            statistics.recordEviction();
+        }
+    }
+
+    /**
+     * Returns the node of the candidate, keyed by code or, for candidates without one, by id.
+     */
+    private Node lookup(String candidateId) {
+        int code = dictionary.find(candidateId);
+        if (code != CandidateDictionary.NO_CODE) {
+            return data.get(code);
+        }
+        return candidateId == null || uncoded.isEmpty() ? null : uncoded.get(candidateId);
+    }
+
+    private Node lookup(Node node) {
+        return node.code != CandidateDictionary.NO_CODE ? data.get(node.code) : uncoded.get(node.candidateId);
+    }
+
+    /**
+     * Removes the node from its table if it is still mapped there.
+     */
+    private boolean unlink(Node node) {
+        return node.code != CandidateDictionary.NO_CODE
+                ? data.remove(node.code, node)
+                : uncoded.remove(node.candidateId, node);
+    }
+
+    private void promote(Node node) {
+        node.inWindow = false;
+        main.addLast(node);
+    }
+
+    private AccessOrder regionOf(Node node) {
+        return node.inWindow ? window : main;
+    }
+
+    private static boolean isNewer(ScoreResponse candidate, ScoreResponse current) {
+        int byTime = candidate.getCalculatedAt().compareTo(current.getCalculatedAt());
+        if (byTime != 0) {
+            return byTime > 0;
+        }
+        return idOf(candidate) > idOf(current);
+    }
+
+    private static long idOf(ScoreResponse score) {
+        return score.getId() != null ? score.getId() : Long.MIN_VALUE;
+    }
+
+    private static final class Node {
+
+        private final int code;
+        /**
+         * Id of a candidate without a code, {@code null} otherwise.
+         */
+        private final String candidateId;
+        private volatile ScoreResponse value;
+        private volatile long expiresAtNanos;
+        /**
+         * Region the node currently belongs to and its neighbours there; guarded by the policy lock.
+         */
+        private boolean inWindow = true;
+        private Node previous;
+        private Node next;
+
+        private Node(int code, String candidateId, ScoreResponse value, long expiresAtNanos) {
+            this.code = code;
+            this.candidateId = candidateId;
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0L;
+        }
+
+        private int sketchKey() {
+            return candidateId == null ? code : candidateId.hashCode();
+        }
+    }
+
+    /**
+     * Doubly linked list of nodes from least to most recently used; guarded by the policy lock.
+     */
+    private static final class AccessOrder {
+
+        private final Node head = new Node(CandidateDictionary.NO_CODE, null, null, 0L);
+        private int size;
+
+        private AccessOrder() {
+            head.previous = head;
+            head.next = head;
+        }
+
+        void addLast(Node node) {
+            node.previous = head.previous;
+            node.next = head;
+            head.previous.next = node;
+            head.previous = node;
+            size++;
+        }
+
+        void remove(Node node) {
+            node.previous.next = node.next;
+            node.next.previous = node.previous;
+            node.previous = null;
+            node.next = null;
+            size--;
+        }
+
+        void moveToLast(Node node) {
+            remove(node);
+            addLast(node);
+        }
+
+        Node first() {
+            return head.next;
+        }
+
+        Node removeFirst() {
+            Node first = head.next;
+            remove(first);
+            return first;
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
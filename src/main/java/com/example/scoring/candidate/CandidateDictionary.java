@@ -0,0 +1,217 @@
+package com.example.scoring.candidate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded dictionary that interns candidate ids and assigns each one a dense {@code int} code.
+ *
+ * Codes are handed out in order starting at zero and stay valid for the lifetime of the
+ * dictionary, so structures keyed by candidate can use them as array indexes (see
+ * {@link CandidateTable}) instead of hashing and retaining their own copies of the id. Each id
+ * is stored once, and {@link #canonical(String)} returns that canonical instance for the
+ * request strings flowing through the service.
+ *
+ * Lookups are lock-free: an open-addressing table of codes is probed with volatile reads and
+ * the id is compared against the reverse table. New codes are assigned under a lock, written
+ * to the reverse table and counted in {@link #size()} first, and only then published into the
+ * probe table, so any code a lookup finds can be decoded. Once
+ * {@code maxEntries} ids have been assigned, further ids get {@link #NO_CODE} and callers keep
+ * them in a string-keyed fallback. Codes are never reclaimed, so such refusals are counted in
+ * {@link #uncoded()} to show when the dictionary is too small for the candidate population.
+ */
+public final class CandidateDictionary {
+
+    /**
+     * Code of an id that is unknown or was not assigned because the dictionary is full.
+     */
+    public static final int NO_CODE = -1;
+
+    /**
+     * Largest supported number of entries, bounded by the size of the probe table.
+     */
+    public static final int MAX_ENTRIES = 1 << 29;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CandidateDictionary.class);
+
+    private static final int PAGE_BITS = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final int INITIAL_SLOTS = 1 << 10;
+
+    private final int maxEntries;
+    private final ReentrantLock assignLock = new ReentrantLock();
+
+    private volatile Slots slots = new Slots(INITIAL_SLOTS);
+    private volatile String[][] pages = new String[0][];
+    private volatile int size;
+    private final LongAdder uncoded = new LongAdder();
+    /**
+     * Whether the full dictionary has been reported; guarded by the assign lock.
+     */
+    private boolean full;
+
+    public CandidateDictionary(int maxEntries) {
+        if (maxEntries < 1 || maxEntries > MAX_ENTRIES) {
+            throw new IllegalArgumentException("Candidate dictionary size must be between 1 and " + MAX_ENTRIES);
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the code of the id, or {@link #NO_CODE} if it has none. Never blocks; codes
+     * assigned while the lookup runs may not be seen.
+     */
+    public int find(String candidateId) {
+        if (candidateId == null) {
+            return NO_CODE;
+        }
+        Slots current = slots;
+        int hash = spread(candidateId.hashCode());
+        for (int index = hash & current.mask; ; index = (index + 1) & current.mask) {
+            int slot = current.codes.get(index);
+            if (slot == 0) {
+                return NO_CODE;
+            }
+            int code = slot - 1;
+            if (candidateId.equals(pages[code >>> PAGE_BITS][code & PAGE_MASK])) {
+                return code;
+            }
+        }
+    }
+
+    /**
+     * Returns the code of the id, assigning the next free one if the id is new, or
+     * {@link #NO_CODE} if the id is {@code null} or the dictionary is full.
+     */
+    public int encode(String candidateId) {
+        int code = find(candidateId);
+        if (code != NO_CODE || candidateId == null) {
+            return code;
+        }
+        assignLock.lock();
+        try {
+            code = find(candidateId);
+            if (code != NO_CODE) {
+                return code;
+            }
+            if (size == maxEntries) {
+                uncoded.increment();
+                if (!full) {
+                    full = true;
+                    LOGGER.warn("Candidate dictionary is full with {} ids; further candidates are kept by id",
+                            maxEntries);
+                }
+                return NO_CODE;
+            }
+            return assign(candidateId);
+        } finally {
+            assignLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the id of a code obtained from this dictionary.
+     *
+     * @throws IllegalArgumentException if the code has not been assigned
+     */
+    public String decode(int code) {
+        if (code < 0 || code >= size) {
+            throw new IllegalArgumentException("Unknown candidate code " + code);
+        }
+        return pages[code >>> PAGE_BITS][code & PAGE_MASK];
+    }
+
+    /**
+     * Returns the canonical instance of the id, or the id itself if it cannot be encoded.
+     */
+    public String intern(String candidateId) {
+        int code = encode(candidateId);
+        return code == NO_CODE ? candidateId : decode(code);
+    }
+
+    /**
+     * Returns the canonical instance of an id that already has a code, or the id itself.
+     * Unlike {@link #intern(String)}, never assigns a code.
+     */
+    public String canonical(String candidateId) {
+        int code = find(candidateId);
+        return code == NO_CODE ? candidateId : decode(code);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return maxEntries;
+    }
+
+    /**
+     * Number of times an id could not be encoded because the dictionary was full.
+     */
+    public long uncoded() {
+        return uncoded.sum();
+    }
+
+    /**
+     * Stores the id under the next code; called with the assign lock held.
+     */
+    private int assign(String candidateId) {
+        int code = size;
+        int page = code >>> PAGE_BITS;
+        String[][] currentPages = pages;
+        if (page == currentPages.length) {
+            currentPages = Arrays.copyOf(currentPages, page + 1);
+            currentPages[page] = new String[PAGE_SIZE];
+        }
+        currentPages[page][code & PAGE_MASK] = candidateId;
+        pages = currentPages;
+        size = code + 1;
+
+        Slots current = slots;
+        if ((code + 1) * 4L > current.codes.length() * 3L) {
+            Slots grown = new Slots(current.codes.length() * 2);
+            for (int existing = 0; existing < code; existing++) {
+                grown.insert(spread(currentPages[existing >>> PAGE_BITS][existing & PAGE_MASK].hashCode()), existing);
+            }
+            grown.insert(spread(candidateId.hashCode()), code);
+            slots = grown;
+        } else {
+            current.insert(spread(candidateId.hashCode()), code);
+        }
+        return code;
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9e3779b9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Probe table holding {@code code + 1} per used slot, so that zero marks a free one.
+     */
+    private static final class Slots {
+
+        private final AtomicIntegerArray codes;
+        private final int mask;
+
+        private Slots(int length) {
+            this.codes = new AtomicIntegerArray(length);
+            this.mask = length - 1;
+        }
+
+        private void insert(int hash, int code) {
+            int index = hash & mask;
+            while (codes.get(index) != 0) {
+                index = (index + 1) & mask;
+            }
+            codes.set(index, code + 1);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.scoring.candidate;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Declares the candidate dictionary shared by the in-process structures keyed by candidate.
+ */
+@Configuration
+@EnableConfigurationProperties(CandidateDictionaryProperties.class)
+public class CandidateDictionaryConfiguration {
+
+    @Bean
+    public CandidateDictionary candidateDictionary(CandidateDictionaryProperties properties) {
+        return new CandidateDictionary(properties.getMaxEntries());
+    }
+}
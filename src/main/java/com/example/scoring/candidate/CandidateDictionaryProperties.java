@@ -0,0 +1,25 @@
+package com.example.scoring.candidate;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the shared candidate dictionary, bound from {@code scoring.candidates.*}.
+ */
+@ConfigurationProperties(prefix = "scoring.candidates")
+public class CandidateDictionaryProperties {
+
+    /**
+     * Maximum number of candidate ids that are assigned a code. Codes are never reclaimed;
+     * candidates beyond that are kept by id in slower string-keyed fallbacks and counted in
+     * {@code scoring_candidate_dictionary_uncoded_total}.
+     */
+    private int maxEntries = 1_000_000;
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+}
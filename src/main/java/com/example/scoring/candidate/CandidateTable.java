@@ -0,0 +1,133 @@
+package com.example.scoring.candidate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+/**
+ * Concurrent map from {@link CandidateDictionary} codes to values, laid out as an array.
+ *
+ * Since codes are dense, a value lives at the index of its code: lookups are a volatile array
+ * read without hashing, boxing or per-entry nodes, and updates are single compare-and-set
+ * operations. The array is split into pages of {@value #PAGE_SIZE} slots that are allocated
+ * the first time one of their codes is written, so memory follows the codes actually in use up
+ * to the capacity of the dictionary.
+ *
+ * @param <V> type of the values
+ */
+public final class CandidateTable<V> {
+
+    private static final int PAGE_BITS = 10;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private final AtomicReferenceArray<AtomicReferenceArray<V>> pages;
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Creates a table for all codes the dictionary can assign.
+     */
+    public CandidateTable(CandidateDictionary dictionary) {
+        this.pages = new AtomicReferenceArray<>((dictionary.capacity() - 1) / PAGE_SIZE + 1);
+    }
+
+    /**
+     * Returns the value of the code, or {@code null}.
+     */
+    public V get(int code) {
+        AtomicReferenceArray<V> page = pages.get(code >>> PAGE_BITS);
+        return page == null ? null : page.get(code & PAGE_MASK);
+    }
+
+    /**
+     * Stores the value unless the code already has one, and returns the previous value.
+     */
+    public V putIfAbsent(int code, V value) {
+        AtomicReferenceArray<V> page = page(code);
+        int index = code & PAGE_MASK;
+        while (true) {
+            V existing = page.get(index);
+            if (existing != null) {
+                return existing;
+            }
+            if (page.compareAndSet(index, null, value)) {
+                size.incrementAndGet();
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Returns the value of the code, creating it if absent. Racing callers may each create a
+     * value, but only one of them is stored and returned to all.
+     */
+    public V computeIfAbsent(int code, IntFunction<? extends V> factory) {
+        V existing = get(code);
+        if (existing != null) {
+            return existing;
+        }
+        V created = factory.apply(code);
+        existing = putIfAbsent(code, created);
+        return existing != null ? existing : created;
+    }
+
+    /**
+     * Replaces the value of the code if it is currently {@code expected}.
+     */
+    public boolean replace(int code, V expected, V value) {
+        AtomicReferenceArray<V> page = pages.get(code >>> PAGE_BITS);
+        return page != null && page.compareAndSet(code & PAGE_MASK, expected, value);
+    }
+
+    /**
+     * Removes the value of the code if it is currently {@code expected}.
+     */
+    public boolean remove(int code, V expected) {
+        if (replace(code, expected, null)) {
+            size.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Calls the visitor with every code that currently has a value, in ascending order.
+     */
+    public void forEach(Visitor<? super V> visitor) {
+        for (int pageIndex = 0; pageIndex < pages.length(); pageIndex++) {
+            AtomicReferenceArray<V> page = pages.get(pageIndex);
+            if (page == null) {
+                continue;
+            }
+            for (int index = 0; index < PAGE_SIZE; index++) {
+                V value = page.get(index);
+                if (value != null) {
+                    visitor.visit((pageIndex << PAGE_BITS) | index, value);
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    private AtomicReferenceArray<V> page(int code) {
+        int pageIndex = code >>> PAGE_BITS;
+        AtomicReferenceArray<V> page = pages.get(pageIndex);
+        if (page == null) {
+            pages.compareAndSet(pageIndex, null, new AtomicReferenceArray<>(PAGE_SIZE));
+            page = pages.get(pageIndex);
+        }
+        return page;
+    }
+
+    /**
+     * Callback of {@link #forEach(Visitor)}.
+     */
+    @FunctionalInterface
+    public interface Visitor<V> {
+
+        void visit(int code, V value);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.scoring.codec;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Puts {@link ScoreJsonHttpMessageConverter} ahead of Jackson, so that it handles
+ * {@code ScoreRequest} bodies and {@code Score} results while every other type keeps using
+ * Jackson. Set {@code scoring.codec.enabled=false} to fall back to Jackson entirely.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "scoring.codec", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ScoreJsonCodecConfiguration implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new ScoreJsonHttpMessageConverter());
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.scoring.codec;
+
+import com.example.scoring.domain.Score;
+import com.example.scoring.dto.ScoreRequest;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Message converter for the hot scoring endpoints: reads {@link ScoreRequest} bodies with
+ * {@link ScoreRequestJsonReader} and writes {@link Score} results with {@link ScoreJsonWriter},
+ * bypassing Jackson's reflective binding and the intermediate
+ * {@link com.example.scoring.dto.ScoreResponse}.
+ *
+ * Request bytes, the reader and the writer are borrowed from a small bounded pool and returned
+ * after each message, so that a request allocates little beyond the objects it produces whether
+ * it runs on a platform or a virtual thread. When the pool is empty a fresh set is created, and
+ * sets returned to a full pool are dropped. Bodies of {@value #MAX_REQUEST_BYTES} bytes or more
+ * are rejected; buffers grown past {@value #RETAINED_INPUT_BYTES} bytes are not kept.
+ */
+public class ScoreJsonHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    static final int MAX_REQUEST_BYTES = 1024 * 1024;
+
+    private static final int RETAINED_INPUT_BYTES = 64 * 1024;
+
+    private static final int INITIAL_INPUT_BYTES = 4096;
+
+    private final BlockingQueue<Codec> pool =
+            new ArrayBlockingQueue<>(Math.max(2, Runtime.getRuntime().availableProcessors()));
+
+    public ScoreJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == ScoreRequest.class || clazz == Score.class;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return clazz == ScoreRequest.class && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return clazz == Score.class && canWrite(mediaType);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        Codec codec = borrow();
+        try {
+            return read(codec, inputMessage);
+        } finally {
+            pool.offer(codec);
+        }
+    }
+
+    private Object read(Codec codec, HttpInputMessage inputMessage) throws IOException {
+        byte[] buffer = codec.input;
+        int length = 0;
+        try (InputStream body = inputMessage.getBody()) {
+            int read;
+            while ((read = body.read(buffer, length, buffer.length - length)) != -1) {
+                length += read;
+                if (length == buffer.length) {
+                    if (length >= MAX_REQUEST_BYTES) {
+                        throw new HttpMessageNotReadableException(
+                                "Request body exceeds " + MAX_REQUEST_BYTES + " bytes", inputMessage);
+                    }
+                    buffer = Arrays.copyOf(buffer, Math.min(length * 2, MAX_REQUEST_BYTES));
+                    if (buffer.length <= RETAINED_INPUT_BYTES) {
+                        codec.input = buffer;
+                    }
+                }
+            }
+        }
+        try {
+            return codec.reader.read(buffer, length);
+        } catch (IllegalArgumentException ex) {
+            throw new HttpMessageNotReadableException("Malformed score request: " + ex.getMessage(), ex, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object object, HttpOutputMessage outputMessage) throws IOException {
+        Codec codec = borrow();
+        try {
+            ScoreJsonWriter writer = codec.writer.writeScore((Score) object);
+            outputMessage.getHeaders().setContentLength(writer.size());
+            writer.writeTo(outputMessage.getBody());
+        } finally {
+            pool.offer(codec);
+        }
+    }
+
+    private Codec borrow() {
+        Codec codec = pool.poll();
+        return codec != null ? codec : new Codec();
+    }
+
+    /** Reusable state for one message at a time; owned by whoever borrowed it from the pool. */
+    private static final class Codec {
+
+        private byte[] input = new byte[INITIAL_INPUT_BYTES];
+        private final ScoreRequestJsonReader reader = new ScoreRequestJsonReader();
+        private final ScoreJsonWriter writer = new ScoreJsonWriter();
+    }
+}
@@ -0,0 +1,291 @@
+package com.example.scoring.codec;
+
+import com.example.scoring.domain.Score;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+/**
+ * Writes a {@link Score} as the JSON document of a
+ * {@link com.example.scoring.dto.ScoreResponse}, straight from the entity and into a reusable
+ * byte buffer.
+ *
+ * The output is byte-for-byte what the application's Jackson configuration produces for the
+ * response DTO: properties in declaration order, nulls included, ISO-8601 local date-times
+ * with the fraction trimmed to its significant digits, and doubles in
+ * {@link Double#toString(double)} form. Dates, integers and scores with up to six decimals are
+ * formatted digit by digit; other doubles fall back to {@link Double#toString(double)}.
+ *
+ * Instances are not thread-safe; {@link ScoreJsonHttpMessageConverter} pools them and
+ * lends each to one message at a time.
+ */
+public final class ScoreJsonWriter {
+
+    private static final byte[] ID = ascii("{\"id\":");
+    private static final byte[] CANDIDATE_ID = ascii(",\"candidateId\":");
+    private static final byte[] ASSESSMENT_ID = ascii(",\"assessmentId\":");
+    private static final byte[] SCORE_VALUE = ascii(",\"scoreValue\":");
+    private static final byte[] TOTAL_QUESTIONS = ascii(",\"totalQuestions\":");
+    private static final byte[] CORRECT_ANSWERS = ascii(",\"correctAnswers\":");
+    private static final byte[] CALCULATED_AT = ascii(",\"calculatedAt\":");
+    private static final byte[] ASYNC_CALCULATION = ascii(",\"asyncCalculation\":");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+    private static final byte[] HEX = ascii("0123456789ABCDEF");
+
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L};
+
+    /**
+     * Buffers grown beyond this size while writing an unusually large value are not kept.
+     */
+    private static final int RETAINED_CAPACITY = 16 * 1024;
+
+    private byte[] buf = new byte[512];
+    private int size;
+
+    /**
+     * Replaces the buffer contents with the JSON form of the given score.
+     */
+    public ScoreJsonWriter writeScore(Score score) {
+        if (buf.length > RETAINED_CAPACITY) {
+            buf = new byte[512];
+        }
+        size = 0;
+        write(ID);
+        if (score.getId() == null) {
+            write(NULL);
+        } else {
+            writeLong(score.getId());
+        }
+        write(CANDIDATE_ID);
+        writeString(score.getCandidateId());
+        write(ASSESSMENT_ID);
+        writeString(score.getAssessmentId());
+        write(SCORE_VALUE);
+        writeDouble(score.getScoreValue());
+        write(TOTAL_QUESTIONS);
+        writeLong(score.getTotalQuestions());
+        write(CORRECT_ANSWERS);
+        writeLong(score.getCorrectAnswers());
+        write(CALCULATED_AT);
+        writeDateTime(score.getCalculatedAt());
+        write(ASYNC_CALCULATION);
+        write(score.isAsyncCalculation() ? TRUE : FALSE);
+        writeByte('}');
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buf, 0, size);
+    }
+
+    /**
+     * Copy of the buffer contents, for tests and diagnostics.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, size);
+    }
+
+    private void writeString(String value) {
+        if (value == null) {
+            write(NULL);
+            return;
+        }
+        ensureCapacity(value.length() * 6 + 2);
+        buf[size++] = '"';
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c == '"' || c == '\\') {
+                    buf[size++] = '\\';
+                    buf[size++] = (byte) c;
+                } else if (c < 0x20) {
+                    writeControlCharacter(c);
+                } else {
+                    buf[size++] = (byte) c;
+                }
+            } else if (c < 0x800) {
+                buf[size++] = (byte) (0xC0 | (c >> 6));
+                buf[size++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buf[size++] = (byte) (0xF0 | (codePoint >> 18));
+                buf[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buf[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buf[size++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogate: emitted as an escape, like Jackson does.
+                writeUnicodeEscape(c);
+            } else {
+                buf[size++] = (byte) (0xE0 | (c >> 12));
+                buf[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[size++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        buf[size++] = '"';
+    }
+
+    private void writeControlCharacter(char c) {
+        switch (c) {
+            case '\b' -> writeEscaped('b');
+            case '\f' -> writeEscaped('f');
+            case '\n' -> writeEscaped('n');
+            case '\r' -> writeEscaped('r');
+            case '\t' -> writeEscaped('t');
+            default -> writeUnicodeEscape(c);
+        }
+    }
+
+    private void writeEscaped(char c) {
+        buf[size++] = '\\';
+        buf[size++] = (byte) c;
+    }
+
+    private void writeUnicodeEscape(char c) {
+        buf[size++] = '\\';
+        buf[size++] = 'u';
+        buf[size++] = HEX[(c >> 12) & 0xF];
+        buf[size++] = HEX[(c >> 8) & 0xF];
+        buf[size++] = HEX[(c >> 4) & 0xF];
+        buf[size++] = HEX[c & 0xF];
+    }
+
+    /**
+     * Writes {@code value} as {@link Double#toString(double)} would. Values in the plain-notation
+     * range whose shortest round-tripping decimal has at most six fraction digits are written
+     * directly; everything else goes through {@code Double.toString}.
+     */
+    private void writeDouble(double value) {
+        double magnitude = Math.abs(value);
+        if (magnitude >= 1e-3 && magnitude < 1e7) {
+            for (int decimals = 0; decimals < POWERS_OF_TEN.length; decimals++) {
+                long scaled = Math.round(magnitude * POWERS_OF_TEN[decimals]);
+                if ((double) scaled / POWERS_OF_TEN[decimals] == magnitude) {
+                    if (value < 0) {
+                        writeByte('-');
+                    }
+                    writeLong(scaled / POWERS_OF_TEN[decimals]);
+                    writeByte('.');
+                    if (decimals == 0) {
+                        writeByte('0');
+                    } else {
+                        writeFraction(scaled % POWERS_OF_TEN[decimals], decimals);
+                    }
+                    return;
+                }
+            }
+        }
+        String text = Double.toString(value);
+        ensureCapacity(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            buf[size++] = (byte) text.charAt(i);
+        }
+    }
+
+    private void writeFraction(long fraction, int digits) {
+        ensureCapacity(digits);
+        for (int i = digits - 1; i >= 0; i--) {
+            buf[size + i] = (byte) ('0' + fraction % 10);
+            fraction /= 10;
+        }
+        size += digits;
+    }
+
+    /**
+     * Writes the value in {@code DateTimeFormatter.ISO_LOCAL_DATE_TIME} form, for years 0 to 9999.
+     */
+    private void writeDateTime(LocalDateTime value) {
+        if (value == null) {
+            write(NULL);
+            return;
+        }
+        if (value.getYear() < 0 || value.getYear() > 9999) {
+            writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+            return;
+        }
+        ensureCapacity(31);
+        buf[size++] = '"';
+        writeDigits(value.getYear(), 4);
+        buf[size++] = '-';
+        writeDigits(value.getMonthValue(), 2);
+        buf[size++] = '-';
+        writeDigits(value.getDayOfMonth(), 2);
+        buf[size++] = 'T';
+        writeDigits(value.getHour(), 2);
+        buf[size++] = ':';
+        writeDigits(value.getMinute(), 2);
+        buf[size++] = ':';
+        writeDigits(value.getSecond(), 2);
+        int nanos = value.getNano();
+        if (nanos != 0) {
+            int digits = 9;
+            while (nanos % 10 == 0) {
+                nanos /= 10;
+                digits--;
+            }
+            buf[size++] = '.';
+            writeDigits(nanos, digits);
+        }
+        buf[size++] = '"';
+    }
+
+    private void writeDigits(int value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            buf[size + i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        size += digits;
+    }
+
+    private void writeLong(long value) {
+        ensureCapacity(20);
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) {
+                write(ascii(Long.toString(value)));
+                return;
+            }
+            buf[size++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest != 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = digits - 1; i >= 0; i--) {
+            buf[size + i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        size += digits;
+    }
+
+    private void write(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buf, size, bytes.length);
+        size += bytes.length;
+    }
+
+    private void writeByte(char c) {
+        ensureCapacity(1);
+        buf[size++] = (byte) c;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (size + additional > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + additional));
+        }
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,484 @@
+package com.example.scoring.codec;
+
+import com.example.scoring.dto.ScoreRequest;
+import com.example.scoring.dto.SectionAnswers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Hand-written parser that binds a UTF-8 JSON document straight into a {@link ScoreRequest}.
+ *
+ * Property names are matched against pre-encoded byte arrays without decoding them, numbers
+ * are parsed in place and answer vectors are collected in a reusable scratch array, so the
+ * only allocations are the request itself and its field values.
+ *
+ * Every document it accepts binds as it would with the application's Jackson defaults:
+ * unknown properties are skipped, {@code null} leaves a field unset and integer fields may be
+ * quoted. It is stricter than Jackson in a few places, where it rejects input that Jackson
+ * would coerce: decimal numbers for integer fields (Jackson truncates them), quoted elements
+ * of {@code answers}, and content after the request object. Unquoted integers with leading
+ * zeros are rejected, as Jackson does.
+ *
+ * Instances are not thread-safe; {@link ScoreJsonHttpMessageConverter} pools them and
+ * lends each to one message at a time.
+ */
+public final class ScoreRequestJsonReader {
+
+    private static final byte[] CANDIDATE_ID = ascii("candidateId");
+    private static final byte[] ASSESSMENT_ID = ascii("assessmentId");
+    private static final byte[] TOTAL_QUESTIONS = ascii("totalQuestions");
+    private static final byte[] CORRECT_ANSWERS = ascii("correctAnswers");
+    private static final byte[] INCORRECT_ANSWERS = ascii("incorrectAnswers");
+    private static final byte[] SECTIONS = ascii("sections");
+    private static final byte[] ANSWERS = ascii("answers");
+    private static final byte[] IDEMPOTENCY_KEY = ascii("idempotencyKey");
+    private static final byte[] SECTION_ID = ascii("sectionId");
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+    private static final byte[] NULL = ascii("null");
+
+    private static final int MAX_NESTING = 64;
+
+    private int[] answerScratch = new int[256];
+    private byte[] buf;
+    private int pos;
+    private int end;
+    private int keyStart;
+    private int keyEnd;
+    private String escapedKey;
+
+    /**
+     * Parses the first {@code length} bytes of {@code buffer}.
+     *
+     * @throws IllegalArgumentException if the input is not a well-formed score request
+     */
+    public ScoreRequest read(byte[] buffer, int length) {
+        return read(buffer, 0, length);
+    }
+
+    /**
+     * Parses {@code length} bytes of {@code buffer} starting at {@code offset}.
+     *
+     * @throws IllegalArgumentException if the input is not a well-formed score request
+     */
+    public ScoreRequest read(byte[] buffer, int offset, int length) {
+        this.buf = buffer;
+        this.pos = offset;
+        this.end = offset + length;
+        try {
+            ScoreRequest request = readRequest();
+            skipWhitespace();
+            if (pos != end) {
+                throw error("Unexpected content after the request object");
+            }
+            return request;
+        } finally {
+            this.buf = null;
+            this.escapedKey = null;
+        }
+    }
+
+    private ScoreRequest readRequest() {
+        ScoreRequest request = new ScoreRequest();
+        expect('{');
+        if (consume('}')) {
+            return request;
+        }
+        do {
+            readKey();
+            if (keyIs(CANDIDATE_ID)) {
+                request.setCandidateId(readString());
+            } else if (keyIs(ASSESSMENT_ID)) {
+                request.setAssessmentId(readString());
+            } else if (keyIs(TOTAL_QUESTIONS)) {
+                request.setTotalQuestions(readInteger());
+            } else if (keyIs(CORRECT_ANSWERS)) {
+                request.setCorrectAnswers(readInteger());
+            } else if (keyIs(INCORRECT_ANSWERS)) {
+                request.setIncorrectAnswers(readInteger());
+            } else if (keyIs(SECTIONS)) {
+                request.setSections(readSections());
+            } else if (keyIs(ANSWERS)) {
+                request.setAnswers(readIntArray());
+            } else if (keyIs(IDEMPOTENCY_KEY)) {
+                request.setIdempotencyKey(readString());
+            } else {
+                skipValue(0);
+            }
+        } while (consume(','));
+        expect('}');
+        return request;
+    }
+
+    private List<SectionAnswers> readSections() {
+        if (consumeNull()) {
+            return null;
+        }
+        List<SectionAnswers> sections = new ArrayList<>();
+        expect('[');
+        if (consume(']')) {
+            return sections;
+        }
+        do {
+            sections.add(readSection());
+        } while (consume(','));
+        expect(']');
+        return sections;
+    }
+
+    private SectionAnswers readSection() {
+        if (consumeNull()) {
+            return null;
+        }
+        SectionAnswers section = new SectionAnswers();
+        expect('{');
+        if (consume('}')) {
+            return section;
+        }
+        do {
+            readKey();
+            if (keyIs(SECTION_ID)) {
+                section.setSectionId(readString());
+            } else if (keyIs(TOTAL_QUESTIONS)) {
+                section.setTotalQuestions(readInteger());
+            } else if (keyIs(CORRECT_ANSWERS)) {
+                section.setCorrectAnswers(readInteger());
+            } else if (keyIs(INCORRECT_ANSWERS)) {
+                section.setIncorrectAnswers(readInteger());
+            } else {
+                skipValue(0);
+            }
+        } while (consume(','));
+        expect('}');
+        return section;
+    }
+
+    private int[] readIntArray() {
+        if (consumeNull()) {
+            return null;
+        }
+        expect('[');
+        if (consume(']')) {
+            return new int[0];
+        }
+        int count = 0;
+        do {
+            if (count == answerScratch.length) {
+                answerScratch = Arrays.copyOf(answerScratch, count * 2);
+            }
+            skipWhitespace();
+            answerScratch[count++] = readIntValue(false);
+        } while (consume(','));
+        expect(']');
+        return Arrays.copyOf(answerScratch, count);
+    }
+
+    private Integer readInteger() {
+        if (consumeNull()) {
+            return null;
+        }
+        skipWhitespace();
+        if (pos < end && buf[pos] == '"') {
+            pos++;
+            int value = readIntValue(true);
+            if (pos >= end || buf[pos] != '"') {
+                throw error("Expected a quoted integer");
+            }
+            pos++;
+            return value;
+        }
+        return readIntValue(false);
+    }
+
+    /**
+     * Reads an integer. Leading zeros are only allowed inside quotes, where Jackson parses the
+     * string leniently.
+     */
+    private int readIntValue(boolean quoted) {
+        boolean negative = pos < end && buf[pos] == '-';
+        if (negative) {
+            pos++;
+        }
+        int start = pos;
+        long value = 0L;
+        while (pos < end && buf[pos] >= '0' && buf[pos] <= '9') {
+            value = value * 10 + (buf[pos++] - '0');
+            if (value > Integer.MAX_VALUE + 1L) {
+                throw error("Integer out of range");
+            }
+        }
+        if (pos == start) {
+            throw error("Expected an integer");
+        }
+        if (!quoted && pos - start > 1 && buf[start] == '0') {
+            throw error("Leading zeros are not allowed");
+        }
+        if (pos < end && (buf[pos] == '.' || buf[pos] == 'e' || buf[pos] == 'E')) {
+            throw error("Expected an integer but found a decimal number");
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw error("Integer out of range");
+        }
+        return (int) value;
+    }
+
+    private String readString() {
+        if (consumeNull()) {
+            return null;
+        }
+        skipWhitespace();
+        if (pos >= end || buf[pos] != '"') {
+            throw error("Expected a string");
+        }
+        int start = ++pos;
+        boolean ascii = true;
+        while (pos < end) {
+            byte b = buf[pos];
+            if (b == '"') {
+                pos++;
+                return new String(buf, start, pos - 1 - start,
+                        ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+            }
+            if (b == '\\') {
+                pos = start;
+                return readEscapedString();
+            }
+            if (b >= 0 && b < 0x20) {
+                throw error("Unescaped control character in string");
+            }
+            ascii &= b >= 0;
+            pos++;
+        }
+        throw error("Unterminated string");
+    }
+
+    /**
+     * Slow path for strings containing escape sequences; {@link #pos} is just after the opening quote.
+     */
+    private String readEscapedString() {
+        StringBuilder decoded = new StringBuilder();
+        int runStart = pos;
+        while (pos < end) {
+            byte b = buf[pos];
+            if (b == '"' || b == '\\') {
+                decoded.append(new String(buf, runStart, pos - runStart, StandardCharsets.UTF_8));
+                pos++;
+                if (b == '"') {
+                    return decoded.toString();
+                }
+                decoded.append(readEscape());
+                runStart = pos;
+            } else if (b >= 0 && b < 0x20) {
+                throw error("Unescaped control character in string");
+            } else {
+                pos++;
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    private char readEscape() {
+        if (pos >= end) {
+            throw error("Unterminated escape sequence");
+        }
+        byte b = buf[pos++];
+        switch (b) {
+            case '"':
+                return '"';
+            case '\\':
+                return '\\';
+            case '/':
+                return '/';
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                if (pos + 4 > end) {
+                    throw error("Truncated unicode escape");
+                }
+                int code = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(buf[pos++], 16);
+                    if (digit < 0) {
+                        throw error("Invalid unicode escape");
+                    }
+                    code = (code << 4) | digit;
+                }
+                return (char) code;
+            default:
+                throw error("Invalid escape sequence");
+        }
+    }
+
+    /**
+     * Reads a property name and the following colon, leaving the name's bounds in
+     * {@link #keyStart} and {@link #keyEnd} (or the decoded name in {@link #escapedKey}).
+     */
+    private void readKey() {
+        skipWhitespace();
+        if (pos >= end || buf[pos] != '"') {
+            throw error("Expected a property name");
+        }
+        escapedKey = null;
+        keyStart = ++pos;
+        while (pos < end && buf[pos] != '"') {
+            if (buf[pos] == '\\') {
+                pos = keyStart;
+                escapedKey = readEscapedString();
+                break;
+            }
+            pos++;
+        }
+        if (escapedKey == null) {
+            if (pos >= end) {
+                throw error("Unterminated property name");
+            }
+            keyEnd = pos++;
+        }
+        expect(':');
+    }
+
+    private boolean keyIs(byte[] name) {
+        if (escapedKey != null) {
+            return escapedKey.equals(new String(name, StandardCharsets.ISO_8859_1));
+        }
+        return Arrays.equals(buf, keyStart, keyEnd, name, 0, name.length);
+    }
+
+    private void skipValue(int depth) {
+        if (depth > MAX_NESTING) {
+            throw error("Nesting too deep");
+        }
+        skipWhitespace();
+        if (pos >= end) {
+            throw error("Unexpected end of input");
+        }
+        byte b = buf[pos];
+        if (b == '"') {
+            readString();
+        } else if (b == '{' || b == '[') {
+            char close = b == '{' ? '}' : ']';
+            pos++;
+            if (consume(close)) {
+                return;
+            }
+            do {
+                if (close == '}') {
+                    readKey();
+                }
+                skipValue(depth + 1);
+            } while (consume(','));
+            expect(close);
+        } else if (b == 't') {
+            skipLiteral(TRUE);
+        } else if (b == 'f') {
+            skipLiteral(FALSE);
+        } else if (b == 'n') {
+            skipLiteral(NULL);
+        } else if (b == '-' || isDigit(b)) {
+            skipNumber();
+        } else {
+            throw error("Unexpected character '" + (char) b + "'");
+        }
+    }
+
+    private void skipLiteral(byte[] literal) {
+        if (pos + literal.length > end || !Arrays.equals(buf, pos, pos + literal.length, literal, 0, literal.length)) {
+            throw error("Invalid literal");
+        }
+        pos += literal.length;
+    }
+
+    /**
+     * Skips a number of the JSON grammar: an optional minus, an integer part without leading
+     * zeros, an optional fraction and an optional exponent.
+     */
+    private void skipNumber() {
+        if (buf[pos] == '-') {
+            pos++;
+        }
+        if (pos < end && buf[pos] == '0') {
+            pos++;
+        } else {
+            skipDigits();
+        }
+        if (pos < end && buf[pos] == '.') {
+            pos++;
+            skipDigits();
+        }
+        if (pos < end && (buf[pos] == 'e' || buf[pos] == 'E')) {
+            pos++;
+            if (pos < end && (buf[pos] == '+' || buf[pos] == '-')) {
+                pos++;
+            }
+            skipDigits();
+        }
+    }
+
+    private void skipDigits() {
+        int start = pos;
+        while (pos < end && isDigit(buf[pos])) {
+            pos++;
+        }
+        if (pos == start) {
+            throw error("Invalid number");
+        }
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private boolean consumeNull() {
+        skipWhitespace();
+        if (pos + 4 <= end && buf[pos] == 'n' && buf[pos + 1] == 'u' && buf[pos + 2] == 'l' && buf[pos + 3] == 'l') {
+            pos += 4;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean consume(char c) {
+        skipWhitespace();
+        if (pos < end && buf[pos] == c) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char c) {
+        if (!consume(c)) {
+            throw error("Expected '" + c + "'");
+        }
+    }
+
+    private void skipWhitespace() {
+        while (pos < end) {
+            byte b = buf[pos];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at offset " + pos);
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.scoring.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the bulk scoring pipeline, bound from {@code scoring.batch.*}.
+ */
+@ConfigurationProperties(prefix = "scoring.batch")
+public class BatchProperties {
+
+    /**
+     * Number of requests read, scored and persisted together. Bounds the memory used per batch call.
+     */
+    private int chunkSize = 500;
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.scoring.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of threads that are inside the database write path at the same time.
+ *
+ * With virtual threads the number of concurrent callers is effectively unbounded, and
+ * threads waiting inside the connection pool or the JDBC driver can end up parked while
+ * holding monitors, pinning their carrier threads. Waiting here instead, on a
+ * {@link Semaphore} sized to the connection pool and acquired before the transaction
+ * starts, keeps that wait in {@code java.util.concurrent} code that unmounts cleanly.
+ */
+@Component
+public class DatabaseBulkhead {
+
+    private final Semaphore permits;
+
+    public DatabaseBulkhead(ScoringExecutorProperties properties,
+                            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        int configured = properties.getDatabasePermits();
+        this.permits = new Semaphore(configured > 0 ? configured : connectionPoolSize, true);
+    }
+
+    /**
+     * Runs the given database operation once a permit is available.
+     */
+    public <T> T call(Supplier<T> operation) {
+        permits.acquireUninterruptibly();
+        try {
+            return operation.get();
+        } finally {
+            permits.release();
+        }
+    }
+}
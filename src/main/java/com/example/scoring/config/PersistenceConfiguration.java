@@ -0,0 +1,13 @@
+package com.example.scoring.config;
+
+import com.example.scoring.store.ScoreStoreProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Central configuration for score persistence settings.
+ */
+@Configuration
+@EnableConfigurationProperties({WriteBehindProperties.class, BatchProperties.class, ScoreStoreProperties.class})
+public class PersistenceConfiguration {
+}
@@ -0,0 +1,81 @@
+package com.example.scoring.config;
+
+import com.example.scoring.monitoring.LatencyMetrics;
+import com.example.scoring.monitoring.QueueTimingTaskDecorator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Defines the dedicated executor for asynchronous score calculations.
+ *
+ * Unlike Spring's default executor it has a bounded queue, so that a saturated service
+ * pushes back on callers instead of buffering work until memory runs out, and it records
+ * queue-wait, execution and total time for every task while carrying the request's
+ * correlation id over to the worker thread.
+ *
+ * With {@code scoring.executor.mode=virtual} both the executor and Tomcat's request
+ * handling run on virtual threads. Virtual threads are not pooled: every task gets a new
+ * one, and at most {@code virtual-max-concurrency} tasks run at a time. A submission
+ * beyond that limit waits on the (virtual) request thread until a task finishes instead
+ * of being queued or rejected, so backpressure reaches callers as latency rather than 503s.
+ */
+@Configuration
+@EnableConfigurationProperties(ScoringExecutorProperties.class)
+public class ScoringExecutorConfiguration {
+
+    public static final String SCORING_EXECUTOR = "scoringExecutor";
+
+    @Bean(name = SCORING_EXECUTOR)
+    public AsyncTaskExecutor scoringExecutor(ScoringExecutorProperties properties, LatencyMetrics latencyMetrics) {
+        QueueTimingTaskDecorator taskDecorator = new QueueTimingTaskDecorator(latencyMetrics, SCORING_EXECUTOR);
+        if (properties.getMode() == ScoringExecutorProperties.ThreadMode.VIRTUAL) {
+            return virtualThreadExecutor(properties, taskDecorator);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("scoring-");
+        executor.setCorePoolSize(properties.getCorePoolSize());
+        executor.setMaxPoolSize(properties.getMaxPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setKeepAliveSeconds((int) properties.getKeepAlive().toSeconds());
+        executor.setRejectedExecutionHandler(
+                properties.getRejectionPolicy() == ScoringExecutorProperties.RejectionPolicy.CALLER_RUNS
+                        ? new ThreadPoolExecutor.CallerRunsPolicy()
+                        : new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(taskDecorator);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationMillis(properties.getShutdownTimeout().toMillis());
+        return executor;
+    }
+
+    /**
+     * Starts a new virtual thread per task, throttled to {@code virtual-max-concurrency}
+     * running tasks. The queue settings of the platform pool do not apply.
+     */
+    private static SimpleAsyncTaskExecutor virtualThreadExecutor(ScoringExecutorProperties properties,
+                                                                 QueueTimingTaskDecorator taskDecorator) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("scoring-vt-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(properties.getVirtualMaxConcurrency());
+        executor.setTaskDecorator(taskDecorator);
+        executor.setTaskTerminationTimeout(properties.getShutdownTimeout().toMillis());
+        return executor;
+    }
+
+    /**
+     * Serves HTTP requests on virtual threads instead of Tomcat's platform thread pool.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "scoring.executor", name = "mode", havingValue = "virtual")
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(new VirtualThreadTaskExecutor("tomcat-vt-"));
+    }
+}
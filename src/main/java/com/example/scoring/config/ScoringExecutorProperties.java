@@ -0,0 +1,151 @@
+package com.example.scoring.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the executor running asynchronous score calculations, bound from
+ * {@code scoring.executor.*}.
+ */
+@ConfigurationProperties(prefix = "scoring.executor")
+public class ScoringExecutorProperties {
+
+    /**
+     * What happens to a task submitted while all threads are busy and the queue is full.
+     */
+    public enum RejectionPolicy {
+        /**
+         * Reject the task; the async endpoint answers 503 with a Retry-After header.
+         */
+        ABORT,
+        /**
+         * Run the task on the submitting (request) thread, slowing the caller down.
+         */
+        CALLER_RUNS
+    }
+
+    /**
+     * Kind of threads used for request handling and asynchronous scoring.
+     */
+    public enum ThreadMode {
+        PLATFORM,
+        /**
+         * Virtual threads (requires a Java 21 runtime).
+         */
+        VIRTUAL
+    }
+
+    private ThreadMode mode = ThreadMode.PLATFORM;
+
+    /**
+     * Maximum number of concurrently running async calculations in {@link ThreadMode#VIRTUAL} mode.
+     */
+    private int virtualMaxConcurrency = 1000;
+
+    /**
+     * Maximum number of threads concurrently inside the database write path. Zero uses the
+     * connection pool size, so that excess threads wait outside the pool and driver code.
+     */
+    private int databasePermits = 0;
+
+    private int corePoolSize = 4;
+
+    private int maxPoolSize = 8;
+
+    /**
+     * Maximum number of tasks waiting for a thread.
+     */
+    private int queueCapacity = 200;
+
+    private Duration keepAlive = Duration.ofSeconds(60);
+
+    private RejectionPolicy rejectionPolicy = RejectionPolicy.ABORT;
+
+    /**
+     * Value of the Retry-After header sent when a task is rejected.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+    public ThreadMode getMode() {
+        return mode;
+    }
+
+    public void setMode(ThreadMode mode) {
+        this.mode = mode;
+    }
+
+    public int getVirtualMaxConcurrency() {
+        return virtualMaxConcurrency;
+    }
+
+    public void setVirtualMaxConcurrency(int virtualMaxConcurrency) {
+        this.virtualMaxConcurrency = virtualMaxConcurrency;
+    }
+
+    public int getDatabasePermits() {
+        return databasePermits;
+    }
+
+    public void setDatabasePermits(int databasePermits) {
+        this.databasePermits = databasePermits;
+    }
+
+    public int getCorePoolSize() {
+        return corePoolSize;
+    }
+
+    public void setCorePoolSize(int corePoolSize) {
+        this.corePoolSize = corePoolSize;
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public void setMaxPoolSize(int maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getKeepAlive() {
+        return keepAlive;
+    }
+
+    public void setKeepAlive(Duration keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+
+    public RejectionPolicy getRejectionPolicy() {
+        return rejectionPolicy;
+    }
+
+    public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+        this.rejectionPolicy = rejectionPolicy;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    public void setShutdownTimeout(Duration shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.scoring.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the write-behind stage that batches asynchronous score inserts, bound from
+ * {@code scoring.write-behind.*}.
+ */
+@ConfigurationProperties(prefix = "scoring.write-behind")
+public class WriteBehindProperties {
+
+    /**
+     * When the future returned for an asynchronous calculation completes.
+     */
+    public enum Durability {
+        /**
+         * Complete once the batch containing the score has been committed.
+         */
+        FLUSH_BEFORE_ACK,
+        /**
+         * Complete as soon as the score has been queued. The returned score has no id yet,
+         * and scores still queued when the process dies are lost.
+         */
+        ACK_BEFORE_FLUSH
+    }
+
+    private boolean enabled = true;
+
+    private Durability durability = Durability.FLUSH_BEFORE_ACK;
+
+    /**
+     * Number of scores that triggers a flush.
+     */
+    private int batchSize = 50;
+
+    /**
+     * Longest time a queued score waits for its batch to fill up.
+     */
+    private Duration maxDelay = Duration.ofMillis(20);
+
+    private int queueCapacity = 10_000;
+
+    /**
+     * How long a producer waits for queue space before the calculation fails.
+     */
+    private Duration enqueueTimeout = Duration.ofMillis(100);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Durability getDurability() {
+        return durability;
+    }
+
+    public void setDurability(Durability durability) {
+        this.durability = durability;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    public void setMaxDelay(Duration maxDelay) {
+        this.maxDelay = maxDelay;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getEnqueueTimeout() {
+        return enqueueTimeout;
+    }
+
+    public void setEnqueueTimeout(Duration enqueueTimeout) {
+        this.enqueueTimeout = enqueueTimeout;
+    }
+}
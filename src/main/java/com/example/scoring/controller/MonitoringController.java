@@ -0,0 +1,90 @@
+package com.example.scoring.controller;
+
+import com.example.scoring.dto.LoggingSamplingSettings;
+import com.example.scoring.monitoring.CacheMetrics;
+import com.example.scoring.monitoring.CacheStatistics;
+import com.example.scoring.monitoring.LatencyMetrics;
+import com.example.scoring.monitoring.LatencySnapshot;
+import com.example.scoring.monitoring.LoggingSamplingPolicy;
+import com.example.scoring.monitoring.PrometheusScrapeWriter;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * REST controller exposing monitoring data and runtime-tunable monitoring settings.
+ */
+@RestController
+@RequestMapping("/api/monitoring")
+@Validated
+public class MonitoringController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MonitoringController.class);
+
+    private final LatencyMetrics latencyMetrics;
+    private final LoggingSamplingPolicy samplingPolicy;
+    private final CacheMetrics cacheMetrics;
+    private final PrometheusScrapeWriter prometheusScrapeWriter;
+
+    public MonitoringController(LatencyMetrics latencyMetrics,
+                                LoggingSamplingPolicy samplingPolicy,
+                                CacheMetrics cacheMetrics,
+                                PrometheusScrapeWriter prometheusScrapeWriter) {
+        this.latencyMetrics = latencyMetrics;
+        this.samplingPolicy = samplingPolicy;
+        this.cacheMetrics = cacheMetrics;
+        this.prometheusScrapeWriter = prometheusScrapeWriter;
+    }
+
+    /**
+     * Returns latency snapshots of the current and the last completed histogram windows.
+     */
+    @GetMapping("/latency")
+    public ResponseEntity<Map<String, Map<String, LatencySnapshot>>> latency() {
+        Map<String, Map<String, LatencySnapshot>> windows = new LinkedHashMap<>();
+        windows.put("current", latencyMetrics.currentWindows());
+        windows.put("lastCompleted", latencyMetrics.lastCompletedWindows());
+        return ResponseEntity.ok(windows);
+    }
+
+    /**
+     * Returns hit, miss and eviction counters of the in-process caches.
+     */
+    @GetMapping("/caches")
+    public ResponseEntity<Map<String, CacheStatistics>> caches() {
+        return ResponseEntity.ok(cacheMetrics.snapshot());
+    }
+
+    /**
+     * Returns the per-method service meters and cache counters in the Prometheus text format.
+     */
+    @GetMapping(value = "/prometheus", produces = PrometheusScrapeWriter.CONTENT_TYPE)
+    public ResponseEntity<String> prometheus() {
+        return ResponseEntity.ok(prometheusScrapeWriter.scrape());
+    }
+
+    @GetMapping("/logging/sampling")
+    public ResponseEntity<LoggingSamplingSettings> samplingSettings() {
+        return ResponseEntity.ok(samplingPolicy.currentSettings());
+    }
+
+    /**
+     * Replaces the service logging sampling settings without a restart.
+     */
+    @PutMapping("/logging/sampling")
+    public ResponseEntity<LoggingSamplingSettings> updateSamplingSettings(
+            @Valid @RequestBody LoggingSamplingSettings settings) {
+        LOGGER.info("Updating service logging sampling settings: sampleRatePercent={} slowThresholdMs={} "
+                        + "alwaysLogErrors={} maxLinesPerSecondPerMethod={}",
+                settings.getSampleRatePercent(), settings.getSlowThresholdMs(),
+                settings.isAlwaysLogErrors(), settings.getMaxLinesPerSecondPerMethod());
+        samplingPolicy.apply(settings);
+        return ResponseEntity.ok(samplingPolicy.currentSettings());
+    }
+}
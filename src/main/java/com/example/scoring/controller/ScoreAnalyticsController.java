@@ -0,0 +1,47 @@
+package com.example.scoring.controller;
+
+import com.example.scoring.analytics.ColumnarScoreSnapshot;
+import com.example.scoring.dto.ScoreStatisticsResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ad-hoc score aggregations over arbitrary time ranges, answered from the
+ * {@link ColumnarScoreSnapshot} rather than the database.
+ */
+@RestController
+@RequestMapping("/api/scores/analytics")
+@ConditionalOnProperty(prefix = "scoring.analytics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ScoreAnalyticsController {
+
+    private final ColumnarScoreSnapshot snapshot;
+
+    public ScoreAnalyticsController(ColumnarScoreSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Returns the distribution of scores calculated in {@code [from, to)}, optionally restricted
+     * to an assessment and a candidate. Reflects scores persisted up to one refresh interval ago.
+     */
+    @GetMapping
+    public ResponseEntity<ScoreStatisticsResponse> summarize(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(name = "assessmentId", required = false) String assessmentId,
+            @RequestParam(name = "candidateId", required = false) String candidateId) {
+        if (!from.isBefore(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'from' must be before 'to'");
+        }
+        return ResponseEntity.ok(snapshot.summarize(from, to, assessmentId, candidateId));
+    }
+}
@@ -1,17 +1,59 @@
 package com.example.scoring.controller;
 
+import com.example.scoring.config.ScoringExecutorProperties;
+import com.example.scoring.dto.CandidateScoresResponse;
 import com.example.scoring.dto.ScoreAsyncResponse;
+import com.example.scoring.dto.ScoreBatchItemResult;
+import com.example.scoring.dto.ScoreCursor;
+import com.example.scoring.dto.ScoreJobResponse;
+import com.example.scoring.dto.ScorePage;
 import com.example.scoring.dto.ScoreRequest;
 import com.example.scoring.dto.ScoreResponse;
+import com.example.scoring.dto.ScoreStatisticsResponse;
+import com.example.scoring.dto.SectionAnswers;
 import com.example.scoring.domain.Score;
+import com.example.scoring.exception.ScoreCalculationException;
+import com.example.scoring.idempotency.IdempotencyConflictException;
+import com.example.scoring.idempotency.IdempotencyStore;
+import com.example.scoring.job.ScoreJob;
+import com.example.scoring.job.ScoreJobProperties;
+import com.example.scoring.job.ScoreJobRegistry;
+import com.example.scoring.job.ScoreJobStatus;
 import com.example.scoring.service.ScoreService;
+import com.example.scoring.stats.ScoreStatisticsAggregator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 /**
  * REST controller exposing APIs for synchronous and asynchronous score calculation.
@@ -23,41 +65,319 @@ public class ScoreController {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ScoreController.class);
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final ScoreService scoreService;
+    private final ScoringExecutorProperties executorProperties;
+    private final ObjectReader scoreRequestReader;
+    private final ObjectWriter batchResultWriter;
+    private final ScoreJobRegistry jobRegistry;
+    private final ScoreJobProperties jobProperties;
+    private final IdempotencyStore<Score> syncIdempotencyStore;
+    private final IdempotencyStore<ScoreJob> asyncIdempotencyStore;
+    private final ScoreStatisticsAggregator statisticsAggregator;
 
-    public ScoreController(ScoreService scoreService) {
+    public ScoreController(ScoreService scoreService,
+                           ScoringExecutorProperties executorProperties,
+                           ObjectMapper objectMapper,
+                           ScoreJobRegistry jobRegistry,
+                           ScoreJobProperties jobProperties,
+                           IdempotencyStore<Score> syncScoreIdempotencyStore,
+                           IdempotencyStore<ScoreJob> asyncScoreIdempotencyStore,
+                           ScoreStatisticsAggregator statisticsAggregator) {
         this.scoreService = scoreService;
+        this.executorProperties = executorProperties;
+        this.jobRegistry = jobRegistry;
+        this.jobProperties = jobProperties;
+        this.syncIdempotencyStore = syncScoreIdempotencyStore;
+        this.asyncIdempotencyStore = asyncScoreIdempotencyStore;
+        this.statisticsAggregator = statisticsAggregator;
+        this.scoreRequestReader = objectMapper.readerFor(ScoreRequest.class);
+        this.batchResultWriter = objectMapper.writerFor(ScoreBatchItemResult.class);
     }
 
     /**
-     * Synchronously calculates a score and returns the result when ready.
+     * Synchronously calculates a score and returns the result when ready. Retries carrying the
+     * same idempotency key wait for the original calculation or replay its stored result.
+     *
+     * The entity is returned as is: it has the same JSON shape as {@link ScoreResponse} and is
+     * written by {@link com.example.scoring.codec.ScoreJsonHttpMessageConverter} without an
+     * intermediate copy.
      */
     @PostMapping("/sync")
-    public ResponseEntity<ScoreResponse> calculateScoreSync(@Valid @RequestBody ScoreRequest request) {
+    public ResponseEntity<Score> calculateScoreSync(
+            @Valid @RequestBody ScoreRequest request,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKeyHeader) {
         LOGGER.debug("Received synchronous scoring request for candidateId={} totalQuestions={} correctAnswers={}",
                 request.getCandidateId(), request.getTotalQuestions(), request.getCorrectAnswers());
 
-        Score score = scoreService.calculateScoreSync(request);
-        return ResponseEntity.ok(ScoreResponse.fromEntity(score));
+        String idempotencyKey = resolveIdempotencyKey(idempotencyKeyHeader, request);
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(scoreService.calculateScoreSync(request));
+        }
+        Score score = deduplicated(syncIdempotencyStore, idempotencyKey, request,
+                () -> CompletableFuture.completedFuture(scoreService.calculateScoreSync(request)));
+        return ResponseEntity.ok(score);
     }
 
     /**
      * Triggers an asynchronous score calculation. The calculation is executed on a separate thread
-     * and this endpoint returns immediately with an accepted response.
+     * and this endpoint returns immediately with an accepted response carrying the job id under
+     * which the outcome can be looked up. Retries carrying the same idempotency key receive the
+     * job of the original submission.
      */
     @PostMapping("/async")
-    public ResponseEntity<ScoreAsyncResponse> calculateScoreAsync(@Valid @RequestBody ScoreRequest request) {
+    public ResponseEntity<ScoreAsyncResponse> calculateScoreAsync(
+            @Valid @RequestBody ScoreRequest request,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKeyHeader) {
         LOGGER.debug("Received asynchronous scoring request for candidateId={} totalQuestions={} correctAnswers={}",
                 request.getCandidateId(), request.getTotalQuestions(), request.getCorrectAnswers());
 
-        scoreService.calculateScoreAsync(request);
+        String idempotencyKey = resolveIdempotencyKey(idempotencyKeyHeader, request);
+        ScoreJob job = idempotencyKey == null
+                ? submitAsync(request)
+                : deduplicated(asyncIdempotencyStore, idempotencyKey, request,
+                        () -> CompletableFuture.completedFuture(submitAsync(request)));
 
         ScoreAsyncResponse response = new ScoreAsyncResponse(
+                job.getId(),
                 request.getCandidateId(),
                 "ACCEPTED",
                 "Score calculation has been scheduled for asynchronous processing."
         );
 
-        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/api/scores/jobs/" + job.getId()))
+                .body(response);
+    }
+
+    private ScoreJob submitAsync(ScoreRequest request) {
+        CompletableFuture<Score> completion = scoreService.calculateScoreAsync(request);
+        return jobRegistry.track(request.getCandidateId(), completion);
+    }
+
+    /**
+     * Returns the state of an asynchronous calculation. With {@code waitMs > 0} the request is
+     * held open (long-poll) until the job completes or the wait, capped by
+     * {@code scoring.jobs.max-wait}, elapses; the request thread is released meanwhile.
+     */
+    @GetMapping("/jobs/{jobId}")
+    public DeferredResult<ResponseEntity<ScoreJobResponse>> getJob(
+            @PathVariable String jobId,
+            @RequestParam(name = "waitMs", defaultValue = "0") long waitMs) {
+        Optional<ScoreJob> found = jobRegistry.find(jobId);
+        if (found.isEmpty()) {
+            DeferredResult<ResponseEntity<ScoreJobResponse>> notFound = new DeferredResult<>();
+            notFound.setResult(ResponseEntity.notFound().build());
+            return notFound;
+        }
+
+        ScoreJob job = found.get();
+        long timeoutMs = Math.min(Math.max(waitMs, 0L), jobProperties.getMaxWait().toMillis());
+        if (timeoutMs == 0L || job.getStatus() != ScoreJobStatus.PENDING) {
+            DeferredResult<ResponseEntity<ScoreJobResponse>> immediate = new DeferredResult<>();
+            immediate.setResult(ResponseEntity.ok(toJobResponse(job)));
+            return immediate;
+        }
+
+        DeferredResult<ResponseEntity<ScoreJobResponse>> result =
+                new DeferredResult<>(timeoutMs, () -> ResponseEntity.ok(toJobResponse(job)));
+        job.getCompletion().whenComplete((score, ex) -> result.setResult(ResponseEntity.ok(toJobResponse(job))));
+        return result;
+    }
+
+    /**
+     * Returns the latest score of a candidate together with a page of its history, newest first.
+     * Pass the returned {@code nextCursor} back as {@code cursor} to fetch the following page.
+     */
+    @GetMapping("/candidates/{candidateId}")
+    public ResponseEntity<CandidateScoresResponse> getCandidateScores(
+            @PathVariable String candidateId,
+            @RequestParam(name = "limit", defaultValue = "20") int limit,
+            @RequestParam(name = "cursor", required = false) String cursor) {
+        ScoreCursor after = decodeCursor(cursor);
+        ScorePage history = scoreService.findCandidateHistory(candidateId, after, clampPageSize(limit));
+
+        ScoreResponse latest = after == null && !history.getItems().isEmpty()
+                ? history.getItems().get(0)
+                : scoreService.findLatestScore(candidateId).orElse(null);
+        if (latest == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(new CandidateScoresResponse(candidateId, latest, history));
+    }
+
+    /**
+     * Returns scores calculated in {@code [from, to)}, oldest first, using the same cursor
+     * scheme as the candidate history.
+     */
+    @GetMapping
+    public ResponseEntity<ScorePage> getScoresBetween(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(name = "limit", defaultValue = "100") int limit,
+            @RequestParam(name = "cursor", required = false) String cursor) {
+        if (!from.isBefore(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'from' must be before 'to'");
+        }
+        return ResponseEntity.ok(scoreService.findScoresBetween(from, to, decodeCursor(cursor), clampPageSize(limit)));
+    }
+
+    /**
+     * Returns the score distribution of a cohort (assessment) over the retained time buckets and,
+     * with {@code candidateId}, that candidate's summary and percentile rank. Served from
+     * incrementally maintained sketches; the database is not queried.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ScoreStatisticsResponse> getStatistics(
+            @RequestParam(name = "assessmentId", required = false) String assessmentId,
+            @RequestParam(name = "candidateId", required = false) String candidateId) {
+        return ResponseEntity.ok(statisticsAggregator.statistics(assessmentId, candidateId));
+    }
+
+    private ScoreCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return ScoreCursor.decode(cursor);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor", ex);
+        }
+    }
+
+    private String resolveIdempotencyKey(String header, ScoreRequest request) {
+        String key = header != null && !header.isBlank() ? header : request.getIdempotencyKey();
+        if (key == null || key.isBlank()) {
+            return null;
+        }
+        if (key.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Idempotency key is too long");
+        }
+        return key;
+    }
+
+    /**
+     * Runs the calculation at most once per idempotency key and waits for its outcome, rethrowing
+     * the original exception if the calculation this request was coalesced onto failed.
+     */
+    private <T> T deduplicated(IdempotencyStore<T> store,
+                               String idempotencyKey,
+                               ScoreRequest request,
+                               Supplier<CompletableFuture<T>> computation) {
+        try {
+            return store.execute(idempotencyKey, fingerprint(request), computation).join();
+        } catch (IdempotencyConflictException ex) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, ex.getMessage(), ex);
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ScoreCalculationException("Failed to calculate score", ex.getCause());
+        }
+    }
+
+    /**
+     * SHA-256 digest of every field that affects the score, including the complete answer
+     * vector, so that two different payloads cannot share a key's result by colliding.
+     */
+    private static String fingerprint(ScoreRequest request) {
+        StringBuilder canonical = new StringBuilder()
+                .append(request.getCandidateId()).append('|')
+                .append(request.getAssessmentId()).append('|')
+                .append(request.getTotalQuestions()).append('|')
+                .append(request.getCorrectAnswers()).append('|')
+                .append(request.getIncorrectAnswers()).append('|');
+        if (request.getAnswers() != null) {
+            for (int answer : request.getAnswers()) {
+                canonical.append(answer).append(',');
+            }
+        }
+        if (request.getSections() != null) {
+            for (SectionAnswers section : request.getSections()) {
+                canonical.append('|').append(section.getSectionId())
+                        .append(':').append(section.getTotalQuestions())
+                        .append(':').append(section.getCorrectAnswers())
+                        .append(':').append(section.getIncorrectAnswers());
+            }
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private int clampPageSize(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+    }
+
+    private ScoreJobResponse toJobResponse(ScoreJob job) {
+        return new ScoreJobResponse(
+                job.getId(),
+                job.getCandidateId(),
+                job.getStatus().name(),
+                job.getSubmittedAt(),
+                ScoreResponse.fromEntity(job.getResult()),
+                job.getError()
+        );
+    }
+
+    /**
+     * Calculates scores for a large number of requests in one call. The body is either a JSON
+     * array or newline-delimited JSON objects; it is read incrementally, and one NDJSON result
+     * line per request is streamed back as soon as its chunk has been persisted, so neither the
+     * input nor the output is held in memory as a whole. Input that cannot be parsed ends the
+     * batch: the requests before it are still scored, followed by a failure line with the index
+     * of the unreadable item.
+     */
+    @PostMapping(value = "/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void calculateScoresBatch(HttpServletRequest httpRequest, HttpServletResponse httpResponse) throws IOException {
+        LOGGER.debug("Received batch scoring request contentType={}", httpRequest.getContentType());
+
+        httpResponse.setStatus(HttpStatus.OK.value());
+        httpResponse.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream out = httpResponse.getOutputStream();
+
+        try (MappingIterator<ScoreRequest> requests = scoreRequestReader.readValues(httpRequest.getInputStream())) {
+            scoreService.calculateScoresBatch(requests, result -> writeLine(out, result));
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        out.flush();
+    }
+
+    private void writeLine(OutputStream out, ScoreBatchItemResult result) {
+        try {
+            out.write(batchResultWriter.writeValueAsBytes(result));
+            out.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Translates a saturated scoring executor into a 503 response with a Retry-After hint,
+     * so that clients back off instead of the service buffering work without bound.
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ScoreAsyncResponse> handleRejectedCalculation(TaskRejectedException ex) {
+        LOGGER.warn("Rejected asynchronous scoring request: {}", ex.getMessage());
+
+        ScoreAsyncResponse response = new ScoreAsyncResponse(
+                null,
+                "REJECTED",
+                "Scoring capacity is exhausted, please retry later."
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1L, executorProperties.getRetryAfter().toSeconds())))
+                .body(response);
     }
 }
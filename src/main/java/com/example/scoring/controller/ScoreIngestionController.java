@@ -0,0 +1,90 @@
+package com.example.scoring.controller;
+
+import com.example.scoring.dto.ScoreIngestionAck;
+import com.example.scoring.ingest.FrameFormat;
+import com.example.scoring.ingest.ScoreIngestionPipeline;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * High-volume ingestion endpoint: a single long-lived request streams score requests as
+ * length-prefixed frames ({@value #FRAMES_CONTENT_TYPE}) or NDJSON and receives one NDJSON
+ * {@link ScoreIngestionAck} line per processed range of frames. A range is acknowledged once it
+ * and every range before it have been processed; ranges are closed at {@code chunk-size}
+ * frames or after {@code max-chunk-delay}, so a client may wait for acknowledgements before
+ * sending more. A client that only reads after it has sent everything is served up to about
+ * {@code max-queued-acks + max-in-flight-chunks} chunks; longer streams must be read while
+ * they are sent (full duplex), or the server stops reading once its queues are full.
+ *
+ * Frames that were not acknowledged when the connection breaks may or may not have been
+ * persisted, so clients resending them must tolerate duplicates.
+ */
+@RestController
+@RequestMapping("/api/scores/ingest")
+public class ScoreIngestionController {
+
+    /**
+     * Stream of frames, each a 4-byte big-endian payload length followed by a UTF-8 JSON score request.
+     */
+    public static final String FRAMES_CONTENT_TYPE = "application/x-score-frames";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScoreIngestionController.class);
+
+    private final ScoreIngestionPipeline pipeline;
+    private final ObjectWriter ackWriter;
+
+    public ScoreIngestionController(ScoreIngestionPipeline pipeline, ObjectMapper objectMapper) {
+        this.pipeline = pipeline;
+        this.ackWriter = objectMapper.writerFor(ScoreIngestionAck.class);
+    }
+
+    @PostMapping(consumes = {FRAMES_CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void ingest(HttpServletRequest httpRequest, HttpServletResponse httpResponse) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(httpRequest.getContentType());
+        FrameFormat format = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+                ? FrameFormat.NDJSON
+                : FrameFormat.LENGTH_PREFIXED;
+        LOGGER.debug("Received ingestion stream format={}", format);
+
+        httpResponse.setStatus(HttpStatus.OK.value());
+        httpResponse.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream out = httpResponse.getOutputStream();
+
+        try (ReadableByteChannel in = Channels.newChannel(httpRequest.getInputStream())) {
+            pipeline.ingest(in, format, ack -> writeAck(out, ack));
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes and flushes one acknowledgement, so that the client can release the acknowledged
+     * frames. Called from pipeline threads, one at a time, while the request thread reads.
+     */
+    private void writeAck(OutputStream out, ScoreIngestionAck ack) {
+        try {
+            out.write(ackWriter.writeValueAsBytes(ack));
+            out.write('\n');
+            out.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.scoring.controller;
+
+import com.example.scoring.rules.ScoringRulesDefinition;
+import com.example.scoring.rules.ScoringRulesEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * REST controller exposing the active scoring rules and replacing them at runtime.
+ */
+@RestController
+@RequestMapping("/api/scoring/rules")
+public class ScoringRulesController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScoringRulesController.class);
+
+    private final ScoringRulesEngine rulesEngine;
+
+    public ScoringRulesController(ScoringRulesEngine rulesEngine) {
+        this.rulesEngine = rulesEngine;
+    }
+
+    @GetMapping
+    public ResponseEntity<ScoringRulesDefinition> rules() {
+        return ResponseEntity.ok(rulesEngine.currentDefinition());
+    }
+
+    /**
+     * Compiles the submitted rules and swaps them in atomically. Invalid rules are rejected
+     * with 400 and leave the active rules untouched.
+     */
+    @PutMapping
+    public ResponseEntity<ScoringRulesDefinition> replaceRules(@RequestBody ScoringRulesDefinition definition) {
+        try {
+            rulesEngine.replace(definition);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+        }
+        LOGGER.info("Replaced scoring rules for assessments {}", definition.getAssessments().keySet());
+        return ResponseEntity.ok(rulesEngine.currentDefinition());
+    }
+}
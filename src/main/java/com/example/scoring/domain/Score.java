@@ -8,16 +8,29 @@ import java.time.LocalDateTime;
  * JPA entity representing a calculated score for a candidate.
  */
 @Entity
-@Table(name = "scores")
+@Table(name = "scores", indexes = {
+        // Candidate history, newest first; id breaks ties for keyset pagination.
+        @Index(name = "idx_scores_candidate_calculated", columnList = "candidate_id, calculated_at, id"),
+        // Time-range scans across all candidates.
+        @Index(name = "idx_scores_calculated", columnList = "calculated_at, id")
+})
 public class Score {
 
+    /**
+     * Sequence-based (pooled) identifiers, so that Hibernate can batch inserts: with
+     * IDENTITY every insert has to be executed on its own to learn the generated key.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "scores_seq")
+    @SequenceGenerator(name = "scores_seq", sequenceName = "scores_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "candidate_id", nullable = false, length = 64)
     private String candidateId;
 
+    @Column(name = "assessment_id", length = 64)
+    private String assessmentId;
+
     @Column(name = "score_value", nullable = false)
     private double scoreValue;
 
@@ -55,6 +68,13 @@ public class Score {
         return id;
     }
 
+    /**
+     * Only for score stores that assign identifiers themselves; JPA generates the id on persist.
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
     public String getCandidateId() {
         return candidateId;
     }
@@ -63,6 +83,14 @@ public class Score {
         this.candidateId = candidateId;
     }
 
+    public String getAssessmentId() {
+        return assessmentId;
+    }
+
+    public void setAssessmentId(String assessmentId) {
+        this.assessmentId = assessmentId;
+    }
+
     public double getScoreValue() {
         return scoreValue;
     }
@@ -0,0 +1,44 @@
+package com.example.scoring.dto;
+
+/**
+ * Response payload with the latest score of a candidate and a page of its history.
+ */
+public class CandidateScoresResponse {
+
+    private String candidateId;
+    private ScoreResponse latest;
+    private ScorePage history;
+
+    public CandidateScoresResponse() {
+    }
+
+    public CandidateScoresResponse(String candidateId, ScoreResponse latest, ScorePage history) {
+        this.candidateId = candidateId;
+        this.latest = latest;
+        this.history = history;
+    }
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public void setCandidateId(String candidateId) {
+        this.candidateId = candidateId;
+    }
+
+    public ScoreResponse getLatest() {
+        return latest;
+    }
+
+    public void setLatest(ScoreResponse latest) {
+        this.latest = latest;
+    }
+
+    public ScorePage getHistory() {
+        return history;
+    }
+
+    public void setHistory(ScorePage history) {
+        this.history = history;
+    }
+}
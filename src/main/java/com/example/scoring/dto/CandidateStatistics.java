@@ -0,0 +1,89 @@
+package com.example.scoring.dto;
+
+/**
+ * Running statistics of one candidate's scores.
+ */
+public class CandidateStatistics {
+
+    private String candidateId;
+
+    /**
+     * Cohort of the candidate's latest score.
+     */
+    private String cohort;
+
+    private long count;
+    private double mean;
+    private double min;
+    private double max;
+    private double latestScore;
+
+    /**
+     * Percentage of scores in the cohort below the candidate's latest score.
+     */
+    private double percentileRank;
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public void setCandidateId(String candidateId) {
+        this.candidateId = candidateId;
+    }
+
+    public String getCohort() {
+        return cohort;
+    }
+
+    public void setCohort(String cohort) {
+        this.cohort = cohort;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public void setMean(double mean) {
+        this.mean = mean;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public void setMin(double min) {
+        this.min = min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public void setMax(double max) {
+        this.max = max;
+    }
+
+    public double getLatestScore() {
+        return latestScore;
+    }
+
+    public void setLatestScore(double latestScore) {
+        this.latestScore = latestScore;
+    }
+
+    public double getPercentileRank() {
+        return percentileRank;
+    }
+
+    public void setPercentileRank(double percentileRank) {
+        this.percentileRank = percentileRank;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.scoring.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+
+/**
+ * Payload describing the sampling and rate-limiting settings for service entry/exit logging.
+ */
+public class LoggingSamplingSettings {
+
+    @DecimalMin("0.0")
+    @DecimalMax("100.0")
+    private double sampleRatePercent;
+
+    @Min(0)
+    private long slowThresholdMs;
+
+    private boolean alwaysLogErrors;
+
+    @Min(0)
+    private long maxLinesPerSecondPerMethod;
+
+    public LoggingSamplingSettings() {
+    }
+
+    public LoggingSamplingSettings(double sampleRatePercent,
+                                   long slowThresholdMs,
+                                   boolean alwaysLogErrors,
+                                   long maxLinesPerSecondPerMethod) {
+        this.sampleRatePercent = sampleRatePercent;
+        this.slowThresholdMs = slowThresholdMs;
+        this.alwaysLogErrors = alwaysLogErrors;
+        this.maxLinesPerSecondPerMethod = maxLinesPerSecondPerMethod;
+    }
+
+    public double getSampleRatePercent() {
+        return sampleRatePercent;
+    }
+
+    public void setSampleRatePercent(double sampleRatePercent) {
+        this.sampleRatePercent = sampleRatePercent;
+    }
+
+    public long getSlowThresholdMs() {
+        return slowThresholdMs;
+    }
+
+    public void setSlowThresholdMs(long slowThresholdMs) {
+        this.slowThresholdMs = slowThresholdMs;
+    }
+
+    public boolean isAlwaysLogErrors() {
+        return alwaysLogErrors;
+    }
+
+    public void setAlwaysLogErrors(boolean alwaysLogErrors) {
+        this.alwaysLogErrors = alwaysLogErrors;
+    }
+
+    public long getMaxLinesPerSecondPerMethod() {
+        return maxLinesPerSecondPerMethod;
+    }
+
+    public void setMaxLinesPerSecondPerMethod(long maxLinesPerSecondPerMethod) {
+        this.maxLinesPerSecondPerMethod = maxLinesPerSecondPerMethod;
+    }
+}
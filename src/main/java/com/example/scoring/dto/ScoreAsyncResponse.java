@@ -5,6 +5,7 @@ package com.example.scoring.dto;
  */
 public class ScoreAsyncResponse {
 
+    private String jobId;
     private String candidateId;
     private String status;
     private String message;
@@ -13,11 +14,27 @@ public class ScoreAsyncResponse {
     }
 
     public ScoreAsyncResponse(String candidateId, String status, String message) {
+        this(null, candidateId, status, message);
+    }
+
+    public ScoreAsyncResponse(String jobId, String candidateId, String status, String message) {
+        this.jobId = jobId;
         this.candidateId = candidateId;
         this.status = status;
         this.message = message;
     }
 
+    /**
+     * Identifier for polling the calculation via {@code GET /api/scores/jobs/{jobId}}.
+     */
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
     public String getCandidateId() {
         return candidateId;
     }
@@ -0,0 +1,65 @@
+package com.example.scoring.dto;
+
+/**
+ * Result of a single request within a batch score calculation, emitted as one NDJSON line.
+ */
+public class ScoreBatchItemResult {
+
+    public static final String STATUS_OK = "OK";
+    public static final String STATUS_FAILED = "FAILED";
+
+    private long index;
+    private String status;
+    private ScoreResponse score;
+    private String error;
+
+    public ScoreBatchItemResult() {
+    }
+
+    public ScoreBatchItemResult(long index, String status, ScoreResponse score, String error) {
+        this.index = index;
+        this.status = status;
+        this.score = score;
+        this.error = error;
+    }
+
+    public static ScoreBatchItemResult success(long index, ScoreResponse score) {
+        return new ScoreBatchItemResult(index, STATUS_OK, score, null);
+    }
+
+    public static ScoreBatchItemResult failure(long index, String error) {
+        return new ScoreBatchItemResult(index, STATUS_FAILED, null, error);
+    }
+
+    public long getIndex() {
+        return index;
+    }
+
+    public void setIndex(long index) {
+        this.index = index;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public ScoreResponse getScore() {
+        return score;
+    }
+
+    public void setScore(ScoreResponse score) {
+        this.score = score;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
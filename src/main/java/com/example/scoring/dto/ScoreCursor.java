@@ -0,0 +1,59 @@
+package com.example.scoring.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset pagination position: the {@code (calculatedAt, id)} of the last row returned.
+ * Exchanged with clients as an opaque URL-safe token.
+ */
+public final class ScoreCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime calculatedAt;
+    private final long id;
+
+    public ScoreCursor(LocalDateTime calculatedAt, long id) {
+        this.calculatedAt = calculatedAt;
+        this.id = id;
+    }
+
+    public static ScoreCursor of(ScoreResponse lastRow) {
+        return new ScoreCursor(lastRow.getCalculatedAt(), lastRow.getId());
+    }
+
+    /**
+     * Parses a token produced by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static ScoreCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new ScoreCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException ex) {
+            throw new IllegalArgumentException("Malformed cursor", ex);
+        }
+    }
+
+    public String encode() {
+        String raw = calculatedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCalculatedAt() {
+        return calculatedAt;
+    }
+
+    public long getId() {
+        return id;
+    }
+}
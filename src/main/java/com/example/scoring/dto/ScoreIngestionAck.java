@@ -0,0 +1,79 @@
+package com.example.scoring.dto;
+
+import java.util.List;
+
+/**
+ * Acknowledgement of a contiguous range of frames on the ingestion stream, emitted as one
+ * NDJSON line. Frames of the range that are not listed in {@code failures} were persisted.
+ * A line carrying an {@code error} reports that the stream was aborted after {@code toIndex}.
+ */
+public class ScoreIngestionAck {
+
+    private long fromIndex;
+    private long toIndex;
+    private int accepted;
+    private List<ScoreBatchItemResult> failures;
+    private String error;
+
+    public ScoreIngestionAck() {
+    }
+
+    public ScoreIngestionAck(long fromIndex, long toIndex, int accepted, List<ScoreBatchItemResult> failures) {
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+        this.accepted = accepted;
+        this.failures = failures;
+    }
+
+    public static ScoreIngestionAck aborted(long lastIndex, String error) {
+        ScoreIngestionAck ack = new ScoreIngestionAck(lastIndex + 1, lastIndex, 0, List.of());
+        ack.setError(error);
+        return ack;
+    }
+
+    /**
+     * Index of the first frame in the range, counted from zero over the whole stream.
+     */
+    public long getFromIndex() {
+        return fromIndex;
+    }
+
+    public void setFromIndex(long fromIndex) {
+        this.fromIndex = fromIndex;
+    }
+
+    /**
+     * Index of the last frame in the range, inclusive.
+     */
+    public long getToIndex() {
+        return toIndex;
+    }
+
+    public void setToIndex(long toIndex) {
+        this.toIndex = toIndex;
+    }
+
+    public int getAccepted() {
+        return accepted;
+    }
+
+    public void setAccepted(int accepted) {
+        this.accepted = accepted;
+    }
+
+    public List<ScoreBatchItemResult> getFailures() {
+        return failures;
+    }
+
+    public void setFailures(List<ScoreBatchItemResult> failures) {
+        this.failures = failures;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.scoring.dto;
+
+import java.time.Instant;
+
+/**
+ * Response payload describing the state of an asynchronous score calculation job.
+ */
+public class ScoreJobResponse {
+
+    private String jobId;
+    private String candidateId;
+    private String status;
+    private Instant submittedAt;
+    private ScoreResponse score;
+    private String error;
+
+    public ScoreJobResponse() {
+    }
+
+    public ScoreJobResponse(String jobId,
+                            String candidateId,
+                            String status,
+                            Instant submittedAt,
+                            ScoreResponse score,
+                            String error) {
+        this.jobId = jobId;
+        this.candidateId = candidateId;
+        this.status = status;
+        this.submittedAt = submittedAt;
+        this.score = score;
+        this.error = error;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public void setCandidateId(String candidateId) {
+        this.candidateId = candidateId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(Instant submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    public ScoreResponse getScore() {
+        return score;
+    }
+
+    public void setScore(ScoreResponse score) {
+        this.score = score;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
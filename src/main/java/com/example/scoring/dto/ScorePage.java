@@ -0,0 +1,36 @@
+package com.example.scoring.dto;
+
+import java.util.List;
+
+/**
+ * One page of scores plus the cursor for the next page ({@code null} on the last page).
+ */
+public class ScorePage {
+
+    private List<ScoreResponse> items;
+    private String nextCursor;
+
+    public ScorePage() {
+    }
+
+    public ScorePage(List<ScoreResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<ScoreResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ScoreResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
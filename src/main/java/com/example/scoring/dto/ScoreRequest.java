@@ -1,25 +1,79 @@
 package com.example.scoring.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
 
 /**
  * Request payload for triggering a score calculation.
  */
 public class ScoreRequest {
 
+    /**
+     * Largest accepted answer vector.
+     */
+    public static final int MAX_ANSWERS = 10_000;
+
+    /**
+     * Longest candidate or assessment id in characters, the width of the id columns.
+     */
+    public static final int MAX_ID_LENGTH = 64;
+
+    /**
+     * Longest candidate or assessment id in UTF-8 bytes, the space a score journal record
+     * reserves for each.
+     */
+    public static final int MAX_ID_BYTES = 96;
+
     @NotBlank
+    @Size(max = MAX_ID_LENGTH)
     private String candidateId;
 
-    @NotNull
     @Min(1)
     private Integer totalQuestions;
 
-    @NotNull
     @Min(0)
     private Integer correctAnswers;
 
+    /**
+     * Answers given but wrong, used for negative marking; defaults to all questions not
+     * answered correctly.
+     */
+    @Min(0)
+    private Integer incorrectAnswers;
+
+    /**
+     * Assessment whose scoring rule applies; the default rule is used when absent.
+     */
+    @Size(max = MAX_ID_LENGTH)
+    private String assessmentId;
+
+    /**
+     * Optional per-section breakdown of the totals, required by rules with weighted sections.
+     */
+    @Valid
+    private List<SectionAnswers> sections;
+
+    /**
+     * Optional raw answer vector: zero-based selected option per question, negative for
+     * unanswered questions. Graded against the assessment's answer key; the counts above are
+     * then derived from it and must not be sent.
+     */
+    @Size(max = MAX_ANSWERS)
+    private int[] answers;
+
+    /**
+     * Optional client-chosen key under which retries of this request are deduplicated.
+     * The {@code Idempotency-Key} header takes precedence when both are present.
+     */
+    @Size(max = 255)
+    private String idempotencyKey;
+
     public ScoreRequest() {
     }
 
@@ -52,4 +106,71 @@ public class ScoreRequest {
     public void setCorrectAnswers(Integer correctAnswers) {
         this.correctAnswers = correctAnswers;
     }
+
+    /**
+     * A request must carry either the answer counts or an answer vector.
+     */
+    @JsonIgnore
+    @AssertTrue(message = "either totalQuestions and correctAnswers or answers are required")
+    public boolean isScoreable() {
+        return answers != null || (totalQuestions != null && correctAnswers != null);
+    }
+
+    /**
+     * An answer vector is scored on its own, so counts or sections sent alongside it would be
+     * silently ignored.
+     */
+    @JsonIgnore
+    @AssertTrue(message = "answers cannot be combined with answer counts or sections")
+    public boolean isSingleForm() {
+        return answers == null || !hasCounts();
+    }
+
+    /**
+     * Whether any of the answer counts or the section breakdown is present.
+     */
+    @JsonIgnore
+    public boolean hasCounts() {
+        return totalQuestions != null || correctAnswers != null || incorrectAnswers != null || sections != null;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public Integer getIncorrectAnswers() {
+        return incorrectAnswers;
+    }
+
+    public void setIncorrectAnswers(Integer incorrectAnswers) {
+        this.incorrectAnswers = incorrectAnswers;
+    }
+
+    public String getAssessmentId() {
+        return assessmentId;
+    }
+
+    public void setAssessmentId(String assessmentId) {
+        this.assessmentId = assessmentId;
+    }
+
+    public List<SectionAnswers> getSections() {
+        return sections;
+    }
+
+    public void setSections(List<SectionAnswers> sections) {
+        this.sections = sections;
+    }
+
+    public int[] getAnswers() {
+        return answers;
+    }
+
+    public void setAnswers(int[] answers) {
+        this.answers = answers;
+    }
 }
@@ -11,6 +11,7 @@ public class ScoreResponse {
 
     private Long id;
     private String candidateId;
+    private String assessmentId;
     private double scoreValue;
     private int totalQuestions;
     private int correctAnswers;
@@ -36,6 +37,18 @@ public class ScoreResponse {
         this.asyncCalculation = asyncCalculation;
     }
 
+    public ScoreResponse(Long id,
+                         String candidateId,
+                         String assessmentId,
+                         double scoreValue,
+                         int totalQuestions,
+                         int correctAnswers,
+                         LocalDateTime calculatedAt,
+                         boolean asyncCalculation) {
+        this(id, candidateId, scoreValue, totalQuestions, correctAnswers, calculatedAt, asyncCalculation);
+        this.assessmentId = assessmentId;
+    }
+
     public static ScoreResponse fromEntity(Score score) {
         if (score == null) {
             return null;
@@ -43,6 +56,7 @@ public class ScoreResponse {
         return new ScoreResponse(
                 score.getId(),
                 score.getCandidateId(),
+                score.getAssessmentId(),
                 score.getScoreValue(),
                 score.getTotalQuestions(),
                 score.getCorrectAnswers(),
@@ -67,6 +81,14 @@ public class ScoreResponse {
         this.candidateId = candidateId;
     }
 
+    public String getAssessmentId() {
+        return assessmentId;
+    }
+
+    public void setAssessmentId(String assessmentId) {
+        this.assessmentId = assessmentId;
+    }
+
     public double getScoreValue() {
         return scoreValue;
     }
@@ -0,0 +1,131 @@
+package com.example.scoring.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Score distribution of a cohort over the retained time buckets.
+ */
+public class ScoreStatisticsResponse {
+
+    private String cohort;
+
+    /**
+     * Start of the oldest bucket included in the statistics.
+     */
+    private LocalDateTime windowStart;
+
+    /**
+     * End of the newest bucket included in the statistics.
+     */
+    private LocalDateTime windowEnd;
+
+    private long count;
+    private double mean;
+    private double standardDeviation;
+    private double min;
+    private double max;
+    private double p50;
+    private double p90;
+    private double p99;
+
+    /**
+     * Statistics of the requested candidate, if any.
+     */
+    private CandidateStatistics candidate;
+
+    public String getCohort() {
+        return cohort;
+    }
+
+    public void setCohort(String cohort) {
+        this.cohort = cohort;
+    }
+
+    public LocalDateTime getWindowStart() {
+        return windowStart;
+    }
+
+    public void setWindowStart(LocalDateTime windowStart) {
+        this.windowStart = windowStart;
+    }
+
+    public LocalDateTime getWindowEnd() {
+        return windowEnd;
+    }
+
+    public void setWindowEnd(LocalDateTime windowEnd) {
+        this.windowEnd = windowEnd;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public void setMean(double mean) {
+        this.mean = mean;
+    }
+
+    public double getStandardDeviation() {
+        return standardDeviation;
+    }
+
+    public void setStandardDeviation(double standardDeviation) {
+        this.standardDeviation = standardDeviation;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public void setMin(double min) {
+        this.min = min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public void setMax(double max) {
+        this.max = max;
+    }
+
+    public double getP50() {
+        return p50;
+    }
+
+    public void setP50(double p50) {
+        this.p50 = p50;
+    }
+
+    public double getP90() {
+        return p90;
+    }
+
+    public void setP90(double p90) {
+        this.p90 = p90;
+    }
+
+    public double getP99() {
+        return p99;
+    }
+
+    public void setP99(double p99) {
+        this.p99 = p99;
+    }
+
+    public CandidateStatistics getCandidate() {
+        return candidate;
+    }
+
+    public void setCandidate(CandidateStatistics candidate) {
+        this.candidate = candidate;
+    }
+}
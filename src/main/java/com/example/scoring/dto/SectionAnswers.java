@@ -0,0 +1,70 @@
+package com.example.scoring.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Answer counts of one section of an assessment.
+ */
+public class SectionAnswers {
+
+    @NotBlank
+    private String sectionId;
+
+    @NotNull
+    @Min(1)
+    private Integer totalQuestions;
+
+    @NotNull
+    @Min(0)
+    private Integer correctAnswers;
+
+    /**
+     * Answers given but wrong; defaults to all questions not answered correctly.
+     */
+    @Min(0)
+    private Integer incorrectAnswers;
+
+    public SectionAnswers() {
+    }
+
+    public SectionAnswers(String sectionId, Integer totalQuestions, Integer correctAnswers, Integer incorrectAnswers) {
+        this.sectionId = sectionId;
+        this.totalQuestions = totalQuestions;
+        this.correctAnswers = correctAnswers;
+        this.incorrectAnswers = incorrectAnswers;
+    }
+
+    public String getSectionId() {
+        return sectionId;
+    }
+
+    public void setSectionId(String sectionId) {
+        this.sectionId = sectionId;
+    }
+
+    public Integer getTotalQuestions() {
+        return totalQuestions;
+    }
+
+    public void setTotalQuestions(Integer totalQuestions) {
+        this.totalQuestions = totalQuestions;
+    }
+
+    public Integer getCorrectAnswers() {
+        return correctAnswers;
+    }
+
+    public void setCorrectAnswers(Integer correctAnswers) {
+        this.correctAnswers = correctAnswers;
+    }
+
+    public Integer getIncorrectAnswers() {
+        return incorrectAnswers;
+    }
+
+    public void setIncorrectAnswers(Integer incorrectAnswers) {
+        this.incorrectAnswers = incorrectAnswers;
+    }
+}
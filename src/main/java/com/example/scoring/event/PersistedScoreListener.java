@@ -0,0 +1,14 @@
+package com.example.scoring.event;
+
+import com.example.scoring.domain.Score;
+
+/**
+ * Callback for components that derive state from scores, invoked once a score has been
+ * committed to the configured score store.
+ *
+ * Listeners run on the writing thread, so they have to be fast and must not block.
+ */
+public interface PersistedScoreListener {
+
+    void onScorePersisted(Score score);
+}
@@ -0,0 +1,43 @@
+package com.example.scoring.event;
+
+import com.example.scoring.domain.Score;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Hands committed scores to every {@link PersistedScoreListener}.
+ *
+ * Called by all write paths (synchronous, write-behind and batch) after their transaction has
+ * committed. A failing listener is logged and skipped: derived state must never fail a write
+ * that has already been acknowledged by the database.
+ */
+@Component
+public class PersistedScoreNotifier {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PersistedScoreNotifier.class);
+
+    private final PersistedScoreListener[] listeners;
+
+    public PersistedScoreNotifier(List<PersistedScoreListener> listeners) {
+        this.listeners = listeners.toArray(new PersistedScoreListener[0]);
+    }
+
+    public void scorePersisted(Score score) {
+        for (PersistedScoreListener listener : listeners) {
+            try {
+                listener.onScorePersisted(score);
+            } catch (RuntimeException ex) {
+                LOGGER.warn("Listener {} failed for score id={}", listener.getClass().getSimpleName(), score.getId(), ex);
+            }
+        }
+    }
+
+    public void scoresPersisted(List<Score> scores) {
+        for (Score score : scores) {
+            scorePersisted(score);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.scoring.idempotency;
+
+import com.example.scoring.domain.Score;
+import com.example.scoring.job.ScoreJob;
+import com.example.scoring.job.ScoreJobProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Declares one idempotency store per scoring endpoint, so that a key used for a synchronous
+ * calculation does not collide with the same key used for an asynchronous one.
+ */
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfiguration {
+
+    @Bean
+    public IdempotencyStore<Score> syncScoreIdempotencyStore(IdempotencyProperties properties) {
+        return new IdempotencyStore<>(properties);
+    }
+
+    /**
+     * Replays the job of the original submission. The window is capped at the job TTL so that a
+     * replayed job id can still be looked up, and a job that fails is not replayed.
+     */
+    @Bean
+    public IdempotencyStore<ScoreJob> asyncScoreIdempotencyStore(IdempotencyProperties properties,
+                                                                 ScoreJobProperties jobProperties) {
+        Duration window = properties.getWindow().compareTo(jobProperties.getTtl()) > 0
+                ? jobProperties.getTtl()
+                : properties.getWindow();
+        return new IdempotencyStore<>(properties, window, ScoreJob::getCompletion);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.scoring.idempotency;
+
+/**
+ * Thrown when an idempotency key is reused for a request with a different payload.
+ */
+public class IdempotencyConflictException extends RuntimeException {
+
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
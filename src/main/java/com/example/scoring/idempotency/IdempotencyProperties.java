@@ -0,0 +1,39 @@
+package com.example.scoring.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the idempotency key stores, bound from {@code scoring.idempotency.*}.
+ */
+@ConfigurationProperties(prefix = "scoring.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * Maximum number of keys remembered per store; the oldest keys are forgotten first.
+     */
+    private int maxEntries = 100_000;
+
+    /**
+     * Time after the first submission during which a key is deduplicated. Asynchronous
+     * submissions use at most {@code scoring.jobs.ttl}, as their jobs are not kept longer.
+     */
+    private Duration window = Duration.ofHours(1);
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public void setWindow(Duration window) {
+        this.window = window;
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.scoring.idempotency;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, time-windowed store that deduplicates submissions carrying the same idempotency key.
+ *
+ * The first submission of a key starts the computation; every duplicate arriving while it is in
+ * flight or within the window afterwards receives the same future, so concurrent retries coalesce
+ * onto one computation (single-flight) and completed ones are answered from memory. Failed
+ * computations are forgotten so that the next retry runs again. A result that is only a handle
+ * to work still running (such as a job) can supply that work's outcome, and the key is likewise
+ * forgotten if the outcome fails.
+ *
+ * As in {@link com.example.scoring.job.ScoreJobRegistry}, all keys share one window, so insertion
+ * order is expiry order and expired or surplus keys are evicted from the head of a FIFO queue
+ * whenever a new key is stored.
+ *
+ * @param <T> type of the computation result
+ */
+public class IdempotencyStore<T> {
+
+    private final ConcurrentMap<String, Entry<T>> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry<T>> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final int maxEntries;
+    private final long windowNanos;
+    private final Function<? super T, ? extends CompletionStage<?>> outcome;
+
+    public IdempotencyStore(IdempotencyProperties properties) {
+        this(properties, properties.getWindow(), value -> null);
+    }
+
+    /**
+     * @param window  time after the first submission during which a key is deduplicated
+     * @param outcome returns the eventual outcome of the work behind a result, or {@code null}
+     *                if the result is final; a failed outcome makes the store forget the key
+     */
+    public IdempotencyStore(IdempotencyProperties properties,
+                            Duration window,
+                            Function<? super T, ? extends CompletionStage<?>> outcome) {
+        this.maxEntries = Math.max(1, properties.getMaxEntries());
+        this.windowNanos = window.toNanos();
+        this.outcome = outcome;
+    }
+
+    /**
+     * Returns the result of the computation registered under {@code key}, starting it if the key
+     * is unknown or its window has elapsed.
+     *
+     * @param key         client-supplied idempotency key
+     * @param fingerprint summary of the request payload; a duplicate with a different fingerprint
+     *                    is rejected with {@link IdempotencyConflictException}
+     * @param computation starts the computation; only invoked for the first submission of a key
+     */
+    public CompletableFuture<T> execute(String key, String fingerprint, Supplier<CompletableFuture<T>> computation) {
+        long now = System.nanoTime();
+        evict(now);
+
+        Entry<T> created = new Entry<>(key, fingerprint, now + windowNanos);
+        while (true) {
+            Entry<T> existing = entries.putIfAbsent(key, created);
+            if (existing == null) {
+                break;
+            }
+            if (!existing.isExpired(now)) {
+                if (!existing.fingerprint.equals(fingerprint)) {
+                    throw new IdempotencyConflictException(
+                            "Idempotency key '" + key + "' was already used for a different request");
+                }
+                return existing.result;
+            }
+            if (entries.replace(key, existing, created)) {
+                break;
+            }
+        }
+        insertionOrder.add(created);
+        size.incrementAndGet();
+
+        CompletableFuture<T> started;
+        try {
+            started = computation.get();
+        } catch (RuntimeException ex) {
+            entries.remove(key, created);
+            created.result.completeExceptionally(ex);
+            throw ex;
+        }
+        started.whenComplete((value, ex) -> {
+            if (ex != null) {
+                entries.remove(key, created);
+                created.result.completeExceptionally(ex);
+            } else {
+                created.result.complete(value);
+                forgetOnFailure(key, created, outcome.apply(value));
+            }
+        });
+        return created.result;
+    }
+
+    private void forgetOnFailure(String key, Entry<T> entry, CompletionStage<?> settled) {
+        if (settled != null) {
+            settled.whenComplete((ignored, ex) -> {
+                if (ex != null) {
+                    entries.remove(key, entry);
+                }
+            });
+        }
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    private void evict(long now) {
+        Entry<T> oldest;
+        while ((oldest = insertionOrder.peek()) != null
+                && (oldest.isExpired(now) || size.get() >= maxEntries)) {
+            Entry<T> evicted = insertionOrder.poll();
+            if (evicted != null) {
+                entries.remove(evicted.key, evicted);
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    private static final class Entry<T> {
+
+        private final String key;
+        private final String fingerprint;
+        private final long expiresAtNanos;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private Entry(String key, String fingerprint, long expiresAtNanos) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0L;
+        }
+    }
+}
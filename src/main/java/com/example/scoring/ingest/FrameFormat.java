@@ -0,0 +1,17 @@
+package com.example.scoring.ingest;
+
+/**
+ * Wire formats accepted by the ingestion endpoint. Both carry one JSON score request per frame.
+ */
+public enum FrameFormat {
+
+    /**
+     * Every frame is preceded by its payload length as a 4-byte big-endian integer.
+     */
+    LENGTH_PREFIXED,
+
+    /**
+     * Frames are separated by line feeds; blank lines are ignored.
+     */
+    NDJSON
+}
@@ -0,0 +1,12 @@
+package com.example.scoring.ingest;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the settings of the streaming ingestion endpoint.
+ */
+@Configuration
+@EnableConfigurationProperties(IngestionProperties.class)
+public class IngestionConfiguration {
+}
@@ -0,0 +1,110 @@
+package com.example.scoring.ingest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the streaming ingestion endpoint, bound from {@code scoring.ingest.*}.
+ */
+@ConfigurationProperties(prefix = "scoring.ingest")
+public class IngestionProperties {
+
+    /**
+     * Number of frames scored, persisted and acknowledged together.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Longest time a partial chunk waits for more frames before it is processed and
+     * acknowledged, so that a client waiting for acknowledgements is not stalled.
+     */
+    private Duration maxChunkDelay = Duration.ofMillis(50);
+
+    /**
+     * Chunks of one connection that may be processed concurrently. Once reached, the connection
+     * stops reading until the oldest chunk is acknowledged, which pushes back on the client
+     * through TCP flow control.
+     */
+    private int maxInFlightChunks = 4;
+
+    /**
+     * Acknowledgements of processed chunks that may wait to be written while the client is not
+     * reading them. Processed chunks beyond this count stay in flight, so a client that only
+     * reads acknowledgements after sending must keep its stream within about
+     * {@code (max-queued-acks + max-in-flight-chunks) * chunk-size} frames.
+     */
+    private int maxQueuedAcks = 1024;
+
+    /**
+     * Largest accepted frame payload in bytes; larger frames abort the stream.
+     */
+    private int maxFrameBytes = 64 * 1024;
+
+    /**
+     * Size of the per-connection read buffer. Raised to hold at least one maximal frame.
+     */
+    private int readBufferBytes = 64 * 1024;
+
+    /**
+     * Threads processing chunks, shared by all connections. Zero derives the value from the
+     * available processors.
+     */
+    private int workerThreads = 0;
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public Duration getMaxChunkDelay() {
+        return maxChunkDelay;
+    }
+
+    public void setMaxChunkDelay(Duration maxChunkDelay) {
+        this.maxChunkDelay = maxChunkDelay;
+    }
+
+    public int getMaxInFlightChunks() {
+        return maxInFlightChunks;
+    }
+
+    public void setMaxInFlightChunks(int maxInFlightChunks) {
+        this.maxInFlightChunks = maxInFlightChunks;
+    }
+
+    public int getMaxQueuedAcks() {
+        return maxQueuedAcks;
+    }
+
+    public void setMaxQueuedAcks(int maxQueuedAcks) {
+        this.maxQueuedAcks = maxQueuedAcks;
+    }
+
+    public int getMaxFrameBytes() {
+        return maxFrameBytes;
+    }
+
+    public void setMaxFrameBytes(int maxFrameBytes) {
+        this.maxFrameBytes = maxFrameBytes;
+    }
+
+    public int getReadBufferBytes() {
+        return readBufferBytes;
+    }
+
+    public void setReadBufferBytes(int readBufferBytes) {
+        this.readBufferBytes = readBufferBytes;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+}
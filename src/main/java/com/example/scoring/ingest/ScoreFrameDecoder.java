@@ -0,0 +1,135 @@
+package com.example.scoring.ingest;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Incremental frame splitter over a heap {@link ByteBuffer} in read mode.
+ *
+ * {@link #nextFrame(ByteBuffer)} consumes one complete frame if the buffer holds one and
+ * exposes its payload bounds within {@link ByteBuffer#array()}; incomplete frames are left in
+ * the buffer for the caller to compact and refill. No bytes are copied.
+ */
+final class ScoreFrameDecoder {
+
+    private static final int LENGTH_PREFIX_BYTES = Integer.BYTES;
+
+    private final FrameFormat format;
+    private final int maxFrameBytes;
+
+    /**
+     * Bytes after the buffer position already searched for a line feed without success.
+     */
+    private int scanned;
+    private int frameOffset;
+    private int frameLength;
+
+    ScoreFrameDecoder(FrameFormat format, int maxFrameBytes) {
+        this.format = format;
+        this.maxFrameBytes = maxFrameBytes;
+    }
+
+    /**
+     * Consumes the next complete frame.
+     *
+     * @return {@code true} if a frame was consumed, {@code false} if more input is needed
+     * @throws IllegalArgumentException if the stream violates the framing (e.g. oversized frames)
+     */
+    boolean nextFrame(ByteBuffer buffer) {
+        return format == FrameFormat.LENGTH_PREFIXED ? nextLengthPrefixed(buffer) : nextLine(buffer);
+    }
+
+    /**
+     * Consumes what is left once the input has ended: the last line of an NDJSON stream
+     * may lack its line feed.
+     *
+     * @return {@code true} if a final frame was consumed
+     * @throws IllegalArgumentException if the stream ends in the middle of a frame
+     */
+    boolean finish(ByteBuffer buffer) {
+        scanned = 0;
+        if (!buffer.hasRemaining()) {
+            return false;
+        }
+        if (format == FrameFormat.LENGTH_PREFIXED) {
+            throw new IllegalArgumentException("Stream ended inside a frame");
+        }
+        int start = buffer.position();
+        int end = buffer.limit();
+        buffer.position(end);
+        return setLine(buffer.array(), buffer.arrayOffset() + start, end - start);
+    }
+
+    int frameOffset() {
+        return frameOffset;
+    }
+
+    int frameLength() {
+        return frameLength;
+    }
+
+    private boolean nextLengthPrefixed(ByteBuffer buffer) {
+        if (buffer.remaining() < LENGTH_PREFIX_BYTES) {
+            return false;
+        }
+        int length = buffer.getInt(buffer.position());
+        if (length < 0 || length > maxFrameBytes) {
+            throw new IllegalArgumentException("Invalid frame length " + length);
+        }
+        if (buffer.remaining() < LENGTH_PREFIX_BYTES + length) {
+            return false;
+        }
+        frameOffset = buffer.arrayOffset() + buffer.position() + LENGTH_PREFIX_BYTES;
+        frameLength = length;
+        buffer.position(buffer.position() + LENGTH_PREFIX_BYTES + length);
+        return true;
+    }
+
+    private boolean nextLine(ByteBuffer buffer) {
+        byte[] array = buffer.array();
+        while (true) {
+            int start = buffer.position();
+            int end = buffer.limit();
+            int base = buffer.arrayOffset();
+            int newline = -1;
+            for (int i = start + scanned; i < end; i++) {
+                if (array[base + i] == '\n') {
+                    newline = i;
+                    break;
+                }
+            }
+            if (newline < 0) {
+                scanned = end - start;
+                if (scanned > maxFrameBytes) {
+                    throw new IllegalArgumentException("Line exceeds " + maxFrameBytes + " bytes");
+                }
+                return false;
+            }
+            scanned = 0;
+            buffer.position(newline + 1);
+            if (newline - start > maxFrameBytes) {
+                throw new IllegalArgumentException("Line exceeds " + maxFrameBytes + " bytes");
+            }
+            if (setLine(array, base + start, newline - start)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Sets the frame to the given line without its trailing carriage return, unless it is blank.
+     */
+    private boolean setLine(byte[] array, int offset, int length) {
+        if (length > 0 && array[offset + length - 1] == '\r') {
+            length--;
+        }
+        for (int i = offset; i < offset + length; i++) {
+            byte b = array[i];
+            if (b != ' ' && b != '\t') {
+                frameOffset = offset;
+                frameLength = length;
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,373 @@
+package com.example.scoring.ingest;
+
+import com.example.scoring.codec.ScoreRequestJsonReader;
+import com.example.scoring.dto.ScoreBatchItemResult;
+import com.example.scoring.dto.ScoreIngestionAck;
+import com.example.scoring.dto.ScoreRequest;
+import com.example.scoring.service.ScoreService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Decodes a stream of score request frames and feeds it to
+ * {@link ScoreService#calculateScoresBatch} chunk by chunk.
+ *
+ * The connection's thread reads into a fixed NIO buffer, splits it with
+ * {@link ScoreFrameDecoder} and parses every frame in place with
+ * {@link ScoreRequestJsonReader}. Full chunks are handed to a shared worker pool while
+ * decoding continues, and a partial chunk is handed over once its first frame has waited
+ * {@code max-chunk-delay}, so a client that waits for acknowledgements before sending more is
+ * not stalled. Once {@code max-in-flight-chunks} chunks of the connection are pending, the
+ * thread waits for the oldest one before reading on, so a fast client is slowed down by TCP
+ * flow control instead of by buffering.
+ *
+ * Chunks are acknowledged in stream order, one {@link ScoreIngestionAck} per chunk, as soon
+ * as the chunk and all chunks before it have been processed. A completed chunk's
+ * acknowledgement is queued, which frees its in-flight slot, and one thread at a time writes
+ * the queue out without holding the connection's monitor, so a write blocked on a client that
+ * is not reading does not stop the connection from decoding. Up to {@code max-queued-acks}
+ * acknowledgements are queued; beyond that, completed chunks keep their slots and reading
+ * stops, so a client that sends a longer stream must read acknowledgements while it sends.
+ *
+ * A frame that is not a valid request fails only its own index; a framing error ends the
+ * stream after the chunks decoded so far have been acknowledged.
+ */
+@Component
+public class ScoreIngestionPipeline {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScoreIngestionPipeline.class);
+
+    private static final ThreadLocal<ScoreRequestJsonReader> READERS =
+            ThreadLocal.withInitial(ScoreRequestJsonReader::new);
+
+    private final ScoreService scoreService;
+    private final int chunkSize;
+    private final int maxInFlightChunks;
+    private final int maxQueuedAcks;
+    private final long maxChunkDelayNanos;
+    private final int maxFrameBytes;
+    private final int readBufferBytes;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService chunkTimer;
+
+    public ScoreIngestionPipeline(ScoreService scoreService, IngestionProperties properties) {
+        this.scoreService = scoreService;
+        this.chunkSize = Math.max(1, properties.getChunkSize());
+        this.maxInFlightChunks = Math.max(1, properties.getMaxInFlightChunks());
+        this.maxQueuedAcks = Math.max(1, properties.getMaxQueuedAcks());
+        this.maxChunkDelayNanos = Math.max(1L, properties.getMaxChunkDelay().toNanos());
+        this.maxFrameBytes = properties.getMaxFrameBytes();
+        this.readBufferBytes = Math.max(properties.getReadBufferBytes(), maxFrameBytes + Integer.BYTES + 1);
+        int threads = properties.getWorkerThreads() > 0
+                ? properties.getWorkerThreads()
+                : Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "score-ingest-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.chunkTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "score-ingest-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        chunkTimer.shutdownNow();
+        workers.shutdown();
+    }
+
+    /**
+     * Consumes the channel to its end and acknowledges every frame.
+     *
+     * @param in   request body
+     * @param acks receiver of the acknowledgements, called by one thread at a time but not
+     *             necessarily the calling one; all calls have returned when this method returns
+     * @return number of frames read
+     */
+    public long ingest(ReadableByteChannel in, FrameFormat format, Consumer<ScoreIngestionAck> acks)
+            throws IOException {
+        ScoreFrameDecoder decoder = new ScoreFrameDecoder(format, maxFrameBytes);
+        ByteBuffer buffer = ByteBuffer.allocate(readBufferBytes);
+        ScoreRequestJsonReader reader = READERS.get();
+        Connection connection = new Connection(acks);
+        long nextIndex = 0L;
+
+        try {
+            while (true) {
+                connection.awaitCapacity();
+                int read = in.read(buffer);
+                buffer.flip();
+                while (decoder.nextFrame(buffer) || (read < 0 && decoder.finish(buffer))) {
+                    connection.add(nextIndex++, buffer.array(), decoder.frameOffset(), decoder.frameLength(), reader);
+                }
+                if (read < 0) {
+                    break;
+                }
+                buffer.compact();
+            }
+        } catch (IllegalArgumentException ex) {
+            LOGGER.warn("Ingestion stream aborted after {} frames: {}", nextIndex, ex.getMessage());
+            connection.finish(ScoreIngestionAck.aborted(nextIndex - 1, "Malformed stream: " + ex.getMessage()));
+            return nextIndex;
+        } catch (IOException | RuntimeException ex) {
+            connection.abandon();
+            throw ex;
+        }
+        connection.finish(null);
+        LOGGER.debug("Ingested {} frames", nextIndex);
+        return nextIndex;
+    }
+
+    /**
+     * Per-connection state: the chunk being filled, the chunks being processed and the
+     * acknowledgements waiting to be sent, guarded by the connection's monitor.
+     */
+    private final class Connection {
+
+        private final Consumer<ScoreIngestionAck> acks;
+        private final Deque<CompletableFuture<ScoreIngestionAck>> inFlight = new ArrayDeque<>(maxInFlightChunks + 1);
+        private final Deque<ScoreIngestionAck> unsent = new ArrayDeque<>();
+        private Chunk chunk = new Chunk(0L, chunkSize);
+        private ScheduledFuture<?> chunkDeadline;
+        private RuntimeException ackFailure;
+        /**
+         * Whether a thread is writing acknowledgements; only that thread calls {@link #acks}.
+         */
+        private boolean sending;
+
+        private Connection(Consumer<ScoreIngestionAck> acks) {
+            this.acks = acks;
+        }
+
+        /**
+         * Adds a frame to the current chunk, handing the chunk over when it is full and then
+         * waiting for capacity before decoding on.
+         */
+        private synchronized void add(long index, byte[] array, int offset, int length, ScoreRequestJsonReader reader) {
+            chunk.add(index, array, offset, length, reader);
+            if (chunk.size() == chunkSize) {
+                submit();
+                awaitCapacity();
+            } else if (chunk.size() == 1) {
+                Chunk pending = chunk;
+                chunkDeadline = chunkTimer.schedule(() -> submitIfPending(pending), maxChunkDelayNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private synchronized void submitIfPending(Chunk pending) {
+            if (chunk == pending) {
+                submit();
+            }
+        }
+
+        private void submit() {
+            if (chunkDeadline != null) {
+                chunkDeadline.cancel(false);
+                chunkDeadline = null;
+            }
+            if (chunk.size() == 0) {
+                return;
+            }
+            Chunk submitted = chunk;
+            chunk = new Chunk(submitted.lastIndex() + 1, chunkSize);
+            CompletableFuture<ScoreIngestionAck> processed = CompletableFuture.supplyAsync(() -> process(submitted), workers);
+            inFlight.addLast(processed);
+            // Never on the calling thread, which holds the monitor and must not block on a write.
+            processed.whenCompleteAsync((ack, failure) -> sendCompletedAcks(), workers);
+        }
+
+        /**
+         * Queues the acknowledgements of the completed chunks at the head of the in-flight queue
+         * and, unless another thread is already doing so, sends queued acknowledgements until
+         * none is left. Sending happens outside the monitor. A failure to send one stops all
+         * further acknowledgements and is rethrown to the reading thread.
+         */
+        private void sendCompletedAcks() {
+            synchronized (this) {
+                queueCompletedAcks();
+                if (sending || ackFailure != null) {
+                    return;
+                }
+                sending = true;
+            }
+            while (true) {
+                ScoreIngestionAck ack;
+                synchronized (this) {
+                    queueCompletedAcks();
+                    ack = ackFailure == null ? unsent.pollFirst() : null;
+                    if (ack == null) {
+                        sending = false;
+                        notifyAll();
+                        return;
+                    }
+                }
+                try {
+                    acks.accept(ack);
+                } catch (RuntimeException ex) {
+                    synchronized (this) {
+                        ackFailure = ex;
+                        sending = false;
+                        notifyAll();
+                    }
+                    return;
+                }
+            }
+        }
+
+        private void queueCompletedAcks() {
+            boolean freed = false;
+            while (unsent.size() < maxQueuedAcks && !inFlight.isEmpty() && inFlight.peekFirst().isDone()) {
+                unsent.addLast(inFlight.removeFirst().join());
+                freed = true;
+            }
+            if (freed) {
+                notifyAll();
+            }
+        }
+
+        /**
+         * Waits until the connection may read on: fewer than {@code max-in-flight-chunks} chunks
+         * are pending, or acknowledgements can no longer be sent.
+         */
+        private synchronized void awaitCapacity() {
+            try {
+                while (ackFailure == null && inFlight.size() >= maxInFlightChunks) {
+                    wait();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for ingestion chunks", ex);
+            }
+            if (ackFailure != null) {
+                throw ackFailure;
+            }
+        }
+
+        /**
+         * Submits the last chunk, waits until all chunks have been acknowledged and then sends
+         * the given final acknowledgement, if any.
+         */
+        private void finish(ScoreIngestionAck last) {
+            synchronized (this) {
+                submit();
+                try {
+                    while (ackFailure == null && (!inFlight.isEmpty() || !unsent.isEmpty() || sending)) {
+                        wait();
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for ingestion chunks", ex);
+                }
+                if (ackFailure != null) {
+                    throw ackFailure;
+                }
+            }
+            if (last != null) {
+                acks.accept(last);
+            }
+        }
+
+        /**
+         * Stops sending acknowledgements after the stream failed and waits for a write in
+         * progress; pending chunks are still processed.
+         */
+        private synchronized void abandon() {
+            if (chunkDeadline != null) {
+                chunkDeadline.cancel(false);
+            }
+            if (ackFailure == null) {
+                ackFailure = new IllegalStateException("Ingestion stream failed");
+            }
+            try {
+                while (sending) {
+                    wait();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private ScoreIngestionAck process(Chunk chunk) {
+        List<ScoreBatchItemResult> failures = new ArrayList<>(chunk.failures);
+        int[] accepted = new int[1];
+        try {
+            scoreService.calculateScoresBatch(chunk.requests.iterator(), result -> {
+                long index = chunk.indices[(int) result.getIndex()];
+                if (ScoreBatchItemResult.STATUS_OK.equals(result.getStatus())) {
+                    accepted[0]++;
+                } else {
+                    failures.add(ScoreBatchItemResult.failure(index, result.getError()));
+                }
+            });
+        } catch (RuntimeException ex) {
+            LOGGER.error("Failed to process ingestion frames {} to {}", chunk.firstIndex, chunk.lastIndex(), ex);
+            failures.clear();
+            for (long index = chunk.firstIndex; index <= chunk.lastIndex(); index++) {
+                failures.add(ScoreBatchItemResult.failure(index, "Failed to process frame"));
+            }
+            accepted[0] = 0;
+        }
+        failures.sort(Comparator.comparingLong(ScoreBatchItemResult::getIndex));
+        return new ScoreIngestionAck(chunk.firstIndex, chunk.lastIndex(), accepted[0], failures);
+    }
+
+    /**
+     * Frames of one chunk: the parsed requests with their stream indices, and the frames that
+     * could not be parsed.
+     */
+    private static final class Chunk {
+
+        private final long firstIndex;
+        private final List<ScoreRequest> requests;
+        private final long[] indices;
+        private final List<ScoreBatchItemResult> failures = new ArrayList<>();
+
+        private Chunk(long firstIndex, int capacity) {
+            this.firstIndex = firstIndex;
+            this.requests = new ArrayList<>(capacity);
+            this.indices = new long[capacity];
+        }
+
+        private void add(long index, byte[] array, int offset, int length, ScoreRequestJsonReader reader) {
+            try {
+                ScoreRequest request = reader.read(array, offset, length);
+                indices[requests.size()] = index;
+                requests.add(request);
+            } catch (IllegalArgumentException ex) {
+                failures.add(ScoreBatchItemResult.failure(index, "Malformed frame: " + ex.getMessage()));
+            }
+        }
+
+        private int size() {
+            return requests.size() + failures.size();
+        }
+
+        private long lastIndex() {
+            return firstIndex + size() - 1;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.scoring.job;
+
+import com.example.scoring.domain.Score;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Tracking entry for a single asynchronous score calculation.
+ */
+public final class ScoreJob {
+
+    private final String id;
+    private final String candidateId;
+    private final Instant submittedAt;
+    private final long expiresAtNanos;
+    private final CompletableFuture<Score> completion;
+
+    ScoreJob(String id, String candidateId, Instant submittedAt, long expiresAtNanos, CompletableFuture<Score> completion) {
+        this.id = id;
+        this.candidateId = candidateId;
+        this.submittedAt = submittedAt;
+        this.expiresAtNanos = expiresAtNanos;
+        this.completion = completion;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public Instant getSubmittedAt() {
+        return submittedAt;
+    }
+
+    /**
+     * Future completing when the calculation finishes; used for long-polling.
+     */
+    public CompletableFuture<Score> getCompletion() {
+        return completion;
+    }
+
+    public ScoreJobStatus getStatus() {
+        if (!completion.isDone()) {
+            return ScoreJobStatus.PENDING;
+        }
+        return completion.isCompletedExceptionally() ? ScoreJobStatus.FAILED : ScoreJobStatus.COMPLETED;
+    }
+
+    /**
+     * Calculated score, or {@code null} while pending or after a failure.
+     */
+    public Score getResult() {
+        return getStatus() == ScoreJobStatus.COMPLETED ? completion.join() : null;
+    }
+
+    /**
+     * Failure message, or {@code null} unless the job failed.
+     */
+    public String getError() {
+        if (getStatus() != ScoreJobStatus.FAILED) {
+            return null;
+        }
+        Throwable failure = completion.handle((score, ex) -> ex).join();
+        while ((failure instanceof CompletionException || failure instanceof ExecutionException)
+                && failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        return failure.getMessage();
+    }
+
+    boolean isExpired(long nowNanos) {
+        return nowNanos - expiresAtNanos >= 0L;
+    }
+}
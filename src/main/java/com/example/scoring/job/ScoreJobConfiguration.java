@@ -0,0 +1,12 @@
+package com.example.scoring.job;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the settings of the async score job registry.
+ */
+@Configuration
+@EnableConfigurationProperties(ScoreJobProperties.class)
+public class ScoreJobConfiguration {
+}
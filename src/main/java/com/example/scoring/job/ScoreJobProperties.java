@@ -0,0 +1,52 @@
+package com.example.scoring.job;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the in-memory job table for asynchronous calculations, bound from
+ * {@code scoring.jobs.*}.
+ */
+@ConfigurationProperties(prefix = "scoring.jobs")
+public class ScoreJobProperties {
+
+    /**
+     * Maximum number of tracked jobs; the oldest ones are evicted beyond this.
+     */
+    private int maxJobs = 100_000;
+
+    /**
+     * How long a job stays visible after submission.
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /**
+     * Upper bound for the long-poll wait requested by clients.
+     */
+    private Duration maxWait = Duration.ofSeconds(30);
+
+    public int getMaxJobs() {
+        return maxJobs;
+    }
+
+    public void setMaxJobs(int maxJobs) {
+        this.maxJobs = maxJobs;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+}
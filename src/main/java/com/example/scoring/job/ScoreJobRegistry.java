@@ -0,0 +1,80 @@
+package com.example.scoring.job;
+
+import com.example.scoring.domain.Score;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded, in-memory table of asynchronous score calculation jobs.
+ *
+ * Lookups are a single hash map access. Jobs expire a fixed TTL after submission and,
+ * since all jobs share that TTL, submission order is also expiry order: expired and
+ * surplus jobs are evicted from the head of a FIFO queue whenever a new job is tracked,
+ * so no background sweeper is needed.
+ */
+@Component
+public class ScoreJobRegistry {
+
+    private final ConcurrentMap<String, ScoreJob> jobs = new ConcurrentHashMap<>();
+    private final Queue<ScoreJob> submissionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final int maxJobs;
+    private final long ttlNanos;
+
+    public ScoreJobRegistry(ScoreJobProperties properties) {
+        this.maxJobs = Math.max(1, properties.getMaxJobs());
+        this.ttlNanos = properties.getTtl().toNanos();
+    }
+
+    /**
+     * Starts tracking the given calculation and returns its job entry.
+     */
+    public ScoreJob track(String candidateId, CompletableFuture<Score> completion) {
+        long now = System.nanoTime();
+        evict(now);
+
+        ScoreJob job = new ScoreJob(UUID.randomUUID().toString(), candidateId, Instant.now(), now + ttlNanos, completion);
+        jobs.put(job.getId(), job);
+        submissionOrder.add(job);
+        size.incrementAndGet();
+        return job;
+    }
+
+    /**
+     * Looks up a job that has not yet expired or been evicted.
+     */
+    public Optional<ScoreJob> find(String jobId) {
+        ScoreJob job = jobs.get(jobId);
+        if (job == null) {
+            return Optional.empty();
+        }
+        if (job.isExpired(System.nanoTime())) {
+            return Optional.empty();
+        }
+        return Optional.of(job);
+    }
+
+    private void evict(long now) {
+        ScoreJob oldest;
+        while ((oldest = submissionOrder.peek()) != null
+                && (oldest.isExpired(now) || size.get() >= maxJobs)) {
+            // Under contention another thread may have polled the head already; whichever
+            // job is returned here is still the oldest remaining one.
+            ScoreJob evicted = submissionOrder.poll();
+            if (evicted != null) {
+                jobs.remove(evicted.getId(), evicted);
+                size.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.scoring.job;
+
+/**
+ * Lifecycle states of an asynchronous score calculation job.
+ */
+public enum ScoreJobStatus {
+    PENDING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,201 @@
+package com.example.scoring.monitoring;
+
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Array;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Renders join point arguments for {@code [SERVICE-ENTRY]} log lines.
+ *
+ * Rendering happens into a per-thread {@link BoundedTextBuffer} capped at
+ * {@link #MAX_ARGUMENT_LOG_LENGTH} characters and stops as soon as the cap is hit.
+ * Types with a registered {@link ArgumentRenderer} are rendered by that hook. Arrays,
+ * collections and maps are expanded element by element, and numbers, booleans, characters,
+ * enums, UUIDs and temporal values through {@link String#valueOf(Object)}, since their
+ * {@code toString()} is short. Any other type is rendered as its simple class name only,
+ * because its {@code toString()} could build an arbitrarily large string before the cap
+ * applies. Callers are expected to invoke this only once they know the log line will be
+ * emitted.
+ */
+@Component
+public class ArgumentFormatter {
+
+    static final int MAX_ARGUMENT_LOG_LENGTH = 500;
+
+    private static final ArgumentRenderer<Object> NO_RENDERER = new ArgumentRenderer<>() {
+        @Override
+        public Class<Object> type() {
+            return Object.class;
+        }
+
+        @Override
+        public void render(Object value, BoundedTextBuffer out) {
+            out.append(value.getClass().getSimpleName());
+        }
+    };
+
+    private static final ThreadLocal<BoundedTextBuffer> BUFFER =
+            ThreadLocal.withInitial(() -> new BoundedTextBuffer(MAX_ARGUMENT_LOG_LENGTH));
+
+    private final Map<Class<?>, ArgumentRenderer<?>> registeredRenderers = new HashMap<>();
+
+    private final ClassValue<ArgumentRenderer<Object>> renderersByType = new ClassValue<>() {
+        @Override
+        protected ArgumentRenderer<Object> computeValue(Class<?> type) {
+            return findRenderer(type);
+        }
+    };
+
+    public ArgumentFormatter(List<ArgumentRenderer<?>> renderers) {
+        for (ArgumentRenderer<?> renderer : renderers) {
+            registeredRenderers.put(renderer.type(), renderer);
+        }
+    }
+
+    /**
+     * Renders the arguments according to the given policy.
+     */
+    public String format(Object[] args, ArgumentRenderingPolicy policy) {
+        if (policy == ArgumentRenderingPolicy.NONE) {
+            return "[omitted]";
+        }
+        if (args == null || args.length == 0) {
+            return "[]";
+        }
+        BoundedTextBuffer out = BUFFER.get();
+        out.reset(MAX_ARGUMENT_LOG_LENGTH);
+        out.append('[');
+        for (int i = 0; i < args.length && !out.isFull(); i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            if (policy == ArgumentRenderingPolicy.TYPES_ONLY) {
+                out.append(args[i] == null ? "null" : args[i].getClass().getSimpleName());
+            } else {
+                renderValue(args[i], out);
+            }
+        }
+        out.append(']');
+        return out.toString();
+    }
+
+    private void renderValue(Object value, BoundedTextBuffer out) {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        ArgumentRenderer<Object> renderer = renderersByType.get(value.getClass());
+        if (renderer != NO_RENDERER) {
+            renderer.render(value, out);
+        } else if (value instanceof CharSequence text) {
+            out.append(text);
+        } else if (isScalar(value)) {
+            out.append(String.valueOf(value));
+        } else if (value instanceof Collection<?> collection) {
+            renderElements(collection.iterator(), out);
+        } else if (value instanceof Map<?, ?> map) {
+            renderEntries(map, out);
+        } else if (value instanceof Object[] array) {
+            renderArray(array, out);
+        } else if (value instanceof int[] ints) {
+            out.append('[');
+            for (int i = 0; i < ints.length && !out.isFull(); i++) {
+                if (i > 0) {
+                    out.append(", ");
+                }
+                out.append(ints[i]);
+            }
+            out.append(']');
+        } else if (value instanceof long[] longs) {
+            out.append('[');
+            for (int i = 0; i < longs.length && !out.isFull(); i++) {
+                if (i > 0) {
+                    out.append(", ");
+                }
+                out.append(longs[i]);
+            }
+            out.append(']');
+        } else if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            out.append('[');
+            for (int i = 0; i < length && !out.isFull(); i++) {
+                if (i > 0) {
+                    out.append(", ");
+                }
+                out.append(String.valueOf(Array.get(value, i)));
+            }
+            out.append(']');
+        } else {
+            NO_RENDERER.render(value, out);
+        }
+    }
+
+    private void renderElements(Iterator<?> elements, BoundedTextBuffer out) {
+        out.append('[');
+        for (int i = 0; elements.hasNext() && !out.isFull(); i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            renderValue(elements.next(), out);
+        }
+        out.append(']');
+    }
+
+    private void renderEntries(Map<?, ?> map, BoundedTextBuffer out) {
+        out.append('{');
+        Iterator<? extends Map.Entry<?, ?>> entries = map.entrySet().iterator();
+        for (int i = 0; entries.hasNext() && !out.isFull(); i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            Map.Entry<?, ?> entry = entries.next();
+            renderValue(entry.getKey(), out);
+            out.append('=');
+            renderValue(entry.getValue(), out);
+        }
+        out.append('}');
+    }
+
+    private void renderArray(Object[] array, BoundedTextBuffer out) {
+        out.append('[');
+        for (int i = 0; i < array.length && !out.isFull(); i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            renderValue(array[i], out);
+        }
+        out.append(']');
+    }
+
+    private static boolean isScalar(Object value) {
+        return value instanceof Number
+                || value instanceof Boolean
+                || value instanceof Character
+                || value instanceof Enum<?>
+                || value instanceof UUID
+                || value instanceof TemporalAccessor;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentRenderer<Object> findRenderer(Class<?> type) {
+        for (Class<?> candidate = type; candidate != null; candidate = candidate.getSuperclass()) {
+            ArgumentRenderer<?> renderer = registeredRenderers.get(candidate);
+            if (renderer != null) {
+                return (ArgumentRenderer<Object>) renderer;
+            }
+        }
+        for (Map.Entry<Class<?>, ArgumentRenderer<?>> entry : registeredRenderers.entrySet()) {
+            if (entry.getKey().isAssignableFrom(type)) {
+                return (ArgumentRenderer<Object>) entry.getValue();
+            }
+        }
+        return NO_RENDERER;
+    }
+}
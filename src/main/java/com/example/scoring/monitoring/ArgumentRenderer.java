@@ -0,0 +1,17 @@
+package com.example.scoring.monitoring;
+
+/**
+ * Hook for rendering (and redacting) arguments of a specific type in service entry logs.
+ *
+ * Implementations registered as Spring beans are picked up by {@link ArgumentFormatter}
+ * and apply to the given type and its subtypes. Renderers should write directly into the
+ * supplied buffer and may stop early once {@link BoundedTextBuffer#isFull()} returns true.
+ *
+ * @param <T> argument type handled by this renderer
+ */
+public interface ArgumentRenderer<T> {
+
+    Class<T> type();
+
+    void render(T value, BoundedTextBuffer out);
+}
@@ -0,0 +1,22 @@
+package com.example.scoring.monitoring;
+
+/**
+ * Controls how the arguments of a monitored method appear in {@code [SERVICE-ENTRY]} log lines.
+ */
+public enum ArgumentRenderingPolicy {
+
+    /**
+     * Render the argument values.
+     */
+    FULL,
+
+    /**
+     * Render only the simple type name of each argument.
+     */
+    TYPES_ONLY,
+
+    /**
+     * Do not render arguments at all.
+     */
+    NONE
+}
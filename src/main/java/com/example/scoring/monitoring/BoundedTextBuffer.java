@@ -0,0 +1,89 @@
+package com.example.scoring.monitoring;
+
+/**
+ * Reusable character buffer with a hard length limit, used to render log arguments.
+ *
+ * Appends beyond the limit are cut off and only mark the buffer as truncated, so callers
+ * can check {@link #isFull()} and stop producing text as soon as the cap is reached
+ * instead of building a complete string and trimming it afterwards.
+ */
+public final class BoundedTextBuffer {
+
+    static final String TRUNCATION_MARKER = "... (truncated)";
+
+    private static final int MAX_NUMBER_LENGTH = 32;
+
+    private final StringBuilder builder;
+    private int limit;
+    private boolean truncated;
+
+    BoundedTextBuffer(int limit) {
+        this.builder = new StringBuilder(limit + TRUNCATION_MARKER.length());
+        this.limit = limit;
+    }
+
+    void reset(int newLimit) {
+        builder.setLength(0);
+        limit = newLimit;
+        truncated = false;
+    }
+
+    /**
+     * Whether the length limit has been reached; further appends will be discarded.
+     */
+    public boolean isFull() {
+        return builder.length() >= limit;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public BoundedTextBuffer append(CharSequence text) {
+        CharSequence value = text == null ? "null" : text;
+        int remaining = limit - builder.length();
+        if (value.length() <= remaining) {
+            builder.append(value);
+        } else {
+            if (remaining > 0) {
+                builder.append(value, 0, remaining);
+            }
+            truncated = true;
+        }
+        return this;
+    }
+
+    public BoundedTextBuffer append(char value) {
+        if (builder.length() < limit) {
+            builder.append(value);
+        } else {
+            truncated = true;
+        }
+        return this;
+    }
+
+    public BoundedTextBuffer append(long value) {
+        if (limit - builder.length() >= MAX_NUMBER_LENGTH) {
+            builder.append(value);
+            return this;
+        }
+        return append(Long.toString(value));
+    }
+
+    public BoundedTextBuffer append(double value) {
+        if (limit - builder.length() >= MAX_NUMBER_LENGTH) {
+            builder.append(value);
+            return this;
+        }
+        return append(Double.toString(value));
+    }
+
+    public BoundedTextBuffer append(boolean value) {
+        return append(value ? "true" : "false");
+    }
+
+    @Override
+    public String toString() {
+        return truncated ? builder + TRUNCATION_MARKER : builder.toString();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.scoring.monitoring;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of {@link CacheStatistics} for the application's in-process caches.
+ */
+@Component
+public class CacheMetrics {
+
+    private final ConcurrentMap<String, CacheStatistics> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the statistics of the named cache, creating them on first use.
+     */
+    public CacheStatistics register(String cacheName) {
+        return caches.computeIfAbsent(cacheName, CacheStatistics::new);
+    }
+
+    public Map<String, CacheStatistics> snapshot() {
+        return new TreeMap<>(caches);
+    }
+}
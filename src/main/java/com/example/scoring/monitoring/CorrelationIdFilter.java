@@ -0,0 +1,49 @@
+package com.example.scoring.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Binds a {@link RequestTimingContext} to every HTTP request, before any other filter runs.
+ *
+ * The correlation id is taken from the {@value #CORRELATION_ID_HEADER} request header when it
+ * is well-formed (up to 64 letters, digits, dots, underscores or dashes) and generated
+ * otherwise; either way it is echoed in the response header of the same name.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+
+    private static final Pattern VALID_CORRELATION_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long acceptedAtNanos = System.nanoTime();
+        String correlationId = request.getHeader(CORRELATION_ID_HEADER);
+        if (correlationId == null || !VALID_CORRELATION_ID.matcher(correlationId).matches()) {
+            correlationId = UUID.randomUUID().toString();
+        }
+        response.setHeader(CORRELATION_ID_HEADER, correlationId);
+
+        RequestTimingContext context = new RequestTimingContext(correlationId, acceptedAtNanos);
+        RequestTimingContext previous = RequestTimingContext.bind(context);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestTimingContext.restore(previous);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.scoring.monitoring;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, log-linear latency histogram with nanosecond resolution, modelled on
+ * the HdrHistogram bucket layout.
+ *
+ * Values below {@value #SUB_BUCKET_COUNT} ns are counted exactly; larger values fall
+ * into buckets whose width doubles every {@value #SUB_BUCKET_HALF} buckets, which keeps
+ * the relative error below 1/64 across the whole range. Values above
+ * {@link #MAX_TRACKABLE_NANOS} are clamped into the last bucket.
+ *
+ * Recording is lock-free and allocation-free: every writer thread is mapped onto one of
+ * a fixed number of stripes, each backed by its own {@link AtomicLongArray}, so that
+ * concurrent service calls do not contend on the same cache lines. Stripes are merged
+ * only when a snapshot is taken.
+ */
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKET_HALF_BITS = 6;
+    static final int SUB_BUCKET_HALF = 1 << SUB_BUCKET_HALF_BITS;
+    static final int SUB_BUCKET_COUNT = SUB_BUCKET_HALF << 1;
+
+    /**
+     * Largest value tracked with full precision (~68.7 seconds).
+     */
+    public static final long MAX_TRACKABLE_NANOS = (1L << 36) - 1;
+
+    static final int BUCKET_COUNT = bucketIndex(MAX_TRACKABLE_NANOS) + 1;
+
+    private static final int COUNT_SLOT = BUCKET_COUNT;
+    private static final int SUM_SLOT = BUCKET_COUNT + 1;
+    private static final int MAX_SLOT = BUCKET_COUNT + 2;
+    private static final int STRIPE_LENGTH = BUCKET_COUNT + 3;
+
+    private final AtomicLongArray[] stripes;
+    private final int stripeMask;
+
+    public LatencyHistogram(int stripeCount) {
+        int normalized = Integer.highestOneBit(Math.max(1, stripeCount));
+        if (normalized < stripeCount) {
+            normalized <<= 1;
+        }
+        this.stripes = new AtomicLongArray[normalized];
+        for (int i = 0; i < normalized; i++) {
+            stripes[i] = new AtomicLongArray(STRIPE_LENGTH);
+        }
+        this.stripeMask = normalized - 1;
+    }
+
+    /**
+     * Records a single latency observation. Negative values are treated as zero.
+     */
+    public void record(long durationNanos) {
+        long value = durationNanos < 0L ? 0L : Math.min(durationNanos, MAX_TRACKABLE_NANOS);
+        AtomicLongArray stripe = stripes[(int) Thread.currentThread().getId() & stripeMask];
+        stripe.incrementAndGet(bucketIndex(value));
+        stripe.incrementAndGet(COUNT_SLOT);
+        stripe.addAndGet(SUM_SLOT, value);
+        long currentMax = stripe.get(MAX_SLOT);
+        while (value > currentMax && !stripe.compareAndSet(MAX_SLOT, currentMax, value)) {
+            currentMax = stripe.get(MAX_SLOT);
+        }
+    }
+
+    /**
+     * Clears all recorded values. Observations racing with the reset may be lost,
+     * which is acceptable for monitoring purposes.
+     */
+    public void reset() {
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < STRIPE_LENGTH; i++) {
+                stripe.set(i, 0L);
+            }
+        }
+    }
+
+    /**
+     * Merges all stripes and computes summary statistics for the recorded values.
+     */
+    public LatencySnapshot snapshot(String name, long windowStartEpochMillis, long windowEndEpochMillis) {
+        long[] counts = new long[BUCKET_COUNT];
+        long totalCount = 0L;
+        long sum = 0L;
+        long max = 0L;
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts[i] += stripe.get(i);
+            }
+            totalCount += stripe.get(COUNT_SLOT);
+            sum += stripe.get(SUM_SLOT);
+            max = Math.max(max, stripe.get(MAX_SLOT));
+        }
+        if (totalCount == 0L) {
+            return LatencySnapshot.empty(name, windowStartEpochMillis, windowEndEpochMillis);
+        }
+        return new LatencySnapshot(
+                name,
+                windowStartEpochMillis,
+                windowEndEpochMillis,
+                totalCount,
+                (double) sum / totalCount,
+                max,
+                valueAtPercentile(counts, totalCount, max, 50.0),
+                valueAtPercentile(counts, totalCount, max, 90.0),
+                valueAtPercentile(counts, totalCount, max, 99.0),
+                valueAtPercentile(counts, totalCount, max, 99.9)
+        );
+    }
+
+    /**
+     * Merges all stripes and returns, for every given upper bound, the number of recorded
+     * values at or below it, followed by the total number of values. Bounds must be ascending;
+     * a value counts towards a bound when its whole bucket lies at or below the bound.
+     */
+    public long[] cumulativeCounts(long[] upperBoundsNanos) {
+        long[] cumulative = new long[upperBoundsNanos.length + 1];
+        long running = 0L;
+        int bound = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long highest = highestEquivalentValue(i);
+            while (bound < upperBoundsNanos.length && highest > upperBoundsNanos[bound]) {
+                cumulative[bound++] = running;
+            }
+            for (AtomicLongArray stripe : stripes) {
+                running += stripe.get(i);
+            }
+        }
+        while (bound < upperBoundsNanos.length) {
+            cumulative[bound++] = running;
+        }
+        cumulative[upperBoundsNanos.length] = running;
+        return cumulative;
+    }
+
+    /**
+     * Sum of all recorded values, in nanoseconds.
+     */
+    public long sum() {
+        long sum = 0L;
+        for (AtomicLongArray stripe : stripes) {
+            sum += stripe.get(SUM_SLOT);
+        }
+        return sum;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_HALF_BITS;
+        return (shift << SUB_BUCKET_HALF_BITS) + (int) (value >>> shift);
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_HALF_BITS) - 1;
+        long mantissa = (index & (SUB_BUCKET_HALF - 1)) + SUB_BUCKET_HALF;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    private static long valueAtPercentile(long[] counts, long totalCount, long max, double percentile) {
+        long target = Math.max(1L, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long cumulative = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= target) {
+                return Math.min(highestEquivalentValue(i), max);
+            }
+        }
+        return max;
+    }
+}
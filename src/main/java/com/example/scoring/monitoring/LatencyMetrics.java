@@ -0,0 +1,55 @@
+package com.example.scoring.monitoring;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of per-operation latency recorders fed by the monitoring aspect.
+ *
+ * Recorders are created on first use and live for the lifetime of the application.
+ * Snapshots can be taken at any time without blocking writers.
+ */
+@Component
+public class LatencyMetrics {
+
+    private final ConcurrentMap<String, RollingLatencyRecorder> recorders = new ConcurrentHashMap<>();
+
+    private final long windowNanos;
+    private final int stripeCount;
+
+    public LatencyMetrics(MonitoringProperties properties) {
+        this.windowNanos = properties.getHistogramWindow().toNanos();
+        this.stripeCount = properties.getHistogramStripes() > 0
+                ? properties.getHistogramStripes()
+                : Math.min(Runtime.getRuntime().availableProcessors(), 16);
+    }
+
+    /**
+     * Returns the recorder for the given operation, creating it if necessary.
+     */
+    public RollingLatencyRecorder recorder(String name) {
+        return recorders.computeIfAbsent(name, key -> new RollingLatencyRecorder(key, windowNanos, stripeCount));
+    }
+
+    /**
+     * Snapshots of the windows currently being recorded, keyed by operation name.
+     */
+    public Map<String, LatencySnapshot> currentWindows() {
+        Map<String, LatencySnapshot> snapshots = new TreeMap<>();
+        recorders.forEach((name, recorder) -> snapshots.put(name, recorder.currentWindow()));
+        return snapshots;
+    }
+
+    /**
+     * Snapshots of the most recently completed windows, keyed by operation name.
+     */
+    public Map<String, LatencySnapshot> lastCompletedWindows() {
+        Map<String, LatencySnapshot> snapshots = new TreeMap<>();
+        recorders.forEach((name, recorder) -> snapshots.put(name, recorder.lastCompletedWindow()));
+        return snapshots;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.scoring.monitoring;
+
+/**
+ * Immutable summary of the latencies recorded for a single monitored operation
+ * during one histogram window. All latency values are expressed in nanoseconds.
+ */
+public final class LatencySnapshot {
+
+    private final String name;
+    private final long windowStartEpochMillis;
+    private final long windowEndEpochMillis;
+    private final long count;
+    private final double meanNanos;
+    private final long maxNanos;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+
+    public LatencySnapshot(String name,
+                           long windowStartEpochMillis,
+                           long windowEndEpochMillis,
+                           long count,
+                           double meanNanos,
+                           long maxNanos,
+                           long p50Nanos,
+                           long p90Nanos,
+                           long p99Nanos,
+                           long p999Nanos) {
+        this.name = name;
+        this.windowStartEpochMillis = windowStartEpochMillis;
+        this.windowEndEpochMillis = windowEndEpochMillis;
+        this.count = count;
+        this.meanNanos = meanNanos;
+        this.maxNanos = maxNanos;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+        this.p999Nanos = p999Nanos;
+    }
+
+    public static LatencySnapshot empty(String name, long windowStartEpochMillis, long windowEndEpochMillis) {
+        return new LatencySnapshot(name, windowStartEpochMillis, windowEndEpochMillis, 0L, 0.0, 0L, 0L, 0L, 0L, 0L);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getWindowStartEpochMillis() {
+        return windowStartEpochMillis;
+    }
+
+    public long getWindowEndEpochMillis() {
+        return windowEndEpochMillis;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMeanNanos() {
+        return meanNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP90Nanos() {
+        return p90Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getP999Nanos() {
+        return p999Nanos;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.scoring.monitoring;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket used to cap the number of log lines a single method may produce.
+ *
+ * Implemented as a generic cell rate algorithm: a single {@link AtomicLong} tracks the
+ * theoretical arrival time of the next permit, and up to one second worth of permits may
+ * be consumed in a burst. The rate is supplied on every call so that it can be retuned at
+ * runtime without rebuilding limiters.
+ */
+public final class LogRateLimiter {
+
+    private static final long ONE_SECOND_NANOS = 1_000_000_000L;
+
+    private final AtomicLong theoreticalArrivalNanos = new AtomicLong(System.nanoTime());
+
+    /**
+     * Attempts to take the given number of permits.
+     *
+     * @param permits         permits required (one per log line)
+     * @param permitsPerSecond sustained rate; zero or negative disables the limit
+     * @param nowNanos        current {@link System#nanoTime()} value
+     * @return {@code true} if the permits were granted
+     */
+    public boolean tryAcquire(int permits, long permitsPerSecond, long nowNanos) {
+        if (permitsPerSecond <= 0L) {
+            return true;
+        }
+        long intervalNanos = ONE_SECOND_NANOS / permitsPerSecond;
+        long costNanos = intervalNanos * permits;
+        while (true) {
+            long current = theoreticalArrivalNanos.get();
+            long base = current - nowNanos > 0L ? current : nowNanos;
+            long next = base + costNanos;
+            if (next - nowNanos > ONE_SECOND_NANOS) {
+                return false;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.scoring.monitoring;
+
+import com.example.scoring.dto.LoggingSamplingSettings;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides which service invocations produce entry/exit log lines.
+ *
+ * <ul>
+ *     <li>Head sampling: a configurable percentage of calls logs both entry and exit.</li>
+ *     <li>Slow calls: calls that were not sampled still log their exit once they exceed
+ *     the latency threshold.</li>
+ *     <li>Errors: logged unconditionally unless {@code always-log-errors} is switched off.</li>
+ *     <li>Rate cap: sampled and slow lines are additionally limited per method and second
+ *     by a {@link LogRateLimiter}; always-logged errors bypass the cap.</li>
+ * </ul>
+ *
+ * Settings are initialised from {@code scoring.monitoring.sampling.*} and can be changed at
+ * runtime through {@link #apply(LoggingSamplingSettings)}.
+ */
+@Component
+public class LoggingSamplingPolicy {
+
+    private static final int FULL_SAMPLE_BASIS_POINTS = 10_000;
+
+    private volatile Settings settings;
+
+    public LoggingSamplingPolicy(MonitoringProperties properties) {
+        MonitoringProperties.Sampling sampling = properties.getSampling();
+        apply(new LoggingSamplingSettings(
+                sampling.getSampleRatePercent(),
+                sampling.getSlowThreshold().toMillis(),
+                sampling.isAlwaysLogErrors(),
+                sampling.getMaxLinesPerSecondPerMethod()
+        ));
+    }
+
+    /**
+     * Head-sampling decision taken on method entry. A sampled call reserves permits for
+     * both its entry and its exit line.
+     */
+    public boolean sampleCall(LogRateLimiter limiter, long nowNanos) {
+        Settings current = settings;
+        int rate = current.sampleRateBasisPoints;
+        if (rate <= 0) {
+            return false;
+        }
+        if (rate < FULL_SAMPLE_BASIS_POINTS && ThreadLocalRandom.current().nextInt(FULL_SAMPLE_BASIS_POINTS) >= rate) {
+            return false;
+        }
+        return limiter.tryAcquire(2, current.maxLinesPerSecondPerMethod, nowNanos);
+    }
+
+    /**
+     * Whether an unsampled call that completed in the given time should still log its exit.
+     */
+    public boolean logSlowCall(LogRateLimiter limiter, long durationNanos, long nowNanos) {
+        Settings current = settings;
+        long threshold = current.slowThresholdNanos;
+        return threshold > 0L && durationNanos >= threshold
+                && limiter.tryAcquire(1, current.maxLinesPerSecondPerMethod, nowNanos);
+    }
+
+    /**
+     * Whether an unsampled call that failed should log the error.
+     */
+    public boolean logError(LogRateLimiter limiter, long nowNanos) {
+        Settings current = settings;
+        return current.alwaysLogErrors || limiter.tryAcquire(1, current.maxLinesPerSecondPerMethod, nowNanos);
+    }
+
+    /**
+     * Replaces the current settings. Takes effect for the next invocation, which sees either
+     * the old or the new settings as a whole.
+     */
+    public void apply(LoggingSamplingSettings settings) {
+        double percent = settings.getSampleRatePercent();
+        if (!(percent >= 0.0 && percent <= 100.0)) {
+            throw new IllegalArgumentException("Sample rate must be between 0 and 100 percent");
+        }
+        if (settings.getSlowThresholdMs() < 0L || settings.getMaxLinesPerSecondPerMethod() < 0L) {
+            throw new IllegalArgumentException("Slow threshold and line rate must not be negative");
+        }
+        this.settings = new Settings(
+                (int) Math.round(percent * 100.0),
+                TimeUnit.MILLISECONDS.toNanos(settings.getSlowThresholdMs()),
+                settings.isAlwaysLogErrors(),
+                settings.getMaxLinesPerSecondPerMethod()
+        );
+    }
+
+    /**
+     * Returns the settings currently in effect.
+     */
+    public LoggingSamplingSettings currentSettings() {
+        Settings current = settings;
+        return new LoggingSamplingSettings(
+                current.sampleRateBasisPoints / 100.0,
+                TimeUnit.NANOSECONDS.toMillis(current.slowThresholdNanos),
+                current.alwaysLogErrors,
+                current.maxLinesPerSecondPerMethod
+        );
+    }
+
+    /** Immutable snapshot of the settings, published as a whole through {@link #settings}. */
+    private static final class Settings {
+
+        private final int sampleRateBasisPoints;
+        private final long slowThresholdNanos;
+        private final boolean alwaysLogErrors;
+        private final long maxLinesPerSecondPerMethod;
+
+        private Settings(int sampleRateBasisPoints, long slowThresholdNanos, boolean alwaysLogErrors,
+                         long maxLinesPerSecondPerMethod) {
+            this.sampleRateBasisPoints = sampleRateBasisPoints;
+            this.slowThresholdNanos = slowThresholdNanos;
+            this.alwaysLogErrors = alwaysLogErrors;
+            this.maxLinesPerSecondPerMethod = maxLinesPerSecondPerMethod;
+        }
+    }
+}
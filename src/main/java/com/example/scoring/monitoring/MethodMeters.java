@@ -0,0 +1,114 @@
+package com.example.scoring.monitoring;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cumulative meters of one service method: a call duration timer, success and per-exception
+ * error counters and an in-flight gauge.
+ *
+ * Instances are created once per method by {@link MethodMetrics} and handed to the advice
+ * through {@link MonitoredMethodDescriptor}, so recording a call only updates striped
+ * counters. Error counters for the method's declared exceptions exist up front; other
+ * exception types get theirs on first occurrence and are found by a scan of a small
+ * copy-on-write array afterwards.
+ */
+public final class MethodMeters {
+
+    private final String methodName;
+    private final LatencyHistogram durations;
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();
+    private volatile ErrorCounter[] errorCounters;
+
+    MethodMeters(String methodName, Class<?>[] declaredExceptions, int stripeCount) {
+        this.methodName = methodName;
+        this.durations = new LatencyHistogram(stripeCount);
+        this.errorCounters = Arrays.stream(declaredExceptions)
+                .map(ErrorCounter::new)
+                .toArray(ErrorCounter[]::new);
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * Marks the start of a call. Every call must be completed by exactly one of
+     * {@link #recordSuccess(long)} or {@link #recordError(Class, long)}.
+     */
+    public void callStarted() {
+        inFlight.increment();
+    }
+
+    public void recordSuccess(long durationNanos) {
+        inFlight.decrement();
+        durations.record(durationNanos);
+        successes.increment();
+    }
+
+    public void recordError(Class<? extends Throwable> exceptionType, long durationNanos) {
+        inFlight.decrement();
+        durations.record(durationNanos);
+        errorCounter(exceptionType).increment();
+    }
+
+    private LongAdder errorCounter(Class<? extends Throwable> exceptionType) {
+        for (ErrorCounter counter : errorCounters) {
+            if (counter.type == exceptionType) {
+                return counter.count;
+            }
+        }
+        synchronized (this) {
+            ErrorCounter[] current = errorCounters;
+            for (ErrorCounter counter : current) {
+                if (counter.type == exceptionType) {
+                    return counter.count;
+                }
+            }
+            ErrorCounter added = new ErrorCounter(exceptionType);
+            ErrorCounter[] grown = Arrays.copyOf(current, current.length + 1);
+            grown[current.length] = added;
+            errorCounters = grown;
+            return added.count;
+        }
+    }
+
+    public long getSuccesses() {
+        return successes.sum();
+    }
+
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    /**
+     * Error counts keyed by the simple name of the exception type, in registration order.
+     */
+    public Map<String, Long> getErrors() {
+        Map<String, Long> errors = new LinkedHashMap<>();
+        for (ErrorCounter counter : errorCounters) {
+            errors.merge(counter.type.getSimpleName(), counter.count.sum(), Long::sum);
+        }
+        return errors;
+    }
+
+    /**
+     * Histogram of all call durations since start-up, successful or not.
+     */
+    public LatencyHistogram getDurations() {
+        return durations;
+    }
+
+    private static final class ErrorCounter {
+
+        private final Class<?> type;
+        private final LongAdder count = new LongAdder();
+
+        private ErrorCounter(Class<?> type) {
+            this.type = type;
+        }
+    }
+}
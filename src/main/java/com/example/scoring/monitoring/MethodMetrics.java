@@ -0,0 +1,42 @@
+package com.example.scoring.monitoring;
+
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of the cumulative {@link MethodMeters} of every advised service method, read by
+ * {@link PrometheusScrapeWriter}.
+ *
+ * Overloads share their meters, matching the {@code Type.method(..)} display name. Their
+ * duration histograms are cumulative and only read by the scrape, so they use the smaller
+ * {@code meter-histogram-stripes} count rather than the stripes of the rolling
+ * {@link LatencyMetrics} windows.
+ */
+@Component
+public class MethodMetrics {
+
+    private final ConcurrentMap<String, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    private final int stripeCount;
+
+    public MethodMetrics(MonitoringProperties properties) {
+        this.stripeCount = Math.max(1, properties.getMeterHistogramStripes());
+    }
+
+    /**
+     * Returns the meters registered under the given name, creating them for the method if necessary.
+     */
+    public MethodMeters register(String methodName, Method method) {
+        return meters.computeIfAbsent(methodName,
+                key -> new MethodMeters(key, method.getExceptionTypes(), stripeCount));
+    }
+
+    public Map<String, MethodMeters> snapshot() {
+        return new TreeMap<>(meters);
+    }
+}
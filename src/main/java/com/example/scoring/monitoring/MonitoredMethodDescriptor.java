@@ -0,0 +1,67 @@
+package com.example.scoring.monitoring;
+
+import java.lang.reflect.Method;
+
+/**
+ * Precomputed monitoring metadata for a single service method. Instances are created
+ * once per {@link Method} by {@link MonitoredMethodRegistry} so that the advice hot path
+ * performs neither annotation lookups nor string building.
+ */
+public final class MonitoredMethodDescriptor {
+
+    private final Method method;
+    private final boolean performanceMonitored;
+    private final String displayName;
+    private final ArgumentRenderingPolicy argumentRenderingPolicy;
+    private final RollingLatencyRecorder latencyRecorder;
+    private final MethodMeters meters;
+    private final LogRateLimiter logRateLimiter = new LogRateLimiter();
+
+    MonitoredMethodDescriptor(Method method,
+                              boolean performanceMonitored,
+                              String displayName,
+                              ArgumentRenderingPolicy argumentRenderingPolicy,
+                              RollingLatencyRecorder latencyRecorder,
+                              MethodMeters meters) {
+        this.method = method;
+        this.performanceMonitored = performanceMonitored;
+        this.displayName = displayName;
+        this.argumentRenderingPolicy = argumentRenderingPolicy;
+        this.latencyRecorder = latencyRecorder;
+        this.meters = meters;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public boolean isPerformanceMonitored() {
+        return performanceMonitored;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public ArgumentRenderingPolicy getArgumentRenderingPolicy() {
+        return argumentRenderingPolicy;
+    }
+
+    /**
+     * Latency recorder for this method, or {@code null} when the method is not performance monitored.
+     */
+    public RollingLatencyRecorder getLatencyRecorder() {
+        return latencyRecorder;
+    }
+
+    /**
+     * Cumulative meters of this method, recorded for every call regardless of {@link PerformanceMonitored}.
+     */
+    public MethodMeters getMeters() {
+        return meters;
+    }
+
+    public LogRateLimiter getLogRateLimiter() {
+        return logRateLimiter;
+    }
+}
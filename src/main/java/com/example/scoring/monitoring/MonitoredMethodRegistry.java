@@ -0,0 +1,57 @@
+package com.example.scoring.monitoring;
+
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache of {@link MonitoredMethodDescriptor}s keyed by {@link Method}.
+ *
+ * Descriptors are resolved on first invocation of a method and reused afterwards, which
+ * moves the {@link PerformanceMonitored} annotation lookups, display-name construction and
+ * meter registration off the per-call path of {@link ServiceMonitoringAspect}.
+ */
+@Component
+public class MonitoredMethodRegistry {
+
+    private final ConcurrentMap<Method, MonitoredMethodDescriptor> descriptors = new ConcurrentHashMap<>();
+
+    private final LatencyMetrics latencyMetrics;
+    private final MethodMetrics methodMetrics;
+
+    public MonitoredMethodRegistry(LatencyMetrics latencyMetrics, MethodMetrics methodMetrics) {
+        this.latencyMetrics = latencyMetrics;
+        this.methodMetrics = methodMetrics;
+    }
+
+    /**
+     * Returns the descriptor for the given method, resolving it on first use.
+     */
+    public MonitoredMethodDescriptor descriptorFor(Method method) {
+        MonitoredMethodDescriptor descriptor = descriptors.get(method);
+        if (descriptor != null) {
+            return descriptor;
+        }
+        return descriptors.computeIfAbsent(method, this::resolve);
+    }
+
+    private MonitoredMethodDescriptor resolve(Method method) {
+        PerformanceMonitored annotation = AnnotationUtils.findAnnotation(method, PerformanceMonitored.class);
+        if (annotation == null) {
+            annotation = AnnotationUtils.findAnnotation(method.getDeclaringClass(), PerformanceMonitored.class);
+        }
+
+        // Same format as MethodSignature#toShortString so that log lines and metric names stay stable.
+        String displayName = (method.getDeclaringClass().getSimpleName() + "." + method.getName() + "(..)").intern();
+        MethodMeters meters = methodMetrics.register(displayName, method);
+
+        if (annotation == null) {
+            return new MonitoredMethodDescriptor(method, false, displayName, ArgumentRenderingPolicy.FULL, null, meters);
+        }
+        return new MonitoredMethodDescriptor(method, true, displayName, annotation.arguments(),
+                latencyMetrics.recorder(displayName), meters);
+    }
+}
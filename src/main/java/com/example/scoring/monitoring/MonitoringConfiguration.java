@@ -1,15 +1,17 @@
 package com.example.scoring.monitoring;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 
 /**
  * Central configuration for monitoring concerns. Enabling AspectJ auto proxy here
- * keeps the setup explicit and makes it easy to extend with additional monitoring
- * mechanisms (e.g. tracing, metrics) in the future.
+ * keeps the setup explicit. Per-method meters are published in the Prometheus text
+ * format by {@link PrometheusScrapeWriter}; tracing remains future work.
  */
 @Configuration
 @EnableAspectJAutoProxy(proxyTargetClass = true)
+@EnableConfigurationProperties(MonitoringProperties.class)
 public class MonitoringConfiguration {
     // Additional monitoring beans or configuration can be placed here.
 }
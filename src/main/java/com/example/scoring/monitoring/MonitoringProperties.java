@@ -0,0 +1,143 @@
+package com.example.scoring.monitoring;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Externalized settings for the monitoring subsystem, bound from {@code scoring.monitoring.*}.
+ */
+@ConfigurationProperties(prefix = "scoring.monitoring")
+public class MonitoringProperties {
+
+    /**
+     * Length of a latency histogram window before it is rolled over.
+     */
+    private Duration histogramWindow = Duration.ofMinutes(1);
+
+    /**
+     * Number of stripes per histogram. Zero derives the value from the available processors.
+     */
+    private int histogramStripes = 0;
+
+    /**
+     * Number of stripes of each method's cumulative duration histogram published to Prometheus.
+     * Every stripe holds a full bucket array (about 16 KB), and the histogram is only merged on
+     * scrape, so a few stripes per method are enough.
+     */
+    private int meterHistogramStripes = 2;
+
+    /**
+     * Whether every service invocation should also produce entry/exit log lines.
+     */
+    private boolean logInvocations = true;
+
+    /**
+     * Whether candidate identifiers should be masked in service entry log lines.
+     */
+    private boolean redactCandidateIds = false;
+
+    private final Sampling sampling = new Sampling();
+
+    public Duration getHistogramWindow() {
+        return histogramWindow;
+    }
+
+    public void setHistogramWindow(Duration histogramWindow) {
+        this.histogramWindow = histogramWindow;
+    }
+
+    public int getHistogramStripes() {
+        return histogramStripes;
+    }
+
+    public void setHistogramStripes(int histogramStripes) {
+        this.histogramStripes = histogramStripes;
+    }
+
+    public int getMeterHistogramStripes() {
+        return meterHistogramStripes;
+    }
+
+    public void setMeterHistogramStripes(int meterHistogramStripes) {
+        this.meterHistogramStripes = meterHistogramStripes;
+    }
+
+    public boolean isLogInvocations() {
+        return logInvocations;
+    }
+
+    public void setLogInvocations(boolean logInvocations) {
+        this.logInvocations = logInvocations;
+    }
+
+    public boolean isRedactCandidateIds() {
+        return redactCandidateIds;
+    }
+
+    public void setRedactCandidateIds(boolean redactCandidateIds) {
+        this.redactCandidateIds = redactCandidateIds;
+    }
+
+    public Sampling getSampling() {
+        return sampling;
+    }
+
+    /**
+     * Initial settings for {@link LoggingSamplingPolicy}.
+     */
+    public static class Sampling {
+
+        /**
+         * Percentage of calls whose entry and exit are logged.
+         */
+        private double sampleRatePercent = 100.0;
+
+        /**
+         * Calls slower than this always log their exit. Zero disables the rule.
+         */
+        private Duration slowThreshold = Duration.ofMillis(500);
+
+        /**
+         * Whether failed calls are always logged, regardless of sampling and rate cap.
+         */
+        private boolean alwaysLogErrors = true;
+
+        /**
+         * Maximum log lines per second and method. Zero means unlimited.
+         */
+        private long maxLinesPerSecondPerMethod = 0L;
+
+        public double getSampleRatePercent() {
+            return sampleRatePercent;
+        }
+
+        public void setSampleRatePercent(double sampleRatePercent) {
+            this.sampleRatePercent = sampleRatePercent;
+        }
+
+        public Duration getSlowThreshold() {
+            return slowThreshold;
+        }
+
+        public void setSlowThreshold(Duration slowThreshold) {
+            this.slowThreshold = slowThreshold;
+        }
+
+        public boolean isAlwaysLogErrors() {
+            return alwaysLogErrors;
+        }
+
+        public void setAlwaysLogErrors(boolean alwaysLogErrors) {
+            this.alwaysLogErrors = alwaysLogErrors;
+        }
+
+        public long getMaxLinesPerSecondPerMethod() {
+            return maxLinesPerSecondPerMethod;
+        }
+
+        public void setMaxLinesPerSecondPerMethod(long maxLinesPerSecondPerMethod) {
+            this.maxLinesPerSecondPerMethod = maxLinesPerSecondPerMethod;
+        }
+    }
+}
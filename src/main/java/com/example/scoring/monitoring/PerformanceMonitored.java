@@ -16,4 +16,9 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
 public @interface PerformanceMonitored {
+
+    /**
+     * How the method arguments should be rendered in entry log lines.
+     */
+    ArgumentRenderingPolicy arguments() default ArgumentRenderingPolicy.FULL;
 }
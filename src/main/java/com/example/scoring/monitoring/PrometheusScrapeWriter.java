@@ -0,0 +1,176 @@
+package com.example.scoring.monitoring;
+
+import com.example.scoring.candidate.CandidateDictionary;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Renders the application's meters in the Prometheus text exposition format (version 0.0.4).
+ *
+ * Published series:
+ * <ul>
+ *     <li>{@code scoring_service_call_duration_seconds} histogram per service method</li>
+ *     <li>{@code scoring_service_calls_total} per method and {@code outcome} ({@code success} or
+ *     {@code error})</li>
+ *     <li>{@code scoring_service_errors_total} per method and {@code exception} type</li>
+ *     <li>{@code scoring_service_in_flight} gauge per method</li>
+ *     <li>{@code scoring_cache_requests_total} per cache and {@code result}, and
+ *     {@code scoring_cache_evictions_total} per cache and {@code cause}</li>
+ *     <li>{@code scoring_candidate_dictionary_entries} and
+ *     {@code scoring_candidate_dictionary_capacity} gauges, and
+ *     {@code scoring_candidate_dictionary_uncoded_total}, the candidate ids that were kept by id
+ *     because the dictionary was full</li>
+ * </ul>
+ *
+ * Histogram buckets are derived at scrape time from the fine-grained {@link LatencyHistogram}
+ * of each method, so recording is unaffected by the bucket layout.
+ */
+@Component
+public class PrometheusScrapeWriter {
+
+    /**
+     * Content type of the text exposition format.
+     */
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    static final double[] BUCKET_BOUNDS_SECONDS = {
+            0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1.0, 2.5, 5.0, 10.0
+    };
+
+    private static final long[] BUCKET_BOUNDS_NANOS = new long[BUCKET_BOUNDS_SECONDS.length];
+    private static final String[] BUCKET_LABELS = new String[BUCKET_BOUNDS_SECONDS.length];
+
+    static {
+        for (int i = 0; i < BUCKET_BOUNDS_SECONDS.length; i++) {
+            BUCKET_BOUNDS_NANOS[i] = Math.round(BUCKET_BOUNDS_SECONDS[i] * 1e9);
+            BUCKET_LABELS[i] = formatDouble(BUCKET_BOUNDS_SECONDS[i]);
+        }
+    }
+
+    private final MethodMetrics methodMetrics;
+    private final CacheMetrics cacheMetrics;
+    private final CandidateDictionary candidateDictionary;
+
+    public PrometheusScrapeWriter(MethodMetrics methodMetrics, CacheMetrics cacheMetrics,
+                                  CandidateDictionary candidateDictionary) {
+        this.methodMetrics = methodMetrics;
+        this.cacheMetrics = cacheMetrics;
+        this.candidateDictionary = candidateDictionary;
+    }
+
+    /**
+     * Returns the current value of every meter.
+     */
+    public String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+        Map<String, MethodMeters> methods = methodMetrics.snapshot();
+
+        header(out, "scoring_service_call_duration_seconds", "histogram", "Duration of service method calls.");
+        for (MethodMeters meters : methods.values()) {
+            String method = "method=\"" + escape(meters.getMethodName()) + "\"";
+            LatencyHistogram durations = meters.getDurations();
+            long[] cumulative = durations.cumulativeCounts(BUCKET_BOUNDS_NANOS);
+            for (int i = 0; i < BUCKET_LABELS.length; i++) {
+                sample(out, "scoring_service_call_duration_seconds_bucket",
+                        method + ",le=\"" + BUCKET_LABELS[i] + "\"", cumulative[i]);
+            }
+            long count = cumulative[BUCKET_LABELS.length];
+            sample(out, "scoring_service_call_duration_seconds_bucket", method + ",le=\"+Inf\"", count);
+            sample(out, "scoring_service_call_duration_seconds_sum", method, durations.sum() / 1e9);
+            sample(out, "scoring_service_call_duration_seconds_count", method, count);
+        }
+
+        header(out, "scoring_service_calls_total", "counter", "Completed service method calls by outcome.");
+        for (MethodMeters meters : methods.values()) {
+            String method = "method=\"" + escape(meters.getMethodName()) + "\"";
+            long errors = meters.getErrors().values().stream().mapToLong(Long::longValue).sum();
+            sample(out, "scoring_service_calls_total", method + ",outcome=\"success\"", meters.getSuccesses());
+            sample(out, "scoring_service_calls_total", method + ",outcome=\"error\"", errors);
+        }
+
+        header(out, "scoring_service_errors_total", "counter", "Failed service method calls by exception type.");
+        for (MethodMeters meters : methods.values()) {
+            String method = "method=\"" + escape(meters.getMethodName()) + "\"";
+            for (Map.Entry<String, Long> error : meters.getErrors().entrySet()) {
+                sample(out, "scoring_service_errors_total",
+                        method + ",exception=\"" + escape(error.getKey()) + "\"", error.getValue());
+            }
+        }
+
+        header(out, "scoring_service_in_flight", "gauge", "Service method calls currently executing.");
+        for (MethodMeters meters : methods.values()) {
+            sample(out, "scoring_service_in_flight", "method=\"" + escape(meters.getMethodName()) + "\"",
+                    meters.getInFlight());
+        }
+
+        Map<String, CacheStatistics> caches = cacheMetrics.snapshot();
+        header(out, "scoring_cache_requests_total", "counter", "Cache lookups by result.");
+        for (CacheStatistics cache : caches.values()) {
+            String name = "cache=\"" + escape(cache.getName()) + "\"";
+            sample(out, "scoring_cache_requests_total", name + ",result=\"hit\"", cache.getHits());
+            sample(out, "scoring_cache_requests_total", name + ",result=\"miss\"", cache.getMisses());
+        }
+        header(out, "scoring_cache_evictions_total", "counter", "Cache entries removed by cause.");
+        for (CacheStatistics cache : caches.values()) {
+            String name = "cache=\"" + escape(cache.getName()) + "\"";
+            sample(out, "scoring_cache_evictions_total", name + ",cause=\"size\"", cache.getEvictions());
+            sample(out, "scoring_cache_evictions_total", name + ",cause=\"expired\"", cache.getExpirations());
+        }
+
+        header(out, "scoring_candidate_dictionary_entries", "gauge", "Candidate ids that have a code.");
+        sample(out, "scoring_candidate_dictionary_entries", candidateDictionary.size());
+        header(out, "scoring_candidate_dictionary_capacity", "gauge", "Maximum number of candidate ids with a code.");
+        sample(out, "scoring_candidate_dictionary_capacity", candidateDictionary.capacity());
+        header(out, "scoring_candidate_dictionary_uncoded_total", "counter",
+                "Candidate ids kept by id because the dictionary was full.");
+        sample(out, "scoring_candidate_dictionary_uncoded_total", candidateDictionary.uncoded());
+        return out.toString();
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, long value) {
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, long value) {
+        out.append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, double value) {
+        out.append(name).append('{').append(labels).append("} ").append(formatDouble(value)).append('\n');
+    }
+
+    private static String formatDouble(double value) {
+        String formatted = String.format(Locale.ROOT, "%.9f", value);
+        formatted = formatted.replaceAll("0+$", "");
+        return formatted.endsWith(".") ? formatted + "0" : formatted;
+    }
+
+    /**
+     * Escapes a label value: backslash, double quote and line feed.
+     */
+    static String escape(String value) {
+        StringBuilder escaped = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String replacement = c == '\\' ? "\\\\" : c == '"' ? "\\\"" : c == '\n' ? "\\n" : null;
+            if (replacement != null && escaped == null) {
+                escaped = new StringBuilder(value.length() + 8).append(value, 0, i);
+            }
+            if (escaped != null) {
+                if (replacement != null) {
+                    escaped.append(replacement);
+                } else {
+                    escaped.append(c);
+                }
+            }
+        }
+        return escaped != null ? escaped.toString() : value;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.scoring.monitoring;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Task decorator that records, for every task submitted to an executor, how long it
+ * waited in the queue, how long it then ran and its total latency. The values go into the
+ * latency histograms of {@link LatencyMetrics} as {@code <executor>.queueWait},
+ * {@code <executor>.execution} and {@code <executor>.total}.
+ *
+ * The submitter's {@link RequestTimingContext} is bound on the worker thread while the task
+ * runs, so its log lines carry the request's correlation id. Total latency is measured from
+ * the moment that request was accepted, or from submission for tasks submitted outside of a
+ * request, until the task ends. A task that hands its work to another stage, such as the
+ * write-behind queue, calls {@link #deferTotal()} and the total is recorded when that stage
+ * completes the work instead.
+ */
+public class QueueTimingTaskDecorator implements TaskDecorator {
+
+    private static final ThreadLocal<DeferredTotal> CURRENT_TASK = new ThreadLocal<>();
+
+    private final RollingLatencyRecorder queueWaitRecorder;
+    private final RollingLatencyRecorder executionRecorder;
+    private final RollingLatencyRecorder totalRecorder;
+
+    public QueueTimingTaskDecorator(LatencyMetrics latencyMetrics, String executorName) {
+        this.queueWaitRecorder = latencyMetrics.recorder(executorName + ".queueWait");
+        this.executionRecorder = latencyMetrics.recorder(executorName + ".execution");
+        this.totalRecorder = latencyMetrics.recorder(executorName + ".total");
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        long enqueuedAtNanos = System.nanoTime();
+        RequestTimingContext context = RequestTimingContext.current();
+        long originNanos = context != null ? context.getAcceptedAtNanos() : enqueuedAtNanos;
+        return () -> {
+            long startedAtNanos = System.nanoTime();
+            queueWaitRecorder.record(startedAtNanos - enqueuedAtNanos, startedAtNanos);
+            RequestTimingContext previous = RequestTimingContext.bind(context);
+            DeferredTotal total = new DeferredTotal(totalRecorder, originNanos);
+            DeferredTotal previousTotal = CURRENT_TASK.get();
+            CURRENT_TASK.set(total);
+            try {
+                runnable.run();
+            } finally {
+                CURRENT_TASK.set(previousTotal);
+                RequestTimingContext.restore(previous);
+                long finishedAtNanos = System.nanoTime();
+                executionRecorder.record(finishedAtNanos - startedAtNanos, finishedAtNanos);
+                if (!total.deferred) {
+                    totalRecorder.record(finishedAtNanos - originNanos, finishedAtNanos);
+                }
+            }
+        };
+    }
+
+    /**
+     * Takes over recording the total latency of the task running on the calling thread, which
+     * then no longer records it when it ends. The caller must call
+     * {@link DeferredTotal#complete()} once the handed-off work has finished.
+     *
+     * @return the total of the current task, or {@code null} when not called from a decorated task
+     */
+    public static DeferredTotal deferTotal() {
+        DeferredTotal total = CURRENT_TASK.get();
+        if (total != null) {
+            total.deferred = true;
+        }
+        return total;
+    }
+
+    /**
+     * Total latency of a task whose completion happens outside of the task itself.
+     */
+    public static final class DeferredTotal {
+
+        private final RollingLatencyRecorder recorder;
+        private final long originNanos;
+        private boolean deferred;
+
+        private DeferredTotal(RollingLatencyRecorder recorder, long originNanos) {
+            this.recorder = recorder;
+            this.originNanos = originNanos;
+        }
+
+        /**
+         * Records the time from the task's origin until now.
+         */
+        public void complete() {
+            long nowNanos = System.nanoTime();
+            recorder.record(nowNanos - originNanos, nowNanos);
+        }
+    }
+}
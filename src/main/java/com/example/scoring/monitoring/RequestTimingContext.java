@@ -0,0 +1,74 @@
+package com.example.scoring.monitoring;
+
+import org.slf4j.MDC;
+
+/**
+ * Correlation id and accept time of the request a thread is currently working for.
+ *
+ * The context is bound by {@link CorrelationIdFilter} on the request thread and carried across
+ * executor hops by {@link QueueTimingTaskDecorator}, which binds it on the worker thread for
+ * the duration of the task. While bound, the correlation id is also available to every log
+ * line under the {@value #CORRELATION_ID_MDC_KEY} MDC key.
+ */
+public final class RequestTimingContext {
+
+    /**
+     * MDC key holding the correlation id of the current request.
+     */
+    public static final String CORRELATION_ID_MDC_KEY = "correlationId";
+
+    private static final ThreadLocal<RequestTimingContext> CURRENT = new ThreadLocal<>();
+
+    private final String correlationId;
+    private final long acceptedAtNanos;
+
+    public RequestTimingContext(String correlationId, long acceptedAtNanos) {
+        this.correlationId = correlationId;
+        this.acceptedAtNanos = acceptedAtNanos;
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    /**
+     * {@link System#nanoTime()} at which the request was accepted.
+     */
+    public long getAcceptedAtNanos() {
+        return acceptedAtNanos;
+    }
+
+    /**
+     * Returns the context bound to the calling thread, or {@code null} outside of a request.
+     */
+    public static RequestTimingContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds the given context (or none) to the calling thread and returns the previously bound one,
+     * to be passed to {@link #restore(RequestTimingContext)} afterwards.
+     */
+    public static RequestTimingContext bind(RequestTimingContext context) {
+        RequestTimingContext previous = CURRENT.get();
+        apply(context);
+        return previous;
+    }
+
+    /**
+     * Restores the context returned by {@link #bind(RequestTimingContext)}.
+     */
+    public static void restore(RequestTimingContext previous) {
+        apply(previous);
+    }
+
+    private static void apply(RequestTimingContext context) {
+        if (context == null) {
+            CURRENT.remove();
+            MDC.remove(CORRELATION_ID_MDC_KEY);
+        } else {
+            CURRENT.set(context);
+            MDC.put(CORRELATION_ID_MDC_KEY, context.correlationId);
+        }
+    }
+}
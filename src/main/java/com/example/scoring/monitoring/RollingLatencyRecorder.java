@@ -0,0 +1,148 @@
+package com.example.scoring.monitoring;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Double-buffered latency recorder for a single monitored operation.
+ *
+ * Observations are written into the active {@link LatencyHistogram}. Once the configured
+ * window has elapsed, the next writer (or reader) swaps the active histogram with an idle
+ * one, waits for writers still recording into the finished histogram, then publishes a
+ * snapshot of it and clears it for reuse. Steady-state recording therefore never allocates,
+ * and only the thread that performs the rollover pays for merging the stripes.
+ *
+ * The wait uses a writer-reader phaser in the style of HdrHistogram's {@code Recorder}:
+ * every writer increments a start counter before it reads the active histogram and an end
+ * counter of its phase after recording, and the rollover flips the phase and waits until the
+ * end counter of the old phase has caught up with its start counter. The counters are
+ * striped by thread like the histogram itself, each stripe on its own cache line.
+ */
+public final class RollingLatencyRecorder {
+
+    private static final int PHASER_STRIDE = 16;
+    private static final int START = 0;
+    private static final int EVEN_END = 1;
+    private static final int ODD_END = 2;
+
+    private final String name;
+    private final long windowNanos;
+    private final ReentrantLock rolloverLock = new ReentrantLock();
+    private final AtomicLongArray phaser;
+    private final int phaserMask;
+
+    private volatile LatencyHistogram active;
+    private LatencyHistogram idle;
+    private volatile long windowEndNanos;
+    private volatile long windowStartEpochMillis;
+    private volatile LatencySnapshot lastCompletedWindow;
+
+    public RollingLatencyRecorder(String name, long windowNanos, int stripeCount) {
+        if (windowNanos <= 0L) {
+            throw new IllegalArgumentException("Histogram window must be positive");
+        }
+        this.name = name;
+        this.windowNanos = windowNanos;
+        this.active = new LatencyHistogram(stripeCount);
+        this.idle = new LatencyHistogram(stripeCount);
+        int phaserStripes = Integer.highestOneBit(Math.max(1, stripeCount));
+        if (phaserStripes < stripeCount) {
+            phaserStripes <<= 1;
+        }
+        this.phaser = new AtomicLongArray(phaserStripes * PHASER_STRIDE);
+        this.phaserMask = phaserStripes - 1;
+        for (int stripe = 0; stripe < phaserStripes; stripe++) {
+            phaser.set(stripe * PHASER_STRIDE + ODD_END, Long.MIN_VALUE);
+        }
+        this.windowEndNanos = System.nanoTime() + windowNanos;
+        this.windowStartEpochMillis = System.currentTimeMillis();
+        this.lastCompletedWindow = LatencySnapshot.empty(name, windowStartEpochMillis, windowStartEpochMillis);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Records a latency observation.
+     *
+     * @param durationNanos measured duration
+     * @param nowNanos      {@link System#nanoTime()} value taken at the end of the measurement,
+     *                      reused here to decide whether the window has to roll over
+     */
+    public void record(long durationNanos, long nowNanos) {
+        if (nowNanos - windowEndNanos >= 0L) {
+            rollover(nowNanos);
+        }
+        int base = ((int) Thread.currentThread().getId() & phaserMask) * PHASER_STRIDE;
+        long phase = phaser.getAndIncrement(base + START);
+        try {
+            active.record(durationNanos);
+        } finally {
+            phaser.incrementAndGet(base + (phase < 0L ? ODD_END : EVEN_END));
+        }
+    }
+
+    /**
+     * Returns a snapshot of the window that is currently being recorded.
+     */
+    public LatencySnapshot currentWindow() {
+        rolloverIfDue();
+        return active.snapshot(name, windowStartEpochMillis, System.currentTimeMillis());
+    }
+
+    /**
+     * Returns the snapshot published when the previous window was closed.
+     */
+    public LatencySnapshot lastCompletedWindow() {
+        rolloverIfDue();
+        return lastCompletedWindow;
+    }
+
+    private void rolloverIfDue() {
+        long now = System.nanoTime();
+        if (now - windowEndNanos >= 0L) {
+            rollover(now);
+        }
+    }
+
+    private void rollover(long nowNanos) {
+        if (!rolloverLock.tryLock()) {
+            // Another thread is already closing this window.
+            return;
+        }
+        try {
+            if (nowNanos - windowEndNanos < 0L) {
+                return;
+            }
+            LatencyHistogram finished = active;
+            active = idle;
+            awaitWriters();
+            long nowMillis = System.currentTimeMillis();
+            lastCompletedWindow = finished.snapshot(name, windowStartEpochMillis, nowMillis);
+            finished.reset();
+            idle = finished;
+            windowStartEpochMillis = nowMillis;
+            windowEndNanos = nowNanos + windowNanos;
+        } finally {
+            rolloverLock.unlock();
+        }
+    }
+
+    /**
+     * Flips the phase of every stripe and waits until all writers that entered before the
+     * flip, and so may have read the previous active histogram, have finished recording.
+     */
+    private void awaitWriters() {
+        for (int base = 0; base < phaser.length(); base += PHASER_STRIDE) {
+            boolean nextPhaseEven = phaser.get(base + START) < 0L;
+            long initial = nextPhaseEven ? 0L : Long.MIN_VALUE;
+            phaser.set(base + (nextPhaseEven ? EVEN_END : ODD_END), initial);
+            long startedBeforeFlip = phaser.getAndSet(base + START, initial);
+            int previousEnd = base + (nextPhaseEven ? ODD_END : EVEN_END);
+            while (phaser.get(previousEnd) != startedBeforeFlip) {
+                Thread.yield();
+            }
+        }
+    }
+}
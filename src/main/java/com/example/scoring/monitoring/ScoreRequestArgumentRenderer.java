@@ -0,0 +1,64 @@
+package com.example.scoring.monitoring;
+
+import com.example.scoring.dto.ScoreRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * Renders {@link ScoreRequest} arguments field by field, optionally masking the
+ * candidate identifier when {@code scoring.monitoring.redact-candidate-ids} is enabled.
+ * Idempotency keys are never written: they let anyone holding one replay the original
+ * result, so the log only shows whether the request carried one.
+ */
+@Component
+public class ScoreRequestArgumentRenderer implements ArgumentRenderer<ScoreRequest> {
+
+    private static final int VISIBLE_SUFFIX_LENGTH = 4;
+    private static final String REDACTED = "<redacted>";
+
+    private final MonitoringProperties monitoringProperties;
+
+    public ScoreRequestArgumentRenderer(MonitoringProperties monitoringProperties) {
+        this.monitoringProperties = monitoringProperties;
+    }
+
+    @Override
+    public Class<ScoreRequest> type() {
+        return ScoreRequest.class;
+    }
+
+    @Override
+    public void render(ScoreRequest value, BoundedTextBuffer out) {
+        out.append("ScoreRequest{candidateId=");
+        appendCandidateId(value.getCandidateId(), out);
+        if (value.getAssessmentId() != null) {
+            out.append(", assessmentId=").append(value.getAssessmentId());
+        }
+        out.append(", totalQuestions=").append(String.valueOf(value.getTotalQuestions()));
+        out.append(", correctAnswers=").append(String.valueOf(value.getCorrectAnswers()));
+        if (value.getIncorrectAnswers() != null) {
+            out.append(", incorrectAnswers=").append(String.valueOf(value.getIncorrectAnswers()));
+        }
+        if (value.getSections() != null) {
+            out.append(", sections=").append(value.getSections().size());
+        }
+        if (value.getAnswers() != null) {
+            out.append(", answers=").append(value.getAnswers().length);
+        }
+        if (value.getIdempotencyKey() != null) {
+            out.append(", idempotencyKey=").append(REDACTED);
+        }
+        out.append('}');
+    }
+
+    private void appendCandidateId(String candidateId, BoundedTextBuffer out) {
+        if (candidateId == null || !monitoringProperties.isRedactCandidateIds()) {
+            out.append(candidateId);
+            return;
+        }
+        int visibleFrom = Math.max(0, candidateId.length() - VISIBLE_SUFFIX_LENGTH);
+        for (int i = 0; i < visibleFrom && !out.isFull(); i++) {
+            out.append('*');
+        }
+        out.append(candidateId.subSequence(visibleFrom, candidateId.length()));
+    }
+}
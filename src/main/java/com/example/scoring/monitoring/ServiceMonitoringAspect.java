@@ -7,20 +7,30 @@ import org.aspectj.lang.annotation.Pointcut;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.stereotype.Component;
 
-import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Cross-cutting monitoring aspect that provides:
  * <ul>
  *     <li>Structured entry and exit logging for all service-layer methods.</li>
- *     <li>Execution time measurement for methods annotated with {@link PerformanceMonitored}.</li>
+ *     <li>Execution time measurement for methods annotated with {@link PerformanceMonitored},
+ *     recorded into per-method latency histograms exposed by {@link LatencyMetrics}.</li>
+ *     <li>Cumulative {@link MethodMeters} (call timer, success and per-exception error counters,
+ *     in-flight gauge) for every service method, scraped through {@link PrometheusScrapeWriter}.</li>
  * </ul>
  *
+ * Which invocations produce log lines is decided by {@link LoggingSamplingPolicy}; per-call
+ * log lines can also be switched off entirely via {@code scoring.monitoring.log-invocations}
+ * without losing latency data.
+ *
+ * A method returning a {@link CompletableFuture} that is not yet done is timed until the
+ * future completes, so asynchronous operations are measured by their business latency and
+ * counted as errors when the future fails.
+ *
  * The aspect is deliberately focused on the service layer so that controllers and
  * domain objects remain free of cross-cutting concerns.
  */
@@ -30,7 +40,20 @@ public class ServiceMonitoringAspect {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ServiceMonitoringAspect.class);
 
-    private static final int MAX_ARGUMENT_LOG_LENGTH = 500;
+    private final MonitoredMethodRegistry methodRegistry;
+    private final ArgumentFormatter argumentFormatter;
+    private final LoggingSamplingPolicy samplingPolicy;
+    private final MonitoringProperties monitoringProperties;
+
+    public ServiceMonitoringAspect(MonitoredMethodRegistry methodRegistry,
+                                   ArgumentFormatter argumentFormatter,
+                                   LoggingSamplingPolicy samplingPolicy,
+                                   MonitoringProperties monitoringProperties) {
+        this.methodRegistry = methodRegistry;
+        this.argumentFormatter = argumentFormatter;
+        this.samplingPolicy = samplingPolicy;
+        this.monitoringProperties = monitoringProperties;
+    }
 
     /**
      * Pointcut targeting all public methods on types in the service package.
@@ -47,62 +70,90 @@ public class ServiceMonitoringAspect {
     @Around("anyServiceOperation()")
     public Object logAndTime(ProceedingJoinPoint joinPoint) throws Throwable {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
+        MonitoredMethodDescriptor descriptor = methodRegistry.descriptorFor(signature.getMethod());
 
-        boolean performanceMonitored = isPerformanceMonitored(method, signature.getDeclaringType());
+        String methodName = descriptor.getDisplayName();
+        MethodMeters meters = descriptor.getMeters();
+        boolean logInvocations = monitoringProperties.isLogInvocations() && LOGGER.isInfoEnabled();
 
-        String methodName = signature.toShortString();
-        String argumentsAsString = buildArgumentsString(joinPoint.getArgs());
+        long startTimeNanos = System.nanoTime();
+        boolean sampled = logInvocations && samplingPolicy.sampleCall(descriptor.getLogRateLimiter(), startTimeNanos);
 
-        if (LOGGER.isInfoEnabled()) {
-            LOGGER.info("[SERVICE-ENTRY] method={} args={}", methodName, argumentsAsString);
+        if (sampled) {
+            // Arguments are rendered only once we know the line will be written.
+            LOGGER.info("[SERVICE-ENTRY] method={} args={}", methodName,
+                    argumentFormatter.format(joinPoint.getArgs(), descriptor.getArgumentRenderingPolicy()));
         }
 
-        long startTimeNanos = performanceMonitored ? System.nanoTime() : 0L;
-
+        meters.callStarted();
+        Object result;
         try {
-            Object result = joinPoint.proceed();
-
-            if (performanceMonitored) {
-                long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeNanos);
-                LOGGER.info("[SERVICE-EXIT] method={} durationMs={} resultType={}",
-                        methodName, durationMillis, resultType(result));
-            } else {
-                LOGGER.info("[SERVICE-EXIT] method={} resultType={} (timing disabled)",
-                        methodName, resultType(result));
-            }
-
-            return result;
+            result = joinPoint.proceed();
         } catch (Throwable ex) {
-            if (performanceMonitored && startTimeNanos > 0L) {
-                long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeNanos);
-                LOGGER.error("[SERVICE-ERROR] method={} durationMs={} message={}",
-                        methodName, durationMillis, ex.getMessage(), ex);
-            } else {
-                LOGGER.error("[SERVICE-ERROR] method={} message={}", methodName, ex.getMessage(), ex);
-            }
+            recordFailure(descriptor, sampled, startTimeNanos, ex);
             throw ex;
         }
+
+        if (result instanceof CompletableFuture<?> future && !future.isDone()) {
+            future.whenComplete((value, ex) -> {
+                if (ex == null) {
+                    recordSuccess(descriptor, sampled, logInvocations, startTimeNanos, value);
+                } else {
+                    recordFailure(descriptor, sampled, startTimeNanos,
+                            ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+                }
+            });
+        } else {
+            recordSuccess(descriptor, sampled, logInvocations, startTimeNanos, result);
+        }
+        return result;
     }
 
-    private boolean isPerformanceMonitored(Method method, Class<?> declaringType) {
-        PerformanceMonitored byMethod = AnnotationUtils.findAnnotation(method, PerformanceMonitored.class);
-        if (byMethod != null) {
-            return true;
+    private void recordSuccess(MonitoredMethodDescriptor descriptor, boolean sampled, boolean logInvocations,
+                               long startTimeNanos, Object result) {
+        long endTimeNanos = System.nanoTime();
+        long durationNanos = endTimeNanos - startTimeNanos;
+        boolean performanceMonitored = descriptor.isPerformanceMonitored();
+        descriptor.getMeters().recordSuccess(durationNanos);
+        if (performanceMonitored) {
+            descriptor.getLatencyRecorder().record(durationNanos, endTimeNanos);
+        }
+        if (sampled) {
+            logExit(descriptor.getDisplayName(), performanceMonitored, durationNanos, result);
+        } else if (logInvocations
+                && samplingPolicy.logSlowCall(descriptor.getLogRateLimiter(), durationNanos, endTimeNanos)) {
+            logExit(descriptor.getDisplayName(), true, durationNanos, result);
         }
-        PerformanceMonitored byType = AnnotationUtils.findAnnotation(declaringType, PerformanceMonitored.class);
-        return byType != null;
     }
 
-    private String buildArgumentsString(Object[] args) {
-        if (args == null || args.length == 0) {
-            return "[]";
+    private void recordFailure(MonitoredMethodDescriptor descriptor, boolean sampled, long startTimeNanos,
+                               Throwable ex) {
+        long endTimeNanos = System.nanoTime();
+        long durationNanos = endTimeNanos - startTimeNanos;
+        boolean performanceMonitored = descriptor.isPerformanceMonitored();
+        String methodName = descriptor.getDisplayName();
+        descriptor.getMeters().recordError(ex.getClass(), durationNanos);
+        if (performanceMonitored) {
+            descriptor.getLatencyRecorder().record(durationNanos, endTimeNanos);
+        }
+        if (sampled || samplingPolicy.logError(descriptor.getLogRateLimiter(), endTimeNanos)) {
+            if (performanceMonitored) {
+                LOGGER.error("[SERVICE-ERROR] method={} durationMs={} message={}",
+                        methodName, TimeUnit.NANOSECONDS.toMillis(durationNanos), ex.getMessage(), ex);
+            } else {
+                LOGGER.error("[SERVICE-ERROR] method={} message={}", methodName, ex.getMessage(), ex);
+            }
         }
-        String joined = Arrays.deepToString(args);
-        if (joined.length() > MAX_ARGUMENT_LOG_LENGTH) {
-            return joined.substring(0, MAX_ARGUMENT_LOG_LENGTH) + "... (truncated)";
+    }
+
+    private void logExit(String methodName, boolean includeDuration, long durationNanos, Object result) {
+        if (includeDuration) {
+            LOGGER.info("[SERVICE-EXIT] method={} durationMs={} resultType={}",
+                    methodName, TimeUnit.NANOSECONDS.toMillis(durationNanos), resultType(result));
+        } else {
+            LOGGER.info("[SERVICE-EXIT] method={} resultType={} (timing disabled)",
+                    methodName, resultType(result));
         }
-        return joined;
     }
 
     private String resultType(Object result) {
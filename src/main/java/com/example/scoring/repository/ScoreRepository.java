@@ -1,12 +1,60 @@
 package com.example.scoring.repository;
 
 import com.example.scoring.domain.Score;
+import com.example.scoring.dto.ScoreResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * Repository for persisting {@link Score} entities.
+ *
+ * Read queries project straight into {@link ScoreResponse} to avoid hydrating managed
+ * entities, and paginate by keyset: the {@code (calculatedAt, id)} of the last row of a
+ * page is passed back as the seek position, which keeps every page an index range scan
+ * on {@code idx_scores_candidate_calculated} or {@code idx_scores_calculated} no matter
+ * how deep the client pages. Only the first page of the {@link Pageable} is ever used,
+ * to carry the row limit.
  */
 @Repository
 public interface ScoreRepository extends JpaRepository<Score, Long> {
+
+    String RESPONSE_PROJECTION = "select new com.example.scoring.dto.ScoreResponse("
+            + "s.id, s.candidateId, s.assessmentId, s.scoreValue, s.totalQuestions, s.correctAnswers, s.calculatedAt, s.asyncCalculation) "
+            + "from Score s ";
+
+    @Query(RESPONSE_PROJECTION
+            + "where s.candidateId = :candidateId "
+            + "order by s.calculatedAt desc, s.id desc")
+    List<ScoreResponse> findCandidateHistory(@Param("candidateId") String candidateId, Pageable limit);
+
+    @Query(RESPONSE_PROJECTION
+            + "where s.candidateId = :candidateId "
+            + "and s.calculatedAt <= :calculatedAt and (s.calculatedAt < :calculatedAt or s.id < :id) "
+            + "order by s.calculatedAt desc, s.id desc")
+    List<ScoreResponse> findCandidateHistoryBefore(@Param("candidateId") String candidateId,
+                                                   @Param("calculatedAt") LocalDateTime calculatedAt,
+                                                   @Param("id") Long id,
+                                                   Pageable limit);
+
+    @Query(RESPONSE_PROJECTION
+            + "where s.calculatedAt >= :from and s.calculatedAt < :to "
+            + "order by s.calculatedAt asc, s.id asc")
+    List<ScoreResponse> findCalculatedBetween(@Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to,
+                                              Pageable limit);
+
+    @Query(RESPONSE_PROJECTION
+            + "where s.calculatedAt >= :calculatedAt and s.calculatedAt < :to "
+            + "and (s.calculatedAt > :calculatedAt or s.id > :id) "
+            + "order by s.calculatedAt asc, s.id asc")
+    List<ScoreResponse> findCalculatedBetweenAfter(@Param("calculatedAt") LocalDateTime calculatedAt,
+                                                   @Param("id") Long id,
+                                                   @Param("to") LocalDateTime to,
+                                                   Pageable limit);
 }
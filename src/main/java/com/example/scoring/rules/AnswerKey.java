@@ -0,0 +1,172 @@
+package com.example.scoring.rules;
+
+import com.example.scoring.exception.ScoreCalculationException;
+
+import java.util.Arrays;
+
+/**
+ * Correct options of an assessment, stored as one-hot bitplanes.
+ *
+ * For every option there is a bitset over the questions whose correct answer is that option.
+ * A candidate's answer vector is encoded the same way, 64 questions at a time, so that the
+ * questions answered correctly are found with one AND per option and word and counted with
+ * {@link Long#bitCount(long)}. Scoring a 500-question sheet touches eight words per option
+ * and allocates only three small {@code long[]} scratch arrays.
+ */
+public final class AnswerKey {
+
+    /**
+     * Upper bound on the number of options per question.
+     */
+    static final int MAX_OPTIONS = 64;
+
+    private final int questionCount;
+    private final int words;
+    private final int options;
+    /**
+     * Option-major bitplanes: bit {@code q} of {@code planes[option * words + q / 64]} is set
+     * if {@code option} is the correct answer to question {@code q}.
+     */
+    private final long[] planes;
+    /**
+     * Exclusive end question of every section, in rule order.
+     */
+    private final int[] sectionEnds;
+
+    private AnswerKey(int questionCount, int options, long[] planes, int[] sectionEnds) {
+        this.questionCount = questionCount;
+        this.words = (questionCount + 63) >>> 6;
+        this.options = options;
+        this.planes = planes;
+        this.sectionEnds = sectionEnds;
+    }
+
+    /**
+     * Compiles an answer key.
+     *
+     * @param correctOptions zero-based correct option per question
+     * @param sectionLengths number of questions per section in rule order, or {@code null} if the
+     *                       whole key forms a single section
+     * @throws IllegalArgumentException if the key is empty or inconsistent with the sections
+     */
+    static AnswerKey compile(String name, int[] correctOptions, int[] sectionLengths) {
+        if (correctOptions.length == 0) {
+            throw new IllegalArgumentException("Rule '" + name + "': answer key must not be empty");
+        }
+        int options = 0;
+        for (int option : correctOptions) {
+            if (option < 0 || option >= MAX_OPTIONS) {
+                throw new IllegalArgumentException(
+                        "Rule '" + name + "': answer key options must be between 0 and " + (MAX_OPTIONS - 1));
+            }
+            options = Math.max(options, option + 1);
+        }
+
+        int[] sectionEnds;
+        if (sectionLengths == null) {
+            sectionEnds = new int[]{correctOptions.length};
+        } else {
+            sectionEnds = new int[sectionLengths.length];
+            int end = 0;
+            for (int i = 0; i < sectionLengths.length; i++) {
+                if (sectionLengths[i] <= 0) {
+                    throw new IllegalArgumentException(
+                            "Rule '" + name + "': every section needs a positive question count when an answer key is set");
+                }
+                end += sectionLengths[i];
+                sectionEnds[i] = end;
+            }
+            if (end != correctOptions.length) {
+                throw new IllegalArgumentException(
+                        "Rule '" + name + "': section question counts must add up to the answer key length");
+            }
+        }
+
+        int words = (correctOptions.length + 63) >>> 6;
+        long[] planes = new long[options * words];
+        for (int question = 0; question < correctOptions.length; question++) {
+            planes[correctOptions[question] * words + (question >>> 6)] |= 1L << question;
+        }
+        return new AnswerKey(correctOptions.length, options, planes, sectionEnds);
+    }
+
+    public int getQuestionCount() {
+        return questionCount;
+    }
+
+    int sectionCount() {
+        return sectionEnds.length;
+    }
+
+    /**
+     * Grades an answer vector.
+     *
+     * @param answers zero-based selected option per question; negative values mean unanswered
+     * @param counts  receives {@code [total, correct, incorrect]} for every section in rule order
+     */
+    void tally(int[] answers, int[] counts) {
+        if (answers.length != questionCount) {
+            throw new ScoreCalculationException(
+                    "Expected " + questionCount + " answers but received " + answers.length);
+        }
+        long[] answered = new long[words];
+        long[] matched = new long[words];
+        long[] candidatePlanes = new long[options];
+
+        for (int word = 0; word < words; word++) {
+            int first = word << 6;
+            int last = Math.min(first + 64, questionCount);
+            Arrays.fill(candidatePlanes, 0L);
+            long answeredBits = 0L;
+            for (int question = first; question < last; question++) {
+                int answer = answers[question];
+                if (answer < 0) {
+                    continue;
+                }
+                long bit = 1L << question;
+                answeredBits |= bit;
+                if (answer < options) {
+                    candidatePlanes[answer] |= bit;
+                }
+            }
+            long matchedBits = 0L;
+            for (int option = 0; option < options; option++) {
+                matchedBits |= planes[option * words + word] & candidatePlanes[option];
+            }
+            answered[word] = answeredBits;
+            matched[word] = matchedBits;
+        }
+
+        int start = 0;
+        for (int section = 0; section < sectionEnds.length; section++) {
+            int end = sectionEnds[section];
+            int correct = countBits(matched, start, end);
+            int given = countBits(answered, start, end);
+            counts[3 * section] = end - start;
+            counts[3 * section + 1] = correct;
+            counts[3 * section + 2] = given - correct;
+            start = end;
+        }
+    }
+
+    /**
+     * Counts the set bits with index in {@code [from, to)}.
+     */
+    static int countBits(long[] bits, int from, int to) {
+        if (from >= to) {
+            return 0;
+        }
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> (63 - ((to - 1) & 63));
+        if (firstWord == lastWord) {
+            return Long.bitCount(bits[firstWord] & firstMask & lastMask);
+        }
+        int count = Long.bitCount(bits[firstWord] & firstMask);
+        for (int word = firstWord + 1; word < lastWord; word++) {
+            count += Long.bitCount(bits[word]);
+        }
+        return count + Long.bitCount(bits[lastWord] & lastMask);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.scoring.rules;
+
+/**
+ * Outcome of grading an answer vector: the score and the counts it was derived from.
+ */
+public final class AnswerSheetResult {
+
+    private final double scoreValue;
+    private final int totalQuestions;
+    private final int correctAnswers;
+    private final int incorrectAnswers;
+
+    public AnswerSheetResult(double scoreValue, int totalQuestions, int correctAnswers, int incorrectAnswers) {
+        this.scoreValue = scoreValue;
+        this.totalQuestions = totalQuestions;
+        this.correctAnswers = correctAnswers;
+        this.incorrectAnswers = incorrectAnswers;
+    }
+
+    public double getScoreValue() {
+        return scoreValue;
+    }
+
+    public int getTotalQuestions() {
+        return totalQuestions;
+    }
+
+    public int getCorrectAnswers() {
+        return correctAnswers;
+    }
+
+    public int getIncorrectAnswers() {
+        return incorrectAnswers;
+    }
+}
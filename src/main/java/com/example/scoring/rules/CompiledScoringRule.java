@@ -0,0 +1,236 @@
+package com.example.scoring.rules;
+
+import com.example.scoring.dto.SectionAnswers;
+import com.example.scoring.exception.ScoreCalculationException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, allocation-free evaluator of a {@link ScoringRuleDefinition}.
+ *
+ * The rule is flattened into a single {@code double[]} program: a fixed header (negative
+ * marking factor, sum of section weights, number of curve points) followed by the section
+ * weights and the curve's raw and curved values. Section identifiers are resolved to weight
+ * offsets once at compile time, so evaluation is a handful of array reads and arithmetic.
+ */
+public final class CompiledScoringRule {
+
+    private static final int NEGATIVE_MARKING = 0;
+    private static final int WEIGHT_SUM = 1;
+    private static final int CURVE_POINTS = 2;
+    private static final int HEADER_LENGTH = 3;
+
+    private final double[] program;
+    private final Map<String, Integer> sectionOffsets;
+    private final int curveOffset;
+    private final AnswerKey answerKey;
+
+    private CompiledScoringRule(double[] program,
+                                Map<String, Integer> sectionOffsets,
+                                int curveOffset,
+                                AnswerKey answerKey) {
+        this.program = program;
+        this.sectionOffsets = sectionOffsets;
+        this.curveOffset = curveOffset;
+        this.answerKey = answerKey;
+    }
+
+    /**
+     * Validates and compiles a rule definition.
+     *
+     * @throws IllegalArgumentException if the definition is inconsistent
+     */
+    public static CompiledScoringRule compile(String name, ScoringRuleDefinition definition) {
+        if (!(definition.getNegativeMarking() >= 0.0 && definition.getNegativeMarking() <= 1.0)) {
+            throw new IllegalArgumentException("Rule '" + name + "': negative marking must be between 0 and 1");
+        }
+        List<ScoringRuleDefinition.Section> sections = definition.getSections();
+        List<ScoringRuleDefinition.CurvePoint> curve = definition.getCurve();
+        if (curve.size() == 1) {
+            throw new IllegalArgumentException("Rule '" + name + "': a curve needs at least two points");
+        }
+
+        int curveOffset = HEADER_LENGTH + sections.size();
+        double[] program = new double[curveOffset + 2 * curve.size()];
+        program[NEGATIVE_MARKING] = definition.getNegativeMarking();
+        program[CURVE_POINTS] = curve.size();
+
+        Map<String, Integer> sectionOffsets = new HashMap<>();
+        double weightSum = 0.0;
+        for (int i = 0; i < sections.size(); i++) {
+            ScoringRuleDefinition.Section section = sections.get(i);
+            if (section.getId() == null || section.getId().isBlank()) {
+                throw new IllegalArgumentException("Rule '" + name + "': section ids must not be blank");
+            }
+            if (!(section.getWeight() > 0.0)) {
+                throw new IllegalArgumentException("Rule '" + name + "': section weights must be positive");
+            }
+            if (sectionOffsets.put(section.getId(), HEADER_LENGTH + i) != null) {
+                throw new IllegalArgumentException("Rule '" + name + "': duplicate section '" + section.getId() + "'");
+            }
+            program[HEADER_LENGTH + i] = section.getWeight();
+            weightSum += section.getWeight();
+        }
+        program[WEIGHT_SUM] = weightSum;
+
+        for (int i = 0; i < curve.size(); i++) {
+            ScoringRuleDefinition.CurvePoint point = curve.get(i);
+            if (!(point.getRaw() >= 0.0 && point.getRaw() <= 100.0 && point.getCurved() >= 0.0 && point.getCurved() <= 100.0)) {
+                throw new IllegalArgumentException("Rule '" + name + "': curve points must lie within 0..100");
+            }
+            if (i > 0 && point.getRaw() <= curve.get(i - 1).getRaw()) {
+                throw new IllegalArgumentException("Rule '" + name + "': curve raw values must be strictly increasing");
+            }
+            program[curveOffset + i] = point.getRaw();
+            program[curveOffset + curve.size() + i] = point.getCurved();
+        }
+        return new CompiledScoringRule(program, Map.copyOf(sectionOffsets), curveOffset,
+                compileAnswerKey(name, definition));
+    }
+
+    private static AnswerKey compileAnswerKey(String name, ScoringRuleDefinition definition) {
+        if (definition.getAnswerKey() == null) {
+            return null;
+        }
+        List<ScoringRuleDefinition.Section> sections = definition.getSections();
+        int[] sectionLengths = null;
+        if (!sections.isEmpty()) {
+            sectionLengths = new int[sections.size()];
+            for (int i = 0; i < sectionLengths.length; i++) {
+                sectionLengths[i] = sections.get(i).getQuestions();
+            }
+        }
+        return AnswerKey.compile(name, definition.getAnswerKey(), sectionLengths);
+    }
+
+    /**
+     * Scores an assessment answered as a whole, without section breakdown.
+     */
+    public double evaluate(int totalQuestions, int correctAnswers, int incorrectAnswers) {
+        return applyCurve(100.0 * fraction(totalQuestions, correctAnswers, incorrectAnswers));
+    }
+
+    /**
+     * Scores an assessment from its per-section results. Configured sections missing from the
+     * results count as zero; rules without sections pool all questions instead.
+     *
+     * @throws ScoreCalculationException if a section is unknown or reported more than once
+     */
+    public double evaluate(List<SectionAnswers> results) {
+        if (program[WEIGHT_SUM] == 0.0) {
+            int total = 0;
+            int correct = 0;
+            int incorrect = 0;
+            for (int i = 0; i < results.size(); i++) {
+                SectionAnswers result = results.get(i);
+                total += result.getTotalQuestions();
+                correct += result.getCorrectAnswers();
+                incorrect += incorrectAnswers(result);
+            }
+            return evaluate(total, correct, incorrect);
+        }
+
+        double weighted = 0.0;
+        long seen = 0L;
+        for (int i = 0; i < results.size(); i++) {
+            SectionAnswers result = results.get(i);
+            Integer offset = sectionOffsets.get(result.getSectionId());
+            if (offset == null) {
+                throw new ScoreCalculationException("Unknown section '" + result.getSectionId() + "'");
+            }
+            int section = offset - HEADER_LENGTH;
+            boolean duplicate;
+            if (section < Long.SIZE) {
+                duplicate = (seen & (1L << section)) != 0L;
+                seen |= 1L << section;
+            } else {
+                duplicate = reportedBefore(results, i);
+            }
+            if (duplicate) {
+                throw new ScoreCalculationException("Duplicate section '" + result.getSectionId() + "'");
+            }
+            weighted += program[offset]
+                    * fraction(result.getTotalQuestions(), result.getCorrectAnswers(), incorrectAnswers(result));
+        }
+        return applyCurve(100.0 * weighted / program[WEIGHT_SUM]);
+    }
+
+    /**
+     * Grades an answer vector against the rule's answer key and scores the resulting counts.
+     *
+     * @throws ScoreCalculationException if the rule has no answer key or the vector has the wrong length
+     */
+    public AnswerSheetResult evaluate(int[] answers) {
+        if (answerKey == null) {
+            throw new ScoreCalculationException("No answer key is configured for this assessment");
+        }
+        int[] counts = new int[3 * answerKey.sectionCount()];
+        answerKey.tally(answers, counts);
+
+        int correct = 0;
+        int incorrect = 0;
+        double weighted = 0.0;
+        for (int section = 0; section < answerKey.sectionCount(); section++) {
+            int base = 3 * section;
+            correct += counts[base + 1];
+            incorrect += counts[base + 2];
+            if (program[WEIGHT_SUM] != 0.0) {
+                weighted += program[HEADER_LENGTH + section]
+                        * fraction(counts[base], counts[base + 1], counts[base + 2]);
+            }
+        }
+        double raw = program[WEIGHT_SUM] != 0.0
+                ? weighted / program[WEIGHT_SUM]
+                : fraction(answerKey.getQuestionCount(), correct, incorrect);
+        return new AnswerSheetResult(applyCurve(100.0 * raw), answerKey.getQuestionCount(), correct, incorrect);
+    }
+
+    private static boolean reportedBefore(List<SectionAnswers> results, int index) {
+        String sectionId = results.get(index).getSectionId();
+        for (int i = 0; i < index; i++) {
+            if (sectionId.equals(results.get(i).getSectionId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private double fraction(int totalQuestions, int correctAnswers, int incorrectAnswers) {
+        if (totalQuestions <= 0) {
+            throw new ScoreCalculationException("Total questions must be positive");
+        }
+        double points = correctAnswers - program[NEGATIVE_MARKING] * incorrectAnswers;
+        return Math.max(0.0, points) / totalQuestions;
+    }
+
+    private double applyCurve(double raw) {
+        double percentage = Math.min(100.0, Math.max(0.0, raw));
+        int points = (int) program[CURVE_POINTS];
+        if (points == 0) {
+            return percentage;
+        }
+        int rawOffset = curveOffset;
+        int curvedOffset = curveOffset + points;
+        if (percentage <= program[rawOffset]) {
+            return program[curvedOffset];
+        }
+        for (int i = 1; i < points; i++) {
+            double upper = program[rawOffset + i];
+            if (percentage <= upper) {
+                double lower = program[rawOffset + i - 1];
+                double from = program[curvedOffset + i - 1];
+                double to = program[curvedOffset + i];
+                return from + (to - from) * (percentage - lower) / (upper - lower);
+            }
+        }
+        return program[curvedOffset + points - 1];
+    }
+
+    private static int incorrectAnswers(SectionAnswers result) {
+        return result.getIncorrectAnswers() != null
+                ? result.getIncorrectAnswers()
+                : result.getTotalQuestions() - result.getCorrectAnswers();
+    }
+}
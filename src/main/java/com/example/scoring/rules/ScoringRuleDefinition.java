@@ -0,0 +1,164 @@
+package com.example.scoring.rules;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Declarative scoring rule of one assessment, as configured under {@code scoring.rules} or
+ * submitted to the rules endpoint. Compiled into a {@link CompiledScoringRule} before use.
+ */
+public class ScoringRuleDefinition {
+
+    /**
+     * Fraction of a question deducted for every incorrect answer; zero disables negative marking.
+     */
+    private double negativeMarking = 0.0;
+
+    /**
+     * Weighted sections of the assessment. Without sections, all questions count equally.
+     */
+    private List<Section> sections = new ArrayList<>();
+
+    /**
+     * Piecewise-linear curve from the raw percentage to the reported score, as points with
+     * strictly increasing raw values. Without points, the raw percentage is reported.
+     */
+    private List<CurvePoint> curve = new ArrayList<>();
+
+    /**
+     * Optional zero-based correct option per question, used to grade submitted answer vectors.
+     * With sections, every section must set its question count and the counts must add up to
+     * the key length; questions are assigned to sections in order.
+     */
+    private int[] answerKey;
+
+    public double getNegativeMarking() {
+        return negativeMarking;
+    }
+
+    public void setNegativeMarking(double negativeMarking) {
+        this.negativeMarking = negativeMarking;
+    }
+
+    public List<Section> getSections() {
+        return sections;
+    }
+
+    public void setSections(List<Section> sections) {
+        this.sections = sections != null ? sections : new ArrayList<>();
+    }
+
+    public int[] getAnswerKey() {
+        return answerKey;
+    }
+
+    public void setAnswerKey(int[] answerKey) {
+        this.answerKey = answerKey;
+    }
+
+    public List<CurvePoint> getCurve() {
+        return curve;
+    }
+
+    public void setCurve(List<CurvePoint> curve) {
+        this.curve = curve != null ? curve : new ArrayList<>();
+    }
+
+    ScoringRuleDefinition copy() {
+        ScoringRuleDefinition copy = new ScoringRuleDefinition();
+        copy.negativeMarking = negativeMarking;
+        for (Section section : sections) {
+            copy.sections.add(section.copy());
+        }
+        for (CurvePoint point : curve) {
+            copy.curve.add(new CurvePoint(point.raw, point.curved));
+        }
+        copy.answerKey = answerKey != null ? answerKey.clone() : null;
+        return copy;
+    }
+
+    /**
+     * A section of an assessment and its relative weight.
+     */
+    public static class Section {
+
+        private String id;
+        private double weight = 1.0;
+
+        /**
+         * Number of answer key questions belonging to the section.
+         */
+        private int questions;
+
+        public Section() {
+        }
+
+        public Section(String id, double weight) {
+            this.id = id;
+            this.weight = weight;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public double getWeight() {
+            return weight;
+        }
+
+        public void setWeight(double weight) {
+            this.weight = weight;
+        }
+
+        public int getQuestions() {
+            return questions;
+        }
+
+        public void setQuestions(int questions) {
+            this.questions = questions;
+        }
+
+        private Section copy() {
+            Section copy = new Section(id, weight);
+            copy.questions = questions;
+            return copy;
+        }
+    }
+
+    /**
+     * Maps a raw percentage onto a reported score.
+     */
+    public static class CurvePoint {
+
+        private double raw;
+        private double curved;
+
+        public CurvePoint() {
+        }
+
+        public CurvePoint(double raw, double curved) {
+            this.raw = raw;
+            this.curved = curved;
+        }
+
+        public double getRaw() {
+            return raw;
+        }
+
+        public void setRaw(double raw) {
+            this.raw = raw;
+        }
+
+        public double getCurved() {
+            return curved;
+        }
+
+        public void setCurved(double curved) {
+            this.curved = curved;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.scoring.rules;
+
+import com.example.scoring.exception.ScoreCalculationException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of all compiled rules, swapped as a whole by {@link ScoringRulesEngine}.
+ */
+final class ScoringRuleSet {
+
+    private final ScoringRulesDefinition definition;
+    private final CompiledScoringRule defaultRule;
+    private final Map<String, CompiledScoringRule> assessments;
+
+    private ScoringRuleSet(ScoringRulesDefinition definition,
+                           CompiledScoringRule defaultRule,
+                           Map<String, CompiledScoringRule> assessments) {
+        this.definition = definition;
+        this.defaultRule = defaultRule;
+        this.assessments = assessments;
+    }
+
+    /**
+     * Compiles a private copy of the definition, so later changes to the caller's object
+     * neither alter the compiled rules nor the definition reported for them.
+     */
+    static ScoringRuleSet compile(ScoringRulesDefinition source) {
+        ScoringRulesDefinition definition = source.copy();
+        ScoringRuleDefinition defaultDefinition = definition.getDefaultRule() != null
+                ? definition.getDefaultRule()
+                : new ScoringRuleDefinition();
+        Map<String, CompiledScoringRule> compiled = new HashMap<>();
+        definition.getAssessments().forEach((assessmentId, rule) ->
+                compiled.put(assessmentId, CompiledScoringRule.compile(assessmentId, rule)));
+        return new ScoringRuleSet(definition, CompiledScoringRule.compile("default", defaultDefinition),
+                Map.copyOf(compiled));
+    }
+
+    CompiledScoringRule ruleFor(String assessmentId) {
+        if (assessmentId == null) {
+            return defaultRule;
+        }
+        CompiledScoringRule rule = assessments.get(assessmentId);
+        if (rule == null) {
+            throw new ScoreCalculationException("No scoring rule configured for assessment '" + assessmentId + "'");
+        }
+        return rule;
+    }
+
+    ScoringRulesDefinition definition() {
+        return definition;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.scoring.rules;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the scoring rule settings compiled by {@link ScoringRulesEngine}.
+ */
+@Configuration
+@EnableConfigurationProperties(ScoringRulesProperties.class)
+public class ScoringRulesConfiguration {
+}
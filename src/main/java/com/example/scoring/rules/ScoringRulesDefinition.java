@@ -0,0 +1,41 @@
+package com.example.scoring.rules;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Complete set of scoring rules: the rule used for requests without an assessment and one
+ * rule per assessment identifier.
+ */
+public class ScoringRulesDefinition {
+
+    private ScoringRuleDefinition defaultRule = new ScoringRuleDefinition();
+
+    private Map<String, ScoringRuleDefinition> assessments = new LinkedHashMap<>();
+
+    public ScoringRuleDefinition getDefaultRule() {
+        return defaultRule;
+    }
+
+    public void setDefaultRule(ScoringRuleDefinition defaultRule) {
+        this.defaultRule = defaultRule;
+    }
+
+    public Map<String, ScoringRuleDefinition> getAssessments() {
+        return assessments;
+    }
+
+    public void setAssessments(Map<String, ScoringRuleDefinition> assessments) {
+        this.assessments = assessments != null ? assessments : new LinkedHashMap<>();
+    }
+
+    /**
+     * Returns a deep copy that shares no mutable state with this definition.
+     */
+    ScoringRulesDefinition copy() {
+        ScoringRulesDefinition copy = new ScoringRulesDefinition();
+        copy.defaultRule = defaultRule != null ? defaultRule.copy() : null;
+        assessments.forEach((assessmentId, rule) -> copy.assessments.put(assessmentId, rule.copy()));
+        return copy;
+    }
+}
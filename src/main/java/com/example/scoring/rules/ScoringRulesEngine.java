@@ -0,0 +1,61 @@
+package com.example.scoring.rules;
+
+import com.example.scoring.dto.ScoreRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Evaluates score requests against the compiled scoring rules.
+ *
+ * Rules are compiled once, from {@code scoring.rules} at startup or from {@link #replace}
+ * at runtime, and published as one immutable {@link ScoringRuleSet}. A request is evaluated
+ * entirely against the set it read first, so a concurrent replacement never mixes old and
+ * new rules.
+ */
+@Component
+public class ScoringRulesEngine {
+
+    private final AtomicReference<ScoringRuleSet> ruleSet;
+
+    public ScoringRulesEngine(ScoringRulesProperties properties) {
+        this.ruleSet = new AtomicReference<>(ScoringRuleSet.compile(properties));
+    }
+
+    /**
+     * Computes the score of a validated request.
+     */
+    public double score(ScoreRequest request) {
+        CompiledScoringRule rule = ruleSet.get().ruleFor(request.getAssessmentId());
+        if (request.getSections() != null && !request.getSections().isEmpty()) {
+            return rule.evaluate(request.getSections());
+        }
+        int incorrectAnswers = request.getIncorrectAnswers() != null
+                ? request.getIncorrectAnswers()
+                : request.getTotalQuestions() - request.getCorrectAnswers();
+        return rule.evaluate(request.getTotalQuestions(), request.getCorrectAnswers(), incorrectAnswers);
+    }
+
+    /**
+     * Grades a submitted answer vector against the answer key of the request's assessment.
+     */
+    public AnswerSheetResult scoreAnswers(String assessmentId, int[] answers) {
+        return ruleSet.get().ruleFor(assessmentId).evaluate(answers);
+    }
+
+    /**
+     * Compiles the given rules and, if they are valid, atomically replaces the current ones.
+     *
+     * @throws IllegalArgumentException if any rule is inconsistent; the current rules stay active
+     */
+    public void replace(ScoringRulesDefinition definition) {
+        ruleSet.set(ScoringRuleSet.compile(definition));
+    }
+
+    /**
+     * Returns a copy of the definition the active rules were compiled from.
+     */
+    public ScoringRulesDefinition currentDefinition() {
+        return ruleSet.get().definition().copy();
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.scoring.rules;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Scoring rules loaded at startup, bound from {@code scoring.rules.*}.
+ */
+@ConfigurationProperties(prefix = "scoring.rules")
+public class ScoringRulesProperties extends ScoringRulesDefinition {
+}
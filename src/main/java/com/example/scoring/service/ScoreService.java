@@ -1,9 +1,17 @@
 package com.example.scoring.service;
 
 import com.example.scoring.domain.Score;
+import com.example.scoring.dto.ScoreBatchItemResult;
+import com.example.scoring.dto.ScoreCursor;
+import com.example.scoring.dto.ScorePage;
 import com.example.scoring.dto.ScoreRequest;
+import com.example.scoring.dto.ScoreResponse;
 
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Service interface exposing scoring operations.
@@ -27,4 +35,43 @@ public interface ScoreService {
      * @return future representing the eventual calculated score
      */
     CompletableFuture<Score> calculateScoreAsync(ScoreRequest request);
+
+    /**
+     * Calculates and persists scores for a potentially very large sequence of requests.
+     * Requests are consumed lazily in chunks, and one result per request is handed to the
+     * sink, in input order, as soon as its chunk has been persisted.
+     *
+     * @param requests lazily evaluated input requests
+     * @param sink     receiver of per-request results
+     */
+    void calculateScoresBatch(Iterator<ScoreRequest> requests, Consumer<ScoreBatchItemResult> sink);
+
+    /**
+     * Returns the most recently calculated score of a candidate.
+     *
+     * @param candidateId candidate identifier
+     * @return latest score, or empty if the candidate has none
+     */
+    Optional<ScoreResponse> findLatestScore(String candidateId);
+
+    /**
+     * Returns a page of a candidate's scores, newest first.
+     *
+     * @param candidateId candidate identifier
+     * @param after       position after which to continue, or {@code null} for the first page
+     * @param limit       maximum number of scores to return
+     * @return page of scores with the cursor for the next page
+     */
+    ScorePage findCandidateHistory(String candidateId, ScoreCursor after, int limit);
+
+    /**
+     * Returns a page of all scores calculated in {@code [from, to)}, oldest first.
+     *
+     * @param from  inclusive lower bound
+     * @param to    exclusive upper bound
+     * @param after position after which to continue, or {@code null} for the first page
+     * @param limit maximum number of scores to return
+     * @return page of scores with the cursor for the next page
+     */
+    ScorePage findScoresBetween(LocalDateTime from, LocalDateTime to, ScoreCursor after, int limit);
 }
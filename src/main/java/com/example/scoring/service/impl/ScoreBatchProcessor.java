@@ -0,0 +1,233 @@
+package com.example.scoring.service.impl;
+
+import com.example.scoring.config.BatchProperties;
+import com.example.scoring.config.DatabaseBulkhead;
+import com.example.scoring.config.ScoringExecutorConfiguration;
+import com.example.scoring.domain.Score;
+import com.example.scoring.dto.ScoreBatchItemResult;
+import com.example.scoring.dto.ScoreRequest;
+import com.example.scoring.dto.ScoreResponse;
+import com.example.scoring.event.PersistedScoreNotifier;
+import com.example.scoring.monitoring.PerformanceMonitored;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Chunked pipeline behind bulk score calculation.
+ *
+ * Requests are pulled lazily from the input, so at most one chunk is held in memory at a
+ * time. Each chunk is validated and scored in parallel, persisted as one JDBC batch and
+ * its results are handed to the sink in input order before the next chunk is read.
+ * Invalid requests produce a failed result and do not affect the rest of the chunk.
+ *
+ * Scoring fans out on the scoring executor rather than the common fork-join pool, so batch
+ * work shares the executor's bounds and metrics with the other scoring paths. The calling
+ * thread scores items as well and only waits for items a worker has already started, so a
+ * saturated executor, or a batch that itself runs on it, slows the chunk down instead of
+ * blocking it.
+ */
+@Component
+public class ScoreBatchProcessor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScoreBatchProcessor.class);
+
+    private final ScoreCalculator scoreCalculator;
+    private final ScoreWriter scoreWriter;
+    private final DatabaseBulkhead databaseBulkhead;
+    private final Validator validator;
+    private final BatchProperties properties;
+    private final PersistedScoreNotifier persistedScoreNotifier;
+    private final Executor scoringExecutor;
+
+    public ScoreBatchProcessor(ScoreCalculator scoreCalculator,
+                               ScoreWriter scoreWriter,
+                               DatabaseBulkhead databaseBulkhead,
+                               Validator validator,
+                               BatchProperties properties,
+                               PersistedScoreNotifier persistedScoreNotifier,
+                               @Qualifier(ScoringExecutorConfiguration.SCORING_EXECUTOR) Executor scoringExecutor) {
+        this.scoreCalculator = scoreCalculator;
+        this.scoreWriter = scoreWriter;
+        this.databaseBulkhead = databaseBulkhead;
+        this.validator = validator;
+        this.properties = properties;
+        this.persistedScoreNotifier = persistedScoreNotifier;
+        this.scoringExecutor = scoringExecutor;
+    }
+
+    /**
+     * Scores the requests chunk by chunk and passes one result per request to the sink, in
+     * input order. If the iterator fails to produce the next request (malformed input), the
+     * requests read before it are still scored and the batch ends with a failure carrying the
+     * index of the unreadable item.
+     */
+    @PerformanceMonitored
+    public void process(Iterator<ScoreRequest> requests, Consumer<ScoreBatchItemResult> sink) {
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        List<ScoreRequest> chunk = new ArrayList<>(chunkSize);
+        long firstIndex = 0L;
+        RuntimeException malformed = null;
+
+        boolean more = true;
+        while (more) {
+            chunk.clear();
+            try {
+                while (chunk.size() < chunkSize && (more = requests.hasNext())) {
+                    chunk.add(requests.next());
+                }
+            } catch (RuntimeException ex) {
+                malformed = ex;
+                more = false;
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, firstIndex, sink);
+                firstIndex += chunk.size();
+            }
+        }
+        if (malformed != null) {
+            LOGGER.warn("Batch input is malformed at item {}: {}", firstIndex, malformed.getMessage());
+            sink.accept(ScoreBatchItemResult.failure(firstIndex, "Malformed batch input: " + malformed.getMessage()));
+        }
+        LOGGER.debug("Processed batch of {} score requests", firstIndex);
+    }
+
+    private void processChunk(List<ScoreRequest> chunk, long firstIndex, Consumer<ScoreBatchItemResult> sink) {
+        int size = chunk.size();
+        Score[] calculated = new Score[size];
+        String[] errors = new String[size];
+
+        new ChunkScoring(chunk, calculated, errors).run();
+
+        List<Score> valid = new ArrayList<>(size);
+        for (Score score : calculated) {
+            if (score != null) {
+                valid.add(score);
+            }
+        }
+
+        List<Score> saved = List.of();
+        String persistenceError = null;
+        if (!valid.isEmpty()) {
+            try {
+                saved = databaseBulkhead.call(() -> scoreWriter.persistAll(valid));
+            } catch (RuntimeException ex) {
+                LOGGER.error("Failed to persist a chunk of {} batch scores", valid.size(), ex);
+                persistenceError = "Failed to persist score";
+            }
+        }
+
+        persistedScoreNotifier.scoresPersisted(saved);
+
+        int savedIndex = 0;
+        for (int i = 0; i < size; i++) {
+            long index = firstIndex + i;
+            if (errors[i] != null) {
+                sink.accept(ScoreBatchItemResult.failure(index, errors[i]));
+            } else if (persistenceError != null) {
+                sink.accept(ScoreBatchItemResult.failure(index, persistenceError));
+            } else {
+                sink.accept(ScoreBatchItemResult.success(index, ScoreResponse.fromEntity(saved.get(savedIndex++))));
+            }
+        }
+    }
+
+    private void score(ScoreRequest request, int i, Score[] calculated, String[] errors) {
+        String violation = firstViolation(request);
+        if (violation != null) {
+            errors[i] = violation;
+            return;
+        }
+        try {
+            calculated[i] = scoreCalculator.calculate(request, false);
+        } catch (RuntimeException ex) {
+            errors[i] = ex.getMessage();
+        }
+    }
+
+    private String firstViolation(ScoreRequest request) {
+        if (request == null) {
+            return "Request must not be null";
+        }
+        Set<ConstraintViolation<ScoreRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        ConstraintViolation<ScoreRequest> violation = violations.iterator().next();
+        return violation.getPropertyPath() + " " + violation.getMessage();
+    }
+
+    /**
+     * Scores one chunk on the calling thread and on up to one helper task per spare processor.
+     * Items are claimed one at a time, so helpers that start late, or never, leave nothing
+     * behind for the caller to wait on.
+     */
+    private final class ChunkScoring implements Runnable {
+
+        private final List<ScoreRequest> chunk;
+        private final Score[] calculated;
+        private final String[] errors;
+        private final AtomicInteger nextItem = new AtomicInteger();
+        private final CountDownLatch remaining;
+
+        private ChunkScoring(List<ScoreRequest> chunk, Score[] calculated, String[] errors) {
+            this.chunk = chunk;
+            this.calculated = calculated;
+            this.errors = errors;
+            this.remaining = new CountDownLatch(chunk.size());
+        }
+
+        @Override
+        public void run() {
+            int helpers = Math.min(chunk.size(), Runtime.getRuntime().availableProcessors()) - 1;
+            for (int i = 0; i < helpers && nextItem.get() < chunk.size(); i++) {
+                try {
+                    scoringExecutor.execute(this::scoreItems);
+                } catch (RejectedExecutionException ex) {
+                    break;
+                }
+            }
+            scoreItems();
+            awaitStartedItems();
+        }
+
+        private void scoreItems() {
+            int i;
+            while ((i = nextItem.getAndIncrement()) < chunk.size()) {
+                try {
+                    score(chunk.get(i), i, calculated, errors);
+                } finally {
+                    remaining.countDown();
+                }
+            }
+        }
+
+        private void awaitStartedItems() {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    remaining.await();
+                    break;
+                } catch (InterruptedException ex) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
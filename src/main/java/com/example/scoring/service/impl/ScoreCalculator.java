@@ -0,0 +1,155 @@
+package com.example.scoring.service.impl;
+
+import com.example.scoring.candidate.CandidateDictionary;
+import com.example.scoring.domain.Score;
+import com.example.scoring.dto.ScoreRequest;
+import com.example.scoring.dto.SectionAnswers;
+import com.example.scoring.exception.ScoreCalculationException;
+import com.example.scoring.monitoring.PerformanceMonitored;
+import com.example.scoring.rules.AnswerSheetResult;
+import com.example.scoring.rules.ScoringRulesEngine;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Computation phase of a score calculation: validates the request and builds the
+ * (not yet persisted) {@link Score}.
+ *
+ * Kept as a separate bean so that calls from {@link ScoreServiceImpl} go through the
+ * Spring proxy and the computation is timed independently of persistence.
+ *
+ * The candidate id of every score is replaced by its {@link CandidateDictionary#canonical(String)
+ * canonical instance} when the candidate already has a code, so the long-lived score, its
+ * cached response and the per-candidate structures share one instance per candidate instead
+ * of the copy parsed from each request. Codes themselves are only assigned once a score is
+ * persisted, not for every request.
+ */
+@Component
+public class ScoreCalculator {
+
+    private final ScoringRulesEngine rulesEngine;
+    private final CandidateDictionary candidateDictionary;
+
+    public ScoreCalculator(ScoringRulesEngine rulesEngine, CandidateDictionary candidateDictionary) {
+        this.rulesEngine = rulesEngine;
+        this.candidateDictionary = candidateDictionary;
+    }
+
+    @PerformanceMonitored
+    public Score calculate(ScoreRequest request, boolean asyncCalculation) {
+        Objects.requireNonNull(request, "ScoreRequest must not be null");
+        validateIds(request);
+        if (request.getAnswers() != null) {
+            return gradeAnswers(request, asyncCalculation);
+        }
+        validateRequest(request);
+
+        double scoreValue = rulesEngine.score(request);
+
+        Score score = new Score(
+                candidateDictionary.canonical(request.getCandidateId()),
+                scoreValue,
+                request.getTotalQuestions(),
+                request.getCorrectAnswers(),
+                LocalDateTime.now(),
+                asyncCalculation
+        );
+        score.setAssessmentId(request.getAssessmentId());
+        return score;
+    }
+
+    /**
+     * Scores a raw answer vector; the stored counts are the ones derived from the answers.
+     */
+    private Score gradeAnswers(ScoreRequest request, boolean asyncCalculation) {
+        if (request.hasCounts()) {
+            throw new ScoreCalculationException("Answers cannot be combined with answer counts or sections");
+        }
+        if (request.getAnswers().length > ScoreRequest.MAX_ANSWERS) {
+            throw new ScoreCalculationException("At most " + ScoreRequest.MAX_ANSWERS + " answers are accepted");
+        }
+        AnswerSheetResult result = rulesEngine.scoreAnswers(request.getAssessmentId(), request.getAnswers());
+        Score score = new Score(
+                candidateDictionary.canonical(request.getCandidateId()),
+                result.getScoreValue(),
+                result.getTotalQuestions(),
+                result.getCorrectAnswers(),
+                LocalDateTime.now(),
+                asyncCalculation
+        );
+        score.setAssessmentId(request.getAssessmentId());
+        return score;
+    }
+
+    /**
+     * Rejects ids that would not fit into a score journal record. Checked here rather than by
+     * the store, so that one oversized id fails only its own request and not the write-behind
+     * or ingestion batch it would be persisted with.
+     */
+    private static void validateIds(ScoreRequest request) {
+        if (utf8Length(request.getCandidateId()) > ScoreRequest.MAX_ID_BYTES
+                || utf8Length(request.getAssessmentId()) > ScoreRequest.MAX_ID_BYTES) {
+            throw new ScoreCalculationException(
+                    "Candidate and assessment ids must not exceed " + ScoreRequest.MAX_ID_BYTES + " UTF-8 bytes");
+        }
+    }
+
+    private static int utf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private void validateRequest(ScoreRequest request) {
+        validateCounts(request.getTotalQuestions(), request.getCorrectAnswers(), request.getIncorrectAnswers());
+
+        List<SectionAnswers> sections = request.getSections();
+        if (sections == null || sections.isEmpty()) {
+            return;
+        }
+        int totalQuestions = 0;
+        int correctAnswers = 0;
+        for (SectionAnswers section : sections) {
+            validateCounts(section.getTotalQuestions(), section.getCorrectAnswers(), section.getIncorrectAnswers());
+            totalQuestions += section.getTotalQuestions();
+            correctAnswers += section.getCorrectAnswers();
+        }
+        if (totalQuestions != request.getTotalQuestions() || correctAnswers != request.getCorrectAnswers()) {
+            throw new ScoreCalculationException("Section results must add up to the request totals");
+        }
+    }
+
+    private void validateCounts(Integer totalQuestions, Integer correctAnswers, Integer incorrectAnswers) {
+        if (totalQuestions == null || correctAnswers == null) {
+            throw new ScoreCalculationException("Total questions and correct answers are required");
+        }
+        if (totalQuestions <= 0) {
+            throw new ScoreCalculationException("Total questions must be positive");
+        }
+        if (correctAnswers > totalQuestions) {
+            throw new ScoreCalculationException("Correct answers cannot exceed total questions");
+        }
+        if (incorrectAnswers != null && correctAnswers + incorrectAnswers > totalQuestions) {
+            throw new ScoreCalculationException("Correct and incorrect answers cannot exceed total questions");
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.scoring.service.impl;
+
+import com.example.scoring.dto.ScoreCursor;
+import com.example.scoring.dto.ScorePage;
+import com.example.scoring.dto.ScoreResponse;
+import com.example.scoring.monitoring.PerformanceMonitored;
+import com.example.scoring.store.ScoreStore;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read side of score persistence: keyset-paginated projections from the {@link ScoreStore}.
+ */
+@Component
+public class ScoreReader {
+
+    private final ScoreStore scoreStore;
+
+    public ScoreReader(ScoreStore scoreStore) {
+        this.scoreStore = scoreStore;
+    }
+
+    @PerformanceMonitored
+    public Optional<ScoreResponse> findLatest(String candidateId) {
+        return scoreStore.findLatest(candidateId);
+    }
+
+    @PerformanceMonitored
+    public ScorePage findCandidateHistory(String candidateId, ScoreCursor after, int limit) {
+        // One extra row tells whether another page exists without a count query.
+        List<ScoreResponse> rows = scoreStore.findCandidateHistory(candidateId, after, limit + 1);
+        return toPage(rows, limit);
+    }
+
+    @PerformanceMonitored
+    public ScorePage findCalculatedBetween(LocalDateTime from, LocalDateTime to, ScoreCursor after, int limit) {
+        List<ScoreResponse> rows = scoreStore.findCalculatedBetween(from, to, after, limit + 1);
+        return toPage(rows, limit);
+    }
+
+    private ScorePage toPage(List<ScoreResponse> rows, int limit) {
+        if (rows.size() <= limit) {
+            return new ScorePage(rows, null);
+        }
+        List<ScoreResponse> items = rows.subList(0, limit);
+        return new ScorePage(items, ScoreCursor.of(items.get(limit - 1)).encode());
+    }
+}
@@ -1,20 +1,31 @@
 package com.example.scoring.service.impl;
 
+import com.example.scoring.cache.LatestScoreCache;
+import com.example.scoring.config.DatabaseBulkhead;
+import com.example.scoring.config.ScoringExecutorConfiguration;
+import com.example.scoring.config.WriteBehindProperties;
 import com.example.scoring.domain.Score;
+import com.example.scoring.dto.ScoreBatchItemResult;
+import com.example.scoring.dto.ScoreCursor;
+import com.example.scoring.dto.ScorePage;
 import com.example.scoring.dto.ScoreRequest;
+import com.example.scoring.dto.ScoreResponse;
+import com.example.scoring.event.PersistedScoreNotifier;
 import com.example.scoring.exception.ScoreCalculationException;
 import com.example.scoring.monitoring.PerformanceMonitored;
-import com.example.scoring.repository.ScoreRepository;
 import com.example.scoring.service.ScoreService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Objects;
+import java.util.Iterator;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Default implementation of {@link ScoreService}.
@@ -24,55 +35,119 @@ public class ScoreServiceImpl implements ScoreService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ScoreServiceImpl.class);
 
-    private final ScoreRepository scoreRepository;
+    private final ScoreCalculator scoreCalculator;
+    private final ScoreWriter scoreWriter;
+    private final DatabaseBulkhead databaseBulkhead;
+    private final ScoreWriteBehindQueue writeBehindQueue;
+    private final WriteBehindProperties writeBehindProperties;
+    private final ScoreBatchProcessor batchProcessor;
+    private final ScoreReader scoreReader;
+    private final LatestScoreCache latestScoreCache;
+    private final PersistedScoreNotifier persistedScoreNotifier;
+    private final Executor scoringExecutor;
 
-    public ScoreServiceImpl(ScoreRepository scoreRepository) {
-        this.scoreRepository = scoreRepository;
+    public ScoreServiceImpl(ScoreCalculator scoreCalculator,
+                            ScoreWriter scoreWriter,
+                            ScoreReader scoreReader,
+                            DatabaseBulkhead databaseBulkhead,
+                            ScoreWriteBehindQueue writeBehindQueue,
+                            WriteBehindProperties writeBehindProperties,
+                            ScoreBatchProcessor batchProcessor,
+                            LatestScoreCache latestScoreCache,
+                            PersistedScoreNotifier persistedScoreNotifier,
+                            @Qualifier(ScoringExecutorConfiguration.SCORING_EXECUTOR) Executor scoringExecutor) {
+        this.scoreCalculator = scoreCalculator;
+        this.scoreWriter = scoreWriter;
+        this.scoreReader = scoreReader;
+        this.databaseBulkhead = databaseBulkhead;
+        this.writeBehindQueue = writeBehindQueue;
+        this.writeBehindProperties = writeBehindProperties;
+        this.batchProcessor = batchProcessor;
+        this.latestScoreCache = latestScoreCache;
+        this.persistedScoreNotifier = persistedScoreNotifier;
+        this.scoringExecutor = scoringExecutor;
     }
 
+    /**
+     * Not transactional on purpose: the only database work happens in {@link ScoreWriter},
+     * which opens its own transaction, so no connection is held while the score is computed
+     * or while waiting for a {@link DatabaseBulkhead} permit.
+     */
     @Override
-    @Transactional
     @PerformanceMonitored
     public Score calculateScoreSync(ScoreRequest request) {
         LOGGER.debug("Starting synchronous score calculation for candidateId={}", request.getCandidateId());
         return performCalculationAndPersist(request, false);
     }
 
+    /**
+     * Calculates the score on the scoring executor and returns without waiting for it.
+     *
+     * Dispatched explicitly rather than through {@code @Async}: Spring's async interceptor
+     * waits for a returned future on the executor thread, which would park one pool thread per
+     * score until its write-behind batch is flushed and cap batches at the pool size. Here the
+     * executor thread only calculates and enqueues the score, and the flusher completes the
+     * returned future. Rejections by the executor are thrown to the caller as before.
+     */
     @Override
-    @Async
+    @PerformanceMonitored
     public CompletableFuture<Score> calculateScoreAsync(ScoreRequest request) {
-        // This method is intentionally not annotated with @PerformanceMonitored directly
-        // because it returns immediately after scheduling work on another thread. Instead,
-        // the core calculation method below is monitored so that actual business latency is captured.
         LOGGER.debug("Scheduling asynchronous score calculation for candidateId={}", request.getCandidateId());
-        Score score = performCalculationAndPersist(request, true);
-        return CompletableFuture.completedFuture(score);
+        if (writeBehindProperties.isEnabled()) {
+            return CompletableFuture
+                    .supplyAsync(() -> writeBehindQueue.submit(scoreCalculator.calculate(request, true)), scoringExecutor)
+                    .thenCompose(Function.identity())
+                    .thenApply(this::logCalculated);
+        }
+        return CompletableFuture.supplyAsync(() -> performCalculationAndPersist(request, true), scoringExecutor);
+    }
+
+    @Override
+    public void calculateScoresBatch(Iterator<ScoreRequest> requests, Consumer<ScoreBatchItemResult> sink) {
+        LOGGER.debug("Starting batch score calculation");
+        batchProcessor.process(requests, sink);
+    }
+
+    /**
+     * Read-through lookup: the cache is populated by every write path through
+     * {@link PersistedScoreNotifier}, so only candidates
+     * that were not scored since the entry expired or was evicted reach the database.
+     */
+    @Override
+    public Optional<ScoreResponse> findLatestScore(String candidateId) {
+        Optional<ScoreResponse> cached = latestScoreCache.get(candidateId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<ScoreResponse> loaded = scoreReader.findLatest(candidateId);
+        loaded.ifPresent(latestScoreCache::put);
+        return loaded;
+    }
+
+    @Override
+    public ScorePage findCandidateHistory(String candidateId, ScoreCursor after, int limit) {
+        return scoreReader.findCandidateHistory(candidateId, after, limit);
+    }
+
+    @Override
+    public ScorePage findScoresBetween(LocalDateTime from, LocalDateTime to, ScoreCursor after, int limit) {
+        return scoreReader.findCalculatedBetween(from, to, after, limit);
     }
 
     /**
      * Core calculation logic shared by both sync and async entry points.
+     *
+     * This method is reached through self-invocation and is therefore never advised itself;
+     * the computation and persistence phases are delegated to {@link ScoreCalculator} and
+     * {@link ScoreWriter} so that each is proxied, transactional where needed and timed separately.
      */
-    @Transactional
-    @PerformanceMonitored
     protected Score performCalculationAndPersist(ScoreRequest request, boolean asyncCalculation) {
-        validateRequest(request);
+        Score score = scoreCalculator.calculate(request, asyncCalculation);
 
         try {
-            double scoreValue = calculatePercentage(request.getTotalQuestions(), request.getCorrectAnswers());
-
-            Score score = new Score(
-                    request.getCandidateId(),
-                    scoreValue,
-                    request.getTotalQuestions(),
-                    request.getCorrectAnswers(),
-                    LocalDateTime.now(),
-                    asyncCalculation
-            );
-
-            Score saved = scoreRepository.save(score);
-            LOGGER.info("Score calculated for candidateId={} value={} async={}",
-                    saved.getCandidateId(), saved.getScoreValue(), saved.isAsyncCalculation());
-            return saved;
+            Score saved = databaseBulkhead.call(() -> scoreWriter.persist(score));
+            persistedScoreNotifier.scorePersisted(saved);
+            return logCalculated(saved);
         } catch (RuntimeException ex) {
             LOGGER.error("Unexpected error while calculating score for candidateId={}",
                     request.getCandidateId(), ex);
@@ -80,22 +155,9 @@ public class ScoreServiceImpl implements ScoreService {
         }
     }
 
-    private void validateRequest(ScoreRequest request) {
-        Objects.requireNonNull(request, "ScoreRequest must not be null");
-        if (request.getTotalQuestions() == null || request.getCorrectAnswers() == null) {
-            throw new ScoreCalculationException("Total questions and correct answers are required");
-        }
-        if (request.getCorrectAnswers() > request.getTotalQuestions()) {
-            throw new ScoreCalculationException("Correct answers cannot exceed total questions");
-        }
-    }
-
-    private double calculatePercentage(int totalQuestions, int correctAnswers) {
-        if (totalQuestions <= 0) {
-            throw new ScoreCalculationException("Total questions must be positive");
-        }
-        // Simple percentage calculation. In a real-world scenario, this might be
-        // replaced with more advanced scoring rules.
-        return (correctAnswers * 100.0) / totalQuestions;
+    private Score logCalculated(Score score) {
+        LOGGER.info("Score calculated for candidateId={} value={} async={}",
+                score.getCandidateId(), score.getScoreValue(), score.isAsyncCalculation());
+        return score;
     }
 }
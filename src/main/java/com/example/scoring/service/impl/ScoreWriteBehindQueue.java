@@ -0,0 +1,220 @@
+package com.example.scoring.service.impl;
+
+import com.example.scoring.config.DatabaseBulkhead;
+import com.example.scoring.config.WriteBehindProperties;
+import com.example.scoring.domain.Score;
+import com.example.scoring.event.PersistedScoreNotifier;
+import com.example.scoring.exception.ScoreCalculationException;
+import com.example.scoring.monitoring.QueueTimingTaskDecorator;
+import com.example.scoring.monitoring.RequestTimingContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind stage for asynchronously calculated scores.
+ *
+ * Scores are accumulated in a bounded queue and a single flusher thread writes them via
+ * {@link ScoreWriter#persistAll(List)} as one JDBC batch per flush, triggered either when
+ * {@code batch-size} scores are pending or when the oldest one has waited {@code max-delay}.
+ *
+ * Depending on {@link WriteBehindProperties.Durability}, the future returned by
+ * {@link #submit(Score)} completes after the batch has been committed or immediately after
+ * queueing. The future is completed on the flusher thread, so callers must not wait for it
+ * on a pooled thread: that thread would be held for up to {@code max-delay} plus the flush,
+ * and batches could never grow beyond the size of the pool.
+ *
+ * Each queued score carries the {@link RequestTimingContext} of the request that produced it.
+ * The flusher persists and logs a batch under the correlation id of its first request, with
+ * the number of scores in the log line. If the batch fails, it also logs one line per score
+ * under that score's own correlation id. It completes each future with that request's context bound, and only then records the
+ * {@link QueueTimingTaskDecorator#deferTotal() deferred} {@code <executor>.total} of the
+ * submitting task, so that total runs from acceptance to the persisted row.
+ */
+@Component
+public class ScoreWriteBehindQueue {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScoreWriteBehindQueue.class);
+
+    private static final long IDLE_POLL_MILLIS = 100L;
+
+    private final ScoreWriter scoreWriter;
+    private final DatabaseBulkhead databaseBulkhead;
+    private final WriteBehindProperties properties;
+    private final PersistedScoreNotifier persistedScoreNotifier;
+    private final BlockingQueue<PendingWrite> queue;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public ScoreWriteBehindQueue(ScoreWriter scoreWriter,
+                                 DatabaseBulkhead databaseBulkhead,
+                                 WriteBehindProperties properties,
+                                 PersistedScoreNotifier persistedScoreNotifier) {
+        this.scoreWriter = scoreWriter;
+        this.databaseBulkhead = databaseBulkhead;
+        this.properties = properties;
+        this.persistedScoreNotifier = persistedScoreNotifier;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::runFlushLoop, "score-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            flusher.join(properties.getMaxDelay().toMillis() + TimeUnit.SECONDS.toMillis(30));
+        }
+    }
+
+    /**
+     * Queues a calculated score for batched persistence.
+     *
+     * @return future completing with the persisted score (or, in ack-before-flush mode,
+     * immediately with the not yet persisted score)
+     * @throws ScoreCalculationException if the queue stays full for longer than the enqueue timeout
+     */
+    public CompletableFuture<Score> submit(Score score) {
+        if (!running) {
+            throw new ScoreCalculationException("Write-behind queue is not running");
+        }
+        PendingWrite pending = new PendingWrite(score, RequestTimingContext.current());
+        try {
+            if (!queue.offer(pending, properties.getEnqueueTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                pending.completeTotal();
+                throw new ScoreCalculationException("Write-behind queue is full");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            pending.completeTotal();
+            throw new ScoreCalculationException("Interrupted while queueing score for persistence", ex);
+        }
+        if (properties.getDurability() == WriteBehindProperties.Durability.ACK_BEFORE_FLUSH) {
+            return CompletableFuture.completedFuture(score);
+        }
+        return pending.completion;
+    }
+
+    private void runFlushLoop() {
+        int batchSize = properties.getBatchSize();
+        long maxDelayNanos = properties.getMaxDelay().toNanos();
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0L) {
+                        break;
+                    }
+                    PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } finally {
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                    batch.clear();
+                }
+            }
+        }
+    }
+
+    private void flush(List<PendingWrite> batch) {
+        List<Score> scores = new ArrayList<>(batch.size());
+        for (PendingWrite pending : batch) {
+            scores.add(pending.score);
+        }
+        List<Score> saved = null;
+        RuntimeException failure = null;
+        String firstCorrelationId = firstCorrelationId(batch);
+        if (firstCorrelationId != null) {
+            MDC.put(RequestTimingContext.CORRELATION_ID_MDC_KEY, firstCorrelationId);
+        }
+        try {
+            saved = databaseBulkhead.call(() -> scoreWriter.persistAll(scores));
+            LOGGER.debug("Flushed {} asynchronously calculated scores", saved.size());
+            persistedScoreNotifier.scoresPersisted(saved);
+        } catch (RuntimeException ex) {
+            LOGGER.error("Failed to persist a batch of {} scores", batch.size(), ex);
+            failure = new ScoreCalculationException("Failed to persist score batch", ex);
+        } finally {
+            MDC.remove(RequestTimingContext.CORRELATION_ID_MDC_KEY);
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            PendingWrite pending = batch.get(i);
+            pending.completeTotal();
+            RequestTimingContext previous = RequestTimingContext.bind(pending.context);
+            try {
+                if (failure == null) {
+                    pending.completion.complete(saved.get(i));
+                } else {
+                    LOGGER.warn("Score for candidateId={} was not persisted", pending.score.getCandidateId());
+                    pending.completion.completeExceptionally(failure);
+                }
+            } finally {
+                RequestTimingContext.restore(previous);
+            }
+        }
+    }
+
+    private static String firstCorrelationId(List<PendingWrite> batch) {
+        for (PendingWrite pending : batch) {
+            if (pending.context != null) {
+                return pending.context.getCorrelationId();
+            }
+        }
+        return null;
+    }
+
+    private static final class PendingWrite {
+
+        private final Score score;
+        private final RequestTimingContext context;
+        private final QueueTimingTaskDecorator.DeferredTotal total = QueueTimingTaskDecorator.deferTotal();
+        private final CompletableFuture<Score> completion = new CompletableFuture<>();
+
+        private PendingWrite(Score score, RequestTimingContext context) {
+            this.score = score;
+            this.context = context;
+        }
+
+        private void completeTotal() {
+            if (total != null) {
+                total.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.scoring.service.impl;
+
+import com.example.scoring.domain.Score;
+import com.example.scoring.monitoring.PerformanceMonitored;
+import com.example.scoring.store.ScoreStore;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Persistence phase of a score calculation.
+ *
+ * Kept as a separate bean so that its timing is applied by the Spring proxy rather than being
+ * lost to self-invocation. Transaction boundaries, where the configured {@link ScoreStore}
+ * needs them, are applied by the store itself.
+ */
+@Component
+public class ScoreWriter {
+
+    private final ScoreStore scoreStore;
+
+    public ScoreWriter(ScoreStore scoreStore) {
+        this.scoreStore = scoreStore;
+    }
+
+    @PerformanceMonitored
+    public Score persist(Score score) {
+        return scoreStore.save(score);
+    }
+
+    /**
+     * Persists several scores at once, as JDBC batches or as one journal group commit
+     * depending on the store.
+     */
+    @PerformanceMonitored
+    public List<Score> persistAll(List<Score> scores) {
+        return scoreStore.saveAll(scores);
+    }
+}
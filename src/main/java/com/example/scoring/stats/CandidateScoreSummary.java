@@ -0,0 +1,43 @@
+package com.example.scoring.stats;
+
+import com.example.scoring.dto.CandidateStatistics;
+
+import java.time.LocalDateTime;
+
+/**
+ * Running summary of one candidate's scores. Updates and snapshots synchronize on the instance.
+ */
+final class CandidateScoreSummary {
+
+    private long count;
+    private double mean;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private double latestScore;
+    private String latestCohort;
+    private LocalDateTime latestCalculatedAt;
+
+    synchronized void add(double value, String cohort, LocalDateTime calculatedAt) {
+        count++;
+        mean += (value - mean) / count;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        if (latestCalculatedAt == null || !calculatedAt.isBefore(latestCalculatedAt)) {
+            latestScore = value;
+            latestCohort = cohort;
+            latestCalculatedAt = calculatedAt;
+        }
+    }
+
+    synchronized CandidateStatistics snapshot(String candidateId) {
+        CandidateStatistics statistics = new CandidateStatistics();
+        statistics.setCandidateId(candidateId);
+        statistics.setCohort(latestCohort);
+        statistics.setCount(count);
+        statistics.setMean(mean);
+        statistics.setMin(min);
+        statistics.setMax(max);
+        statistics.setLatestScore(latestScore);
+        return statistics;
+    }
+}
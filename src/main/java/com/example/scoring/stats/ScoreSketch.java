@@ -0,0 +1,111 @@
+package com.example.scoring.stats;
+
+/**
+ * Mergeable summary of a set of score values in {@code [0, 100]}.
+ *
+ * Count, mean and variance are maintained with Welford's online algorithm and merged with
+ * Chan's pairwise formula, so they stay numerically stable however many values are added.
+ * Quantiles and percentile ranks come from a fixed histogram with {@value #BUCKET_WIDTH}-point
+ * buckets; since scores are bounded, its size is constant and merging is a simple sum.
+ *
+ * Not thread-safe; {@link StripedScoreSketch} provides concurrent recording.
+ */
+public final class ScoreSketch {
+
+    static final double BUCKET_WIDTH = 0.5;
+    static final int BUCKET_COUNT = (int) (100.0 / BUCKET_WIDTH) + 1;
+
+    private long count;
+    private double mean;
+    private double m2;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private final long[] histogram = new long[BUCKET_COUNT];
+
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        histogram[bucketOf(value)]++;
+    }
+
+    public void merge(ScoreSketch other) {
+        if (other.count == 0L) {
+            return;
+        }
+        long combined = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / combined;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / combined);
+        count = combined;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            histogram[i] += other.histogram[i];
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return count == 0L ? 0.0 : mean;
+    }
+
+    /**
+     * Sample variance; zero for fewer than two values.
+     */
+    public double getVariance() {
+        return count < 2L ? 0.0 : m2 / (count - 1);
+    }
+
+    public double getMin() {
+        return count == 0L ? 0.0 : min;
+    }
+
+    public double getMax() {
+        return count == 0L ? 0.0 : max;
+    }
+
+    /**
+     * Value at the given quantile ({@code 0..1}), accurate to half a bucket.
+     */
+    public double quantile(double quantile) {
+        if (count == 0L) {
+            return 0.0;
+        }
+        long target = Math.max(1L, (long) Math.ceil(quantile * count));
+        long cumulative = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += histogram[i];
+            if (cumulative >= target) {
+                return Math.min(max, Math.max(min, i * BUCKET_WIDTH));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Percentage of recorded values below {@code value}, counting values in the same bucket half.
+     */
+    public double percentileRank(double value) {
+        if (count == 0L) {
+            return 0.0;
+        }
+        int bucket = bucketOf(value);
+        long below = 0L;
+        for (int i = 0; i < bucket; i++) {
+            below += histogram[i];
+        }
+        return 100.0 * (below + histogram[bucket] / 2.0) / count;
+    }
+
+    private static int bucketOf(double value) {
+        int bucket = (int) Math.round(value / BUCKET_WIDTH);
+        return Math.min(BUCKET_COUNT - 1, Math.max(0, bucket));
+    }
+}
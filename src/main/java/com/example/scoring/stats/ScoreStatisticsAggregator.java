@@ -0,0 +1,180 @@
+package com.example.scoring.stats;
+
+import com.example.scoring.candidate.CandidateDictionary;
+import com.example.scoring.candidate.CandidateTable;
+import com.example.scoring.domain.Score;
+import com.example.scoring.dto.CandidateStatistics;
+import com.example.scoring.dto.ScoreStatisticsResponse;
+import com.example.scoring.event.PersistedScoreListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Incrementally maintained score statistics per cohort (assessment) and per candidate.
+ *
+ * Every committed score is added to the {@link StripedScoreSketch} of its cohort and time
+ * bucket, and to its candidate's running summary. Only the most recent buckets of each cohort
+ * are retained, so memory is bounded by the number of cohorts, retained buckets and stripes,
+ * and answering a query merges that fixed number of sketches instead of scanning the
+ * {@code scores} table. Candidate summaries are keyed by the candidate's code in the shared
+ * {@link CandidateDictionary}, or by id for candidates the dictionary has no room for; both
+ * count against {@code max-candidates}.
+ */
+@Component
+public class ScoreStatisticsAggregator implements PersistedScoreListener {
+
+    /**
+     * Cohort of scores calculated without an assessment.
+     */
+    public static final String DEFAULT_COHORT = "default";
+
+    private final ConcurrentMap<String, ConcurrentNavigableMap<Long, StripedScoreSketch>> cohorts =
+            new ConcurrentHashMap<>();
+    private final CandidateDictionary dictionary;
+    private final CandidateTable<CandidateScoreSummary> candidates;
+    private final ConcurrentMap<String, CandidateScoreSummary> uncodedCandidates = new ConcurrentHashMap<>();
+
+    private final long bucketSeconds;
+    private final int retainedBuckets;
+    private final int maxCandidates;
+    private final int stripeCount;
+
+    public ScoreStatisticsAggregator(ScoreStatisticsProperties properties, CandidateDictionary dictionary) {
+        this.dictionary = dictionary;
+        this.candidates = new CandidateTable<>(dictionary);
+        this.bucketSeconds = Math.max(1L, properties.getBucket().toSeconds());
+        this.retainedBuckets = Math.max(1, properties.getRetainedBuckets());
+        this.maxCandidates = properties.getMaxCandidates();
+        this.stripeCount = properties.getStripes() > 0
+                ? properties.getStripes()
+                : Math.min(Runtime.getRuntime().availableProcessors(), 8);
+    }
+
+    @Override
+    public void onScorePersisted(Score score) {
+        String cohort = cohortOf(score.getAssessmentId());
+        long bucket = Math.floorDiv(score.getCalculatedAt().toEpochSecond(ZoneOffset.UTC), bucketSeconds);
+        ConcurrentNavigableMap<Long, StripedScoreSketch> buckets =
+                cohorts.computeIfAbsent(cohort, key -> new ConcurrentSkipListMap<>());
+        StripedScoreSketch sketch = bucketSketch(buckets, bucket);
+        if (sketch != null) {
+            sketch.add(score.getScoreValue());
+        }
+
+        String candidateId = score.getCandidateId();
+        int code = dictionary.encode(candidateId);
+        if (code == CandidateDictionary.NO_CODE && candidateId == null) {
+            return;
+        }
+        CandidateScoreSummary summary = code != CandidateDictionary.NO_CODE
+                ? candidates.get(code)
+                : uncodedCandidates.get(candidateId);
+        if (summary == null && candidates.size() + uncodedCandidates.size() < maxCandidates) {
+            summary = code != CandidateDictionary.NO_CODE
+                    ? candidates.computeIfAbsent(code, key -> new CandidateScoreSummary())
+                    : uncodedCandidates.computeIfAbsent(candidateId, key -> new CandidateScoreSummary());
+        }
+        if (summary != null) {
+            summary.add(score.getScoreValue(), cohort, score.getCalculatedAt());
+        }
+    }
+
+    /**
+     * Returns the score distribution of a cohort over all retained buckets, optionally with a
+     * candidate's summary. Without an assessment, the cohort of the candidate's latest score is
+     * used, falling back to {@link #DEFAULT_COHORT}.
+     */
+    public ScoreStatisticsResponse statistics(String assessmentId, String candidateId) {
+        CandidateScoreSummary summary = summaryOf(candidateId);
+        CandidateStatistics candidate = summary != null ? summary.snapshot(candidateId) : null;
+        String cohort = assessmentId != null || candidate == null ? cohortOf(assessmentId) : candidate.getCohort();
+
+        ScoreSketch merged = new ScoreSketch();
+        ScoreStatisticsResponse response = new ScoreStatisticsResponse();
+        response.setCohort(cohort);
+        ConcurrentNavigableMap<Long, StripedScoreSketch> buckets = cohorts.get(cohort);
+        Map.Entry<Long, StripedScoreSketch> newest = buckets != null ? buckets.lastEntry() : null;
+        if (newest != null) {
+            long oldestRetained = newest.getKey() - retainedBuckets + 1;
+            long first = Long.MAX_VALUE;
+            long last = Long.MIN_VALUE;
+            for (Map.Entry<Long, StripedScoreSketch> entry : buckets.tailMap(oldestRetained).entrySet()) {
+                entry.getValue().mergeInto(merged);
+                first = Math.min(first, entry.getKey());
+                last = Math.max(last, entry.getKey());
+            }
+            retireBuckets(buckets, oldestRetained);
+            response.setWindowStart(bucketStart(first));
+            response.setWindowEnd(bucketStart(last + 1));
+        }
+        response.setCount(merged.getCount());
+        response.setMean(merged.getMean());
+        response.setStandardDeviation(Math.sqrt(merged.getVariance()));
+        response.setMin(merged.getMin());
+        response.setMax(merged.getMax());
+        response.setP50(merged.quantile(0.50));
+        response.setP90(merged.quantile(0.90));
+        response.setP99(merged.quantile(0.99));
+
+        if (candidate != null) {
+            candidate.setPercentileRank(merged.percentileRank(candidate.getLatestScore()));
+            response.setCandidate(candidate);
+        }
+        return response;
+    }
+
+    /**
+     * Returns the sketch of the given bucket, creating it and retiring buckets that fell out of
+     * the retention window, or {@code null} if the bucket is already older than that window.
+     *
+     * A writer racing with a newer bucket may still create or update a bucket just behind the
+     * window; such buckets are skipped by readers and retired by the next creation or read.
+     */
+    private StripedScoreSketch bucketSketch(ConcurrentNavigableMap<Long, StripedScoreSketch> buckets, long bucket) {
+        StripedScoreSketch sketch = buckets.get(bucket);
+        if (sketch != null) {
+            return sketch;
+        }
+        Map.Entry<Long, StripedScoreSketch> newest = buckets.lastEntry();
+        if (newest != null && bucket <= newest.getKey() - retainedBuckets) {
+            return null;
+        }
+        sketch = buckets.computeIfAbsent(bucket, key -> new StripedScoreSketch(stripeCount));
+        retireBuckets(buckets, buckets.lastKey() - retainedBuckets + 1);
+        return sketch;
+    }
+
+    /**
+     * Removes the buckets older than {@code oldestRetained}. Each one is removed only if it is
+     * still mapped to the sketch that was found, so a bucket re-created concurrently is left to
+     * a later pass instead of being dropped with writes already made to it.
+     */
+    private static void retireBuckets(ConcurrentNavigableMap<Long, StripedScoreSketch> buckets, long oldestRetained) {
+        for (Map.Entry<Long, StripedScoreSketch> expired : buckets.headMap(oldestRetained).entrySet()) {
+            buckets.remove(expired.getKey(), expired.getValue());
+        }
+    }
+
+    private CandidateScoreSummary summaryOf(String candidateId) {
+        int code = dictionary.find(candidateId);
+        if (code != CandidateDictionary.NO_CODE) {
+            return candidates.get(code);
+        }
+        return candidateId == null || uncodedCandidates.isEmpty() ? null : uncodedCandidates.get(candidateId);
+    }
+
+    private LocalDateTime bucketStart(long bucket) {
+        return LocalDateTime.ofEpochSecond(bucket * bucketSeconds, 0, ZoneOffset.UTC);
+    }
+
+    private static String cohortOf(String assessmentId) {
+        return assessmentId != null ? assessmentId : DEFAULT_COHORT;
+    }
+}
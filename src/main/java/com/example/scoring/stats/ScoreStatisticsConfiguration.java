@@ -0,0 +1,12 @@
+package com.example.scoring.stats;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the settings of the incremental score statistics.
+ */
+@Configuration
+@EnableConfigurationProperties(ScoreStatisticsProperties.class)
+public class ScoreStatisticsConfiguration {
+}
@@ -0,0 +1,65 @@
+package com.example.scoring.stats;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the incremental score statistics, bound from {@code scoring.stats.*}.
+ */
+@ConfigurationProperties(prefix = "scoring.stats")
+public class ScoreStatisticsProperties {
+
+    /**
+     * Width of a time bucket; scores are aggregated per cohort and bucket.
+     */
+    private Duration bucket = Duration.ofHours(1);
+
+    /**
+     * Number of most recent buckets kept per cohort.
+     */
+    private int retainedBuckets = 24;
+
+    /**
+     * Maximum number of candidates with an individual summary; further candidates only
+     * contribute to their cohort.
+     */
+    private int maxCandidates = 100_000;
+
+    /**
+     * Number of stripes per sketch. Zero derives the value from the available processors.
+     */
+    private int stripes = 0;
+
+    public Duration getBucket() {
+        return bucket;
+    }
+
+    public void setBucket(Duration bucket) {
+        this.bucket = bucket;
+    }
+
+    public int getRetainedBuckets() {
+        return retainedBuckets;
+    }
+
+    public void setRetainedBuckets(int retainedBuckets) {
+        this.retainedBuckets = retainedBuckets;
+    }
+
+    public int getMaxCandidates() {
+        return maxCandidates;
+    }
+
+    public void setMaxCandidates(int maxCandidates) {
+        this.maxCandidates = maxCandidates;
+    }
+
+    public int getStripes() {
+        return stripes;
+    }
+
+    public void setStripes(int stripes) {
+        this.stripes = stripes;
+    }
+}
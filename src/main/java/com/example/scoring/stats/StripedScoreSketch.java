@@ -0,0 +1,78 @@
+package com.example.scoring.stats;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrent {@link ScoreSketch}: writers are spread over a fixed number of stripes, each
+ * guarded by its own lock, and a snapshot merges the stripes into a fresh sketch.
+ *
+ * As in {@link java.util.concurrent.atomic.LongAdder}, each thread starts on a stripe chosen by
+ * a random per-thread probe and moves to another stripe whenever it finds its current one
+ * locked, so threads that collide spread out instead of relying on thread ids being well
+ * distributed. Recording costs one mostly uncontended lock and a few arithmetic operations;
+ * reading costs one merge per stripe, independent of how many values were recorded.
+ */
+final class StripedScoreSketch {
+
+    private static final ThreadLocal<int[]> PROBE =
+            ThreadLocal.withInitial(() -> new int[]{ThreadLocalRandom.current().nextInt() | 1});
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    StripedScoreSketch(int stripeCount) {
+        int normalized = Integer.highestOneBit(Math.max(1, stripeCount));
+        if (normalized < stripeCount) {
+            normalized <<= 1;
+        }
+        this.stripes = new Stripe[normalized];
+        for (int i = 0; i < normalized; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.stripeMask = normalized - 1;
+    }
+
+    void add(double value) {
+        int[] probe = PROBE.get();
+        Stripe stripe = stripes[probe[0] & stripeMask];
+        if (!stripe.tryLock()) {
+            probe[0] = advance(probe[0]);
+            stripe.lock();
+        }
+        try {
+            stripe.sketch.add(value);
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    /**
+     * Merges all stripes into {@code target}.
+     */
+    void mergeInto(ScoreSketch target) {
+        for (Stripe stripe : stripes) {
+            stripe.lock();
+            try {
+                target.merge(stripe.sketch);
+            } finally {
+                stripe.unlock();
+            }
+        }
+    }
+
+    /**
+     * Xorshift step moving a contended thread's probe to another stripe.
+     */
+    private static int advance(int probe) {
+        probe ^= probe << 13;
+        probe ^= probe >>> 17;
+        probe ^= probe << 5;
+        return probe;
+    }
+
+    private static final class Stripe extends ReentrantLock {
+
+        private final ScoreSketch sketch = new ScoreSketch();
+    }
+}
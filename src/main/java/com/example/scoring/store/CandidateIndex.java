@@ -0,0 +1,116 @@
+package com.example.scoring.store;
+
+import com.example.scoring.candidate.CandidateDictionary;
+import com.example.scoring.candidate.CandidateTable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index from candidate id to the ids of that candidate's journal records.
+ *
+ * Candidates are keyed by their code in the shared {@link CandidateDictionary}; the few that
+ * get no code because the dictionary is full are kept in a map by id instead, since every
+ * record must stay reachable.
+ *
+ * Only the journal's append thread modifies the index, so every candidate's id list has a
+ * single writer and is published to readers without locking: the writer stores the id first
+ * and then the new size, a reader reads the size first and then the array.
+ */
+final class CandidateIndex {
+
+    private static final long[] NO_IDS = new long[0];
+
+    private final CandidateDictionary dictionary;
+    private final CandidateTable<RecordIds> entries;
+    private final Map<String, RecordIds> overflow = new ConcurrentHashMap<>();
+
+    CandidateIndex(CandidateDictionary dictionary) {
+        this.dictionary = dictionary;
+        this.entries = new CandidateTable<>(dictionary);
+    }
+
+    /**
+     * Appends a record id; ids of one candidate must be added in ascending order.
+     */
+    void add(String candidateId, long id) {
+        int code = dictionary.encode(candidateId);
+        RecordIds ids = code != CandidateDictionary.NO_CODE
+                ? entries.computeIfAbsent(code, key -> new RecordIds())
+                : overflow.computeIfAbsent(candidateId, key -> new RecordIds());
+        ids.add(id);
+    }
+
+    /**
+     * Record ids of the candidate in ascending order.
+     */
+    long[] ids(String candidateId) {
+        int code = dictionary.find(candidateId);
+        RecordIds ids = code != CandidateDictionary.NO_CODE ? entries.get(code) : overflow.get(candidateId);
+        return ids == null ? NO_IDS : ids.snapshot();
+    }
+
+    /**
+     * Drops all ids below {@code firstId}, after the records they point to have been deleted.
+     */
+    void removeBelow(long firstId) {
+        entries.forEach((code, ids) -> {
+            RecordIds trimmed = ids.from(firstId);
+            if (trimmed.isEmpty()) {
+                entries.remove(code, ids);
+            } else if (trimmed != ids) {
+                entries.replace(code, ids, trimmed);
+            }
+        });
+        overflow.replaceAll((candidateId, ids) -> ids.from(firstId));
+        overflow.values().removeIf(RecordIds::isEmpty);
+    }
+
+    int candidates() {
+        return entries.size() + overflow.size();
+    }
+
+    private static final class RecordIds {
+
+        private volatile long[] ids = new long[2];
+        private volatile int size;
+
+        void add(long id) {
+            long[] current = ids;
+            int count = size;
+            if (count == current.length) {
+                current = Arrays.copyOf(current, count * 2);
+                current[count] = id;
+                ids = current;
+            } else {
+                current[count] = id;
+            }
+            size = count + 1;
+        }
+
+        long[] snapshot() {
+            int count = size;
+            return Arrays.copyOf(ids, count);
+        }
+
+        RecordIds from(long firstId) {
+            long[] current = snapshot();
+            int start = 0;
+            while (start < current.length && current[start] < firstId) {
+                start++;
+            }
+            if (start == 0) {
+                return this;
+            }
+            RecordIds trimmed = new RecordIds();
+            trimmed.ids = Arrays.copyOfRange(current, start, Math.max(start + 2, current.length));
+            trimmed.size = current.length - start;
+            return trimmed;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+    }
+}
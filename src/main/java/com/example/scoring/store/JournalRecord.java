@@ -0,0 +1,149 @@
+package com.example.scoring.store;
+
+import com.example.scoring.domain.Score;
+import com.example.scoring.dto.ScoreRequest;
+import com.example.scoring.dto.ScoreResponse;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * Fixed-width binary layout of one score in the journal.
+ *
+ * <pre>
+ *   0  long    id
+ *   8  long    calculatedAt, epoch seconds of the local date-time read as UTC
+ *  16  double  scoreValue
+ *  24  int     calculatedAt, nanosecond of second
+ *  28  int     totalQuestions
+ *  32  int     correctAnswers
+ *  36  byte    flags: 1 = asynchronous calculation, 2 = assessment id present
+ *  37  byte    candidate id length in bytes
+ *  38  byte    assessment id length in bytes
+ *  40  byte[]  candidate id, UTF-8, zero padded
+ * 136  byte[]  assessment id, UTF-8, zero padded
+ * 252  int     CRC32C of bytes 0 to 251
+ * </pre>
+ *
+ * An all-zero slot, and therefore id zero, marks the end of the written part of a segment.
+ */
+final class JournalRecord {
+
+    static final int BYTES = 256;
+
+    /**
+     * Longest candidate or assessment id in UTF-8 bytes.
+     */
+    static final int MAX_ID_BYTES = ScoreRequest.MAX_ID_BYTES;
+
+    private static final int CALCULATED_SECONDS = 8;
+    private static final int SCORE_VALUE = 16;
+    private static final int CALCULATED_NANOS = 24;
+    private static final int TOTAL_QUESTIONS = 28;
+    private static final int CORRECT_ANSWERS = 32;
+    private static final int FLAGS = 36;
+    private static final int CANDIDATE_LENGTH = 37;
+    private static final int ASSESSMENT_LENGTH = 38;
+    private static final int CANDIDATE = 40;
+    private static final int ASSESSMENT = CANDIDATE + MAX_ID_BYTES;
+    private static final int CHECKSUM = BYTES - Integer.BYTES;
+
+    private static final int FLAG_ASYNC = 1;
+    private static final int FLAG_ASSESSMENT = 2;
+
+    private JournalRecord() {
+    }
+
+    /**
+     * Checks that the score fits into a record.
+     *
+     * @throws IllegalArgumentException if an id is longer than {@value #MAX_ID_BYTES} bytes
+     */
+    static void validate(Score score) {
+        checkLength("Candidate id", utf8(score.getCandidateId()));
+        if (score.getAssessmentId() != null) {
+            checkLength("Assessment id", utf8(score.getAssessmentId()));
+        }
+    }
+
+    /**
+     * Writes the record for {@code score} under {@code id} into {@code scratch}, which must be a
+     * heap buffer of {@link #BYTES} bytes.
+     */
+    static void encode(long id, Score score, ByteBuffer scratch) {
+        byte[] candidate = utf8(score.getCandidateId());
+        byte[] assessment = score.getAssessmentId() == null ? new byte[0] : utf8(score.getAssessmentId());
+        LocalDateTime calculatedAt = score.getCalculatedAt();
+        int flags = (score.isAsyncCalculation() ? FLAG_ASYNC : 0) | (score.getAssessmentId() != null ? FLAG_ASSESSMENT : 0);
+
+        byte[] bytes = scratch.array();
+        Arrays.fill(bytes, (byte) 0);
+        scratch.putLong(0, id)
+                .putLong(CALCULATED_SECONDS, calculatedAt.toEpochSecond(ZoneOffset.UTC))
+                .putDouble(SCORE_VALUE, score.getScoreValue())
+                .putInt(CALCULATED_NANOS, calculatedAt.getNano())
+                .putInt(TOTAL_QUESTIONS, score.getTotalQuestions())
+                .putInt(CORRECT_ANSWERS, score.getCorrectAnswers())
+                .put(FLAGS, (byte) flags)
+                .put(CANDIDATE_LENGTH, (byte) candidate.length)
+                .put(ASSESSMENT_LENGTH, (byte) assessment.length);
+        System.arraycopy(candidate, 0, bytes, CANDIDATE, candidate.length);
+        System.arraycopy(assessment, 0, bytes, ASSESSMENT, assessment.length);
+        scratch.putInt(CHECKSUM, checksum(bytes));
+    }
+
+    static long id(byte[] record) {
+        return ByteBuffer.wrap(record).getLong(0);
+    }
+
+    static boolean isIntact(byte[] record) {
+        return ByteBuffer.wrap(record).getInt(CHECKSUM) == checksum(record);
+    }
+
+    static String candidateId(byte[] record) {
+        return new String(record, CANDIDATE, Byte.toUnsignedInt(record[CANDIDATE_LENGTH]), StandardCharsets.UTF_8);
+    }
+
+    static LocalDateTime calculatedAt(byte[] record) {
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        return LocalDateTime.ofEpochSecond(buffer.getLong(CALCULATED_SECONDS), buffer.getInt(CALCULATED_NANOS), ZoneOffset.UTC);
+    }
+
+    static ScoreResponse decode(byte[] record) {
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        int flags = record[FLAGS];
+        String assessmentId = (flags & FLAG_ASSESSMENT) != 0
+                ? new String(record, ASSESSMENT, Byte.toUnsignedInt(record[ASSESSMENT_LENGTH]), StandardCharsets.UTF_8)
+                : null;
+        LocalDateTime calculatedAt = calculatedAt(record);
+        return new ScoreResponse(
+                buffer.getLong(0),
+                candidateId(record),
+                assessmentId,
+                buffer.getDouble(SCORE_VALUE),
+                buffer.getInt(TOTAL_QUESTIONS),
+                buffer.getInt(CORRECT_ANSWERS),
+                calculatedAt,
+                (flags & FLAG_ASYNC) != 0);
+    }
+
+    private static int checksum(byte[] record) {
+        CRC32C crc = new CRC32C();
+        crc.update(record, 0, CHECKSUM);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void checkLength(String field, byte[] value) {
+        if (value.length > MAX_ID_BYTES) {
+            throw new IllegalArgumentException(field + " exceeds " + MAX_ID_BYTES + " bytes");
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.example.scoring.store;
+
+import com.example.scoring.candidate.CandidateDictionary;
+import com.example.scoring.domain.Score;
+import com.example.scoring.dto.ScoreCursor;
+import com.example.scoring.dto.ScoreResponse;
+import com.example.scoring.exception.ScoreCalculationException;
+import com.example.scoring.repository.ScoreRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link ScoreStore} that appends scores to a local {@link ScoreJournal} and exports them
+ * into the relational database in the background.
+ *
+ * A write costs one memory copy plus a share of a group-commit {@code msync}; the database
+ * sees the scores later, in batches of {@code export-batch-size} rows inserted with their
+ * journal ids by one transaction each. Because ids are ascending and every batch commits
+ * atomically, the highest id in the {@code scores} table is the export watermark, which is
+ * all the exporter needs to resume after a restart. Exported segments beyond
+ * {@code retained-segments} are deleted.
+ *
+ * Reads combine both sides: records above the watermark come from the journal through the
+ * {@link CandidateIndex}, everything else from the database through the {@link JpaScoreStore}
+ * queries. Range queries scan the not yet exported tail of the journal, see
+ * {@link #findCalculatedBetween}.
+ *
+ * Journal ids continue after the highest id in the database when the journal is first
+ * created. The JPA sequence does not know about them, so switching back to {@code jpa}
+ * requires restarting {@code scores_seq} above the highest exported id.
+ */
+@Component
+@ConditionalOnProperty(prefix = "scoring.store", name = "type", havingValue = "journal")
+public class JournalScoreStore implements ScoreStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JournalScoreStore.class);
+
+    private static final String INSERT = "insert into scores (id, candidate_id, assessment_id, score_value, "
+            + "total_questions, correct_answers, calculated_at, async_calculation) values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final Comparator<ScoreResponse> OLDEST_FIRST =
+            Comparator.comparing(ScoreResponse::getCalculatedAt).thenComparing(ScoreResponse::getId);
+
+    private final ScoreStoreProperties.Journal settings;
+    private final JpaScoreStore database;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CandidateIndex index;
+
+    private volatile ScoreJournal journal;
+    private volatile long exportedId;
+    private volatile boolean running;
+    private Thread exporter;
+
+    public JournalScoreStore(ScoreStoreProperties properties,
+                             ScoreRepository scoreRepository,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             CandidateDictionary candidateDictionary) {
+        this.settings = properties.getJournal();
+        this.index = new CandidateIndex(candidateDictionary);
+        this.database = new JpaScoreStore(scoreRepository);
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from scores", Long.class);
+        exportedId = maxId == null ? 0L : maxId;
+        journal = ScoreJournal.open(Path.of(settings.getDirectory()), settings, exportedId + 1, index);
+        if (journal.appendedId() < exportedId) {
+            journal.close();
+            throw new IllegalStateException("The database already holds score id " + exportedId
+                    + " but the journal in " + settings.getDirectory() + " ends at id " + journal.appendedId());
+        }
+        if (exportedId < journal.firstId() - 1) {
+            // Records below the journal's oldest one were deleted after an export into a database
+            // that no longer has them; they cannot be exported again.
+            LOGGER.warn("Database holds scores up to id {} only, exporting from journal id {}",
+                    exportedId, journal.firstId());
+            exportedId = journal.firstId() - 1;
+        }
+        running = true;
+        exporter = new Thread(this::runExportLoop, "score-journal-export");
+        exporter.setDaemon(true);
+        exporter.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (exporter != null) {
+            // Not interrupted: an interrupt inside the JDBC driver may close the connection.
+            LockSupport.unpark(exporter);
+            exporter.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        journal.close();
+    }
+
+    @Override
+    public Score save(Score score) {
+        saveAll(List.of(score));
+        return score;
+    }
+
+    @Override
+    public List<Score> saveAll(List<Score> scores) {
+        try {
+            journal.append(scores);
+            return scores;
+        } catch (IllegalArgumentException ex) {
+            throw new ScoreCalculationException(ex.getMessage(), ex);
+        }
+    }
+
+    @Override
+    public Optional<ScoreResponse> findLatest(String candidateId) {
+        // The journal drops its oldest records first, so a candidate's newest retained record
+        // is newer than anything of that candidate that exists only in the database.
+        ScoreResponse latest = null;
+        for (ScoreResponse row : journalRows(candidateId, Long.MIN_VALUE)) {
+            if (latest == null || OLDEST_FIRST.compare(row, latest) > 0) {
+                latest = row;
+            }
+        }
+        return latest != null ? Optional.of(latest) : database.findLatest(candidateId);
+    }
+
+    @Override
+    public List<ScoreResponse> findCandidateHistory(String candidateId, ScoreCursor before, int limit) {
+        // Read the watermark first: rows exported after that are then found on at least one side.
+        long watermark = exportedId;
+        List<ScoreResponse> rows = new ArrayList<>(database.findCandidateHistory(candidateId, before, limit));
+        for (ScoreResponse row : journalRows(candidateId, watermark)) {
+            if (before == null || compare(row, before) < 0) {
+                rows.add(row);
+            }
+        }
+        return merge(rows, OLDEST_FIRST.reversed(), limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Journal records are not indexed by time, so every call scans all records above the
+     * export watermark, checking only their timestamp before decoding a match. Each export run
+     * exports everything durable, so the tail holds roughly the scores written during one
+     * {@code export-interval} plus the duration of an export: at 10,000 scores per second and
+     * the default interval, about 10,000 records or 2.5 MB of mapped memory per call. While the
+     * export is failing, the tail and with it the cost of every call grows without bound.
+     */
+    @Override
+    public List<ScoreResponse> findCalculatedBetween(LocalDateTime from, LocalDateTime to, ScoreCursor after, int limit) {
+        long watermark = exportedId;
+        List<ScoreResponse> rows = new ArrayList<>(database.findCalculatedBetween(from, to, after, limit));
+        byte[] record = new byte[JournalRecord.BYTES];
+        long last = journal.appendedId();
+        for (long id = Math.max(watermark + 1, journal.firstId()); id <= last; id++) {
+            if (!journal.read(id, record)) {
+                continue;
+            }
+            LocalDateTime calculatedAt = JournalRecord.calculatedAt(record);
+            if (calculatedAt.isBefore(from) || !calculatedAt.isBefore(to)) {
+                continue;
+            }
+            ScoreResponse row = JournalRecord.decode(record);
+            if (after == null || compare(row, after) > 0) {
+                rows.add(row);
+            }
+        }
+        return merge(rows, OLDEST_FIRST, limit);
+    }
+
+    /**
+     * Id up to which scores have been inserted into the database.
+     */
+    public long exportedId() {
+        return exportedId;
+    }
+
+    /**
+     * Inserts all durable journal records above the watermark into the database.
+     *
+     * @return number of exported records
+     */
+    long exportPending() {
+        long durable = journal.durableId();
+        long exported = 0L;
+        byte[] record = new byte[JournalRecord.BYTES];
+        while (exportedId < durable) {
+            long first = exportedId + 1;
+            long last = Math.min(durable, exportedId + settings.getExportBatchSize());
+            List<Object[]> batch = new ArrayList<>((int) (last - first + 1));
+            for (long id = first; id <= last; id++) {
+                if (!journal.read(id, record)) {
+                    throw new IllegalStateException("Journal record " + id + " is missing before it was exported");
+                }
+                ScoreResponse row = JournalRecord.decode(record);
+                batch.add(new Object[]{row.getId(), row.getCandidateId(), row.getAssessmentId(), row.getScoreValue(),
+                        row.getTotalQuestions(), row.getCorrectAnswers(), row.getCalculatedAt(),
+                        row.isAsyncCalculation()});
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT, batch));
+            exportedId = last;
+            exported += batch.size();
+        }
+        journal.deleteSegmentsThrough(exportedId, settings.getRetainedSegments());
+        return exported;
+    }
+
+    private void runExportLoop() {
+        long intervalNanos = settings.getExportInterval().toNanos();
+        while (running) {
+            // Unparked early on shutdown, for a last export.
+            LockSupport.parkNanos(intervalNanos);
+            try {
+                long exported = exportPending();
+                if (exported > 0L) {
+                    LOGGER.debug("Exported {} journal records up to id {}", exported, exportedId);
+                }
+            } catch (RuntimeException ex) {
+                LOGGER.warn("Export of journal records after id {} failed, retrying in {}",
+                        exportedId, settings.getExportInterval(), ex);
+            }
+        }
+    }
+
+    private List<ScoreResponse> journalRows(String candidateId, long aboveId) {
+        long[] ids = index.ids(candidateId);
+        List<ScoreResponse> rows = new ArrayList<>();
+        byte[] record = new byte[JournalRecord.BYTES];
+        for (long id : ids) {
+            if (id > aboveId && journal.read(id, record)) {
+                rows.add(JournalRecord.decode(record));
+            }
+        }
+        return rows;
+    }
+
+    private static int compare(ScoreResponse row, ScoreCursor cursor) {
+        int byTime = row.getCalculatedAt().compareTo(cursor.getCalculatedAt());
+        return byTime != 0 ? byTime : Long.compare(row.getId(), cursor.getId());
+    }
+
+    /**
+     * Sorts rows from both sides, drops the ones exported while the query ran and cuts to the limit.
+     */
+    private static List<ScoreResponse> merge(List<ScoreResponse> rows, Comparator<ScoreResponse> order, int limit) {
+        rows.sort(order);
+        Set<Long> seen = new HashSet<>();
+        List<ScoreResponse> merged = new ArrayList<>(Math.min(limit, rows.size()));
+        for (ScoreResponse row : rows) {
+            if (merged.size() == limit) {
+                break;
+            }
+            if (seen.add(row.getId())) {
+                merged.add(row);
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.scoring.store;
+
+import com.example.scoring.domain.Score;
+import com.example.scoring.dto.ScoreCursor;
+import com.example.scoring.dto.ScoreResponse;
+import com.example.scoring.repository.ScoreRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Default {@link ScoreStore}: every score is written to and read from the relational database
+ * through {@link ScoreRepository}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "scoring.store", name = "type", havingValue = "jpa", matchIfMissing = true)
+public class JpaScoreStore implements ScoreStore {
+
+    private final ScoreRepository scoreRepository;
+
+    public JpaScoreStore(ScoreRepository scoreRepository) {
+        this.scoreRepository = scoreRepository;
+    }
+
+    @Override
+    @Transactional
+    public Score save(Score score) {
+        return scoreRepository.save(score);
+    }
+
+    /**
+     * Persists several scores in one transaction; with a sequence-based id and
+     * {@code hibernate.jdbc.batch_size} set, the inserts are sent as JDBC batches.
+     */
+    @Override
+    @Transactional
+    public List<Score> saveAll(List<Score> scores) {
+        return scoreRepository.saveAll(scores);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ScoreResponse> findLatest(String candidateId) {
+        return scoreRepository.findCandidateHistory(candidateId, PageRequest.of(0, 1)).stream().findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ScoreResponse> findCandidateHistory(String candidateId, ScoreCursor before, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        return before == null
+                ? scoreRepository.findCandidateHistory(candidateId, page)
+                : scoreRepository.findCandidateHistoryBefore(candidateId, before.getCalculatedAt(), before.getId(), page);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ScoreResponse> findCalculatedBetween(LocalDateTime from, LocalDateTime to, ScoreCursor after, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        return after == null
+                ? scoreRepository.findCalculatedBetween(from, to, page)
+                : scoreRepository.findCalculatedBetweenAfter(after.getCalculatedAt(), after.getId(), to, page);
+    }
+}
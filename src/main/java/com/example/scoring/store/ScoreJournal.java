@@ -0,0 +1,507 @@
+package com.example.scoring.store;
+
+import com.example.scoring.domain.Score;
+import com.example.scoring.dto.ScoreResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Append-only journal of {@link JournalRecord fixed-width score records}, stored in
+ * memory-mapped segment files.
+ *
+ * Ids are assigned in append order, so the segment holding a record and its offset inside
+ * the segment follow from the id alone. Appends copy the record into the mapped active
+ * segment under a lock and then wait for the sync thread, which forces everything appended
+ * since its last round to disk with one {@code msync}: concurrent writers share the cost of
+ * a flush (group commit). Without {@code fsync}, appends return right away and the sync
+ * thread forces them in the background; either way {@link #durableId()} only advances past
+ * records that have been forced. A full segment is forced and sealed before a new one, named
+ * after its first id, is started, so no record of a segment can reach the disk ahead of the
+ * records of the segment before it.
+ *
+ * On open, every segment is scanned and rebuilt into the {@link CandidateIndex}. The scan of
+ * the last segment stops at the first slot whose id is out of sequence or whose checksum does
+ * not match, which is where a crash tore the tail; the rest of that segment is zeroed so that
+ * stale records beyond it can never be mistaken for new ones. A torn segment followed only by
+ * empty ones, left by a crash during a rollover, is recovered the same way and the empty
+ * segments are deleted.
+ */
+final class ScoreJournal implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScoreJournal.class);
+
+    static final int HEADER_BYTES = 64;
+
+    private static final int MAGIC = 0x53434a31;
+    private static final int VERSION = 1;
+    private static final String SUFFIX = ".journal";
+    private static final long MAX_SEGMENT_BYTES = 1L << 30;
+    private static final long IDLE_WAIT_MILLIS = 100L;
+
+    private final Path directory;
+    private final int segmentRecords;
+    private final boolean fsync;
+    private final long commitWindowNanos;
+    private final CandidateIndex index;
+    private final ConcurrentNavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ByteBuffer scratch = ByteBuffer.allocate(JournalRecord.BYTES);
+    private Segment active;
+    private long nextId;
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition pending = syncLock.newCondition();
+    private final Condition synced = syncLock.newCondition();
+
+    private volatile long appendedId;
+    private volatile long durableId;
+    private volatile long firstId;
+    private volatile RuntimeException failure;
+    private volatile boolean running;
+    private Thread syncer;
+
+    private ScoreJournal(Path directory, ScoreStoreProperties.Journal settings, CandidateIndex index) {
+        long segmentBytes = Math.min(settings.getSegmentBytes(), MAX_SEGMENT_BYTES);
+        this.directory = directory;
+        this.segmentRecords = (int) ((segmentBytes - HEADER_BYTES) / JournalRecord.BYTES);
+        this.fsync = settings.isFsync();
+        this.commitWindowNanos = settings.getCommitWindow().toNanos();
+        this.index = index;
+        if (segmentRecords < 1) {
+            throw new IllegalArgumentException("Journal segments must hold at least one record");
+        }
+    }
+
+    /**
+     * Opens the journal in {@code directory}, recovering existing segments into {@code index}.
+     *
+     * @param initialId id of the first record if the directory holds no journal yet
+     */
+    static ScoreJournal open(Path directory, ScoreStoreProperties.Journal settings, long initialId,
+                             CandidateIndex index) throws IOException {
+        ScoreJournal journal = new ScoreJournal(directory, settings, index);
+        journal.recover(initialId);
+        journal.start();
+        return journal;
+    }
+
+    /**
+     * Appends the scores, assigns their ids and, with {@code fsync} enabled, returns once they
+     * have been forced to disk.
+     *
+     * @throws IllegalArgumentException if a score does not fit into a record
+     * @throws IllegalStateException    if the journal could not be synced or is closed
+     */
+    void append(List<Score> scores) {
+        for (Score score : scores) {
+            JournalRecord.validate(score);
+        }
+        long last;
+        appendLock.lock();
+        try {
+            checkUsable();
+            for (Score score : scores) {
+                if (active.count == active.capacity) {
+                    seal(active);
+                    active = createSegment(nextId);
+                }
+                long id = nextId++;
+                JournalRecord.encode(id, score, scratch);
+                active.buffer.put(active.offset(id), scratch.array());
+                active.count++;
+                index.add(score.getCandidateId(), id);
+                score.setId(id);
+            }
+            last = nextId - 1;
+            appendedId = last;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to start a new journal segment", ex);
+        } finally {
+            appendLock.unlock();
+        }
+        if (fsync) {
+            awaitDurable(last);
+        } else {
+            signalPending();
+        }
+    }
+
+    /**
+     * Reads a record into {@code record}, which must hold {@link JournalRecord#BYTES} bytes.
+     *
+     * @return {@code false} if the record has not been appended or its segment has been deleted
+     */
+    boolean read(long id, byte[] record) {
+        if (id < firstId || id > appendedId) {
+            return false;
+        }
+        Map.Entry<Long, Segment> entry = segments.floorEntry(id);
+        if (entry == null) {
+            return false;
+        }
+        Segment segment = entry.getValue();
+        segment.buffer.get(segment.offset(id), record);
+        return true;
+    }
+
+    ScoreResponse read(long id) {
+        byte[] record = new byte[JournalRecord.BYTES];
+        return read(id, record) ? JournalRecord.decode(record) : null;
+    }
+
+    /**
+     * Id of the last appended record; one below {@link #firstId()} while the journal is empty.
+     */
+    long appendedId() {
+        return appendedId;
+    }
+
+    /**
+     * Id up to which records have been forced to disk; only these may be exported.
+     */
+    long durableId() {
+        return durableId;
+    }
+
+    /**
+     * Id of the oldest record still held by the journal.
+     */
+    long firstId() {
+        return firstId;
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Deletes the oldest sealed segments whose records are all at or below {@code exportedId},
+     * keeping at least {@code retained} sealed segments, and drops them from the index.
+     */
+    void deleteSegmentsThrough(long exportedId, int retained) {
+        appendLock.lock();
+        try {
+            List<Segment> sealed = new ArrayList<>(segments.headMap(active.baseId).values());
+            int removable = sealed.size() - Math.max(0, retained);
+            for (Segment segment : sealed) {
+                if (removable <= 0 || segment.lastId() > exportedId) {
+                    break;
+                }
+                segments.remove(segment.baseId);
+                removable--;
+                try {
+                    Files.deleteIfExists(segment.path);
+                } catch (IOException ex) {
+                    LOGGER.warn("Could not delete exported journal segment {}", segment.path, ex);
+                }
+            }
+            long first = segments.firstKey();
+            if (first != firstId) {
+                firstId = first;
+                index.removeBelow(first);
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            running = false;
+        } finally {
+            appendLock.unlock();
+        }
+        if (syncer != null) {
+            signalPending();
+            try {
+                syncer.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void recover(long initialId) throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(SUFFIX)).sorted().toList();
+        }
+
+        List<Segment> mapped = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            Segment segment = mapSegment(files.get(i));
+            if (segment != null) {
+                mapped.add(segment);
+            } else if (i == files.size() - 1) {
+                // Crashed while starting a segment, before its header was forced.
+                LOGGER.warn("Discarding journal segment {} without a valid header", files.get(i));
+                Files.delete(files.get(i));
+            } else {
+                throw new IllegalStateException("Journal segment " + files.get(i) + " has no valid header");
+            }
+        }
+
+        byte[] record = new byte[JournalRecord.BYTES];
+        long expectedBase = -1L;
+        int end = mapped.size();
+        for (int i = 0; i < end; i++) {
+            Segment segment = mapped.get(i);
+            if (expectedBase >= 0L && segment.baseId != expectedBase) {
+                throw new IllegalStateException("Journal segment " + segment.path + " starts at id "
+                        + segment.baseId + " but id " + expectedBase + " was expected");
+            }
+            int count = 0;
+            while (count < segment.capacity && isValid(segment, count, record)) {
+                index.add(JournalRecord.candidateId(record), segment.baseId + count);
+                count++;
+            }
+            segment.count = count;
+            if (count < segment.capacity) {
+                if (i < end - 1) {
+                    discardEmptySegments(segment, mapped.subList(i + 1, end), record);
+                    end = i + 1;
+                }
+                truncateTail(segment, record);
+            }
+            segments.put(segment.baseId, segment);
+            expectedBase = segment.baseId + count;
+        }
+
+        if (segments.isEmpty()) {
+            active = createSegment(initialId);
+        } else {
+            active = segments.lastEntry().getValue();
+        }
+        nextId = active.baseId + active.count;
+        appendedId = nextId - 1;
+        durableId = nextId - 1;
+        firstId = segments.firstKey();
+        LOGGER.info("Opened score journal in {}: {} segments, records {} to {}, {} candidates",
+                directory, segments.size(), firstId, appendedId, index.candidates());
+    }
+
+    /**
+     * Deletes the segments following a torn one, which a crash during a rollover can leave
+     * behind before anything was written to them; a torn segment followed by records cannot
+     * be repaired.
+     */
+    private void discardEmptySegments(Segment torn, List<Segment> following, byte[] record) throws IOException {
+        for (Segment segment : following) {
+            if (isValid(segment, 0, record)) {
+                throw new IllegalStateException("Sealed journal segment " + torn.path
+                        + " is corrupt at id " + (torn.baseId + torn.count));
+            }
+        }
+        for (Segment segment : following) {
+            LOGGER.warn("Discarding empty journal segment {} after the torn segment {}", segment.path, torn.path);
+            Files.delete(segment.path);
+        }
+    }
+
+    private static boolean isValid(Segment segment, int slot, byte[] record) {
+        segment.buffer.get(segment.offset(segment.baseId + slot), record);
+        return JournalRecord.id(record) == segment.baseId + slot && JournalRecord.isIntact(record);
+    }
+
+    private void truncateTail(Segment segment, byte[] record) {
+        segment.buffer.get(segment.offset(segment.baseId + segment.count), record);
+        if (JournalRecord.id(record) != 0L) {
+            LOGGER.warn("Discarding torn journal record after id {} in {}", segment.baseId + segment.count - 1, segment.path);
+        }
+        byte[] zeros = new byte[JournalRecord.BYTES];
+        for (int slot = segment.count; slot < segment.capacity; slot++) {
+            segment.buffer.put(segment.offset(segment.baseId + slot), zeros);
+        }
+        segment.buffer.force();
+    }
+
+    private void start() {
+        running = true;
+        syncer = new Thread(this::runSyncLoop, "score-journal-sync");
+        syncer.setDaemon(true);
+        syncer.start();
+    }
+
+    private void checkUsable() {
+        if (!running) {
+            throw new IllegalStateException("Score journal is closed");
+        }
+        if (failure != null) {
+            throw new IllegalStateException("Score journal is unavailable after a failed sync", failure);
+        }
+    }
+
+    private void awaitDurable(long id) {
+        syncLock.lock();
+        try {
+            pending.signal();
+            while (durableId < id) {
+                if (failure != null) {
+                    throw new IllegalStateException("Failed to sync the score journal", failure);
+                }
+                synced.awaitUninterruptibly();
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void signalPending() {
+        syncLock.lock();
+        try {
+            pending.signal();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void runSyncLoop() {
+        while (true) {
+            syncLock.lock();
+            try {
+                while (appendedId == durableId) {
+                    if (!running) {
+                        return;
+                    }
+                    pending.await(IDLE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                syncLock.unlock();
+            }
+
+            if (commitWindowNanos > 0L) {
+                LockSupport.parkNanos(commitWindowNanos);
+            }
+            long target = appendedId;
+            try {
+                force(durableId + 1, target);
+            } catch (RuntimeException ex) {
+                LOGGER.error("Failed to sync score journal records up to id {}", target, ex);
+                failure = ex;
+            }
+            syncLock.lock();
+            try {
+                if (failure == null) {
+                    durableId = target;
+                }
+                synced.signalAll();
+            } finally {
+                syncLock.unlock();
+            }
+            if (failure != null) {
+                return;
+            }
+        }
+    }
+
+    private void force(long from, long to) {
+        Long start = segments.floorKey(from);
+        for (Segment segment : segments.subMap(start == null ? from : start, true, to, true).values()) {
+            long first = Math.max(from, segment.baseId);
+            long last = Math.min(to, segment.baseId + segment.capacity - 1);
+            segment.buffer.force(segment.offset(first), (int) (last - first + 1) * JournalRecord.BYTES);
+        }
+    }
+
+    /**
+     * Forces the records of a full segment that the sync thread has not forced yet, before the
+     * header of the next segment is written.
+     */
+    private void seal(Segment segment) {
+        long first = Math.max(durableId + 1, segment.baseId);
+        long last = segment.lastId();
+        if (first <= last) {
+            segment.buffer.force(segment.offset(first), (int) (last - first + 1) * JournalRecord.BYTES);
+        }
+    }
+
+    private Segment createSegment(long baseId) throws IOException {
+        Path path = directory.resolve(String.format("%020d%s", baseId, SUFFIX));
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0L, HEADER_BYTES + (long) segmentRecords * JournalRecord.BYTES);
+        }
+        buffer.putInt(0, MAGIC).putInt(4, VERSION).putLong(8, baseId).putInt(16, JournalRecord.BYTES);
+        buffer.force(0, HEADER_BYTES);
+        forceDirectory();
+        Segment segment = new Segment(path, buffer, baseId, segmentRecords);
+        segments.put(baseId, segment);
+        return segment;
+    }
+
+    private static Segment mapSegment(Path path) throws IOException {
+        long size = Files.size(path);
+        if (size < HEADER_BYTES + JournalRecord.BYTES || size > MAX_SEGMENT_BYTES) {
+            return null;
+        }
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0L, size);
+        }
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(16) != JournalRecord.BYTES) {
+            return null;
+        }
+        return new Segment(path, buffer, buffer.getLong(8), (int) ((size - HEADER_BYTES) / JournalRecord.BYTES));
+    }
+
+    private void forceDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ex) {
+            // Not every platform can sync a directory; the segment header is forced regardless.
+            LOGGER.debug("Could not sync journal directory {}", directory, ex);
+        }
+    }
+
+    private static final class Segment {
+
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        private final long baseId;
+        private final int capacity;
+        private int count;
+
+        private Segment(Path path, MappedByteBuffer buffer, long baseId, int capacity) {
+            this.path = path;
+            this.buffer = buffer;
+            this.baseId = baseId;
+            this.capacity = capacity;
+        }
+
+        int offset(long id) {
+            return HEADER_BYTES + (int) (id - baseId) * JournalRecord.BYTES;
+        }
+
+        long lastId() {
+            return baseId + count - 1;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.scoring.store;
+
+import com.example.scoring.domain.Score;
+import com.example.scoring.dto.ScoreCursor;
+import com.example.scoring.dto.ScoreResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Persistence backend for scores, selected with {@code scoring.store.type}.
+ *
+ * Scores are immutable once stored. Saving assigns the id; the returned scores are the
+ * ones handed in, in the same order.
+ */
+public interface ScoreStore {
+
+    Score save(Score score);
+
+    List<Score> saveAll(List<Score> scores);
+
+    Optional<ScoreResponse> findLatest(String candidateId);
+
+    /**
+     * Scores of a candidate, newest first, strictly before {@code before} when it is given.
+     */
+    List<ScoreResponse> findCandidateHistory(String candidateId, ScoreCursor before, int limit);
+
+    /**
+     * Scores calculated in {@code [from, to)}, oldest first, strictly after {@code after} when
+     * it is given.
+     */
+    List<ScoreResponse> findCalculatedBetween(LocalDateTime from, LocalDateTime to, ScoreCursor after, int limit);
+}
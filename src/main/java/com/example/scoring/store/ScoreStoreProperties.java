@@ -0,0 +1,139 @@
+package com.example.scoring.store;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Selection and settings of the score persistence backend, bound from {@code scoring.store.*}.
+ */
+@ConfigurationProperties(prefix = "scoring.store")
+public class ScoreStoreProperties {
+
+    public enum Type {
+        /**
+         * Every score is inserted into the relational database on the write path.
+         */
+        JPA,
+        /**
+         * Scores are appended to a local memory-mapped journal and exported to the relational
+         * database in the background.
+         */
+        JOURNAL
+    }
+
+    private Type type = Type.JPA;
+
+    private final Journal journal = new Journal();
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Journal getJournal() {
+        return journal;
+    }
+
+    public static class Journal {
+
+        /**
+         * Directory holding the journal segments. Must be on a local file system and must not
+         * be shared between instances.
+         */
+        private String directory = "data/score-journal";
+
+        /**
+         * Size of one segment file; a new segment is started once the current one is full.
+         */
+        private long segmentBytes = 64L * 1024 * 1024;
+
+        /**
+         * Whether an append waits until its records have been forced to disk. When disabled,
+         * an acknowledged score survives a crash of the process but may be lost in a crash of
+         * the host. Records are then forced in the background, after at most about one
+         * commit window, and are exported to the database only once forced.
+         */
+        private boolean fsync = true;
+
+        /**
+         * How long the sync thread lets appends accumulate before forcing them to disk
+         * together. Zero forces as soon as anything is pending.
+         */
+        private Duration commitWindow = Duration.ofMillis(1);
+
+        /**
+         * Pause between two runs of the export into the relational database.
+         */
+        private Duration exportInterval = Duration.ofSeconds(1);
+
+        /**
+         * Records inserted per export transaction.
+         */
+        private int exportBatchSize = 500;
+
+        /**
+         * Fully exported segments kept on disk besides the active one; older ones are deleted.
+         */
+        private int retainedSegments = 2;
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public long getSegmentBytes() {
+            return segmentBytes;
+        }
+
+        public void setSegmentBytes(long segmentBytes) {
+            this.segmentBytes = segmentBytes;
+        }
+
+        public boolean isFsync() {
+            return fsync;
+        }
+
+        public void setFsync(boolean fsync) {
+            this.fsync = fsync;
+        }
+
+        public Duration getCommitWindow() {
+            return commitWindow;
+        }
+
+        public void setCommitWindow(Duration commitWindow) {
+            this.commitWindow = commitWindow;
+        }
+
+        public Duration getExportInterval() {
+            return exportInterval;
+        }
+
+        public void setExportInterval(Duration exportInterval) {
+            this.exportInterval = exportInterval;
+        }
+
+        public int getExportBatchSize() {
+            return exportBatchSize;
+        }
+
+        public void setExportBatchSize(int exportBatchSize) {
+            this.exportBatchSize = exportBatchSize;
+        }
+
+        public int getRetainedSegments() {
+            return retainedSegments;
+        }
+
+        public void setRetainedSegments(int retainedSegments) {
+            this.retainedSegments = retainedSegments;
+        }
+    }
+}
@@ -1,13 +1,20 @@
 package com.example.scoring;
 
 import com.example.scoring.domain.Score;
+import com.example.scoring.dto.ScoreBatchItemResult;
+import com.example.scoring.dto.ScoreCursor;
+import com.example.scoring.dto.ScorePage;
 import com.example.scoring.dto.ScoreRequest;
+import com.example.scoring.dto.ScoreResponse;
+import com.example.scoring.monitoring.LatencyMetrics;
 import com.example.scoring.monitoring.ServiceMonitoringAspect;
 import com.example.scoring.service.ScoreService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -27,6 +34,9 @@ class ScoringServiceApplicationTests {
     @Autowired
     private ServiceMonitoringAspect monitoringAspect;
 
+    @Autowired
+    private LatencyMetrics latencyMetrics;
+
     @Test
     void contextLoads() {
         assertThat(scoreService).as("ScoreService should be available").isNotNull();
@@ -53,4 +63,47 @@ class ScoringServiceApplicationTests {
         assertThat(score.getCandidateId()).isEqualTo("candidate-2");
         assertThat(score.isAsyncCalculation()).isTrue();
     }
+
+    @Test
+    void calculationPhasesAreTimedThroughTheProxy() {
+        scoreService.calculateScoreSync(new ScoreRequest("candidate-3", 4, 3));
+
+        assertThat(latencyMetrics.currentWindows())
+                .containsKeys("ScoreCalculator.calculate(..)", "ScoreWriter.persist(..)");
+    }
+
+    @Test
+    void batchCalculationReportsEveryRequestInOrder() {
+        List<ScoreRequest> requests = List.of(
+                new ScoreRequest("batch-1", 10, 5),
+                new ScoreRequest("batch-2", 10, 11),
+                new ScoreRequest("batch-3", 4, 4)
+        );
+        List<ScoreBatchItemResult> results = new ArrayList<>();
+
+        scoreService.calculateScoresBatch(requests.iterator(), results::add);
+
+        assertThat(results).extracting(ScoreBatchItemResult::getIndex).containsExactly(0L, 1L, 2L);
+        assertThat(results).extracting(ScoreBatchItemResult::getStatus)
+                .containsExactly(ScoreBatchItemResult.STATUS_OK, ScoreBatchItemResult.STATUS_FAILED,
+                        ScoreBatchItemResult.STATUS_OK);
+        assertThat(results.get(2).getScore().getScoreValue()).isEqualTo(100.0);
+    }
+
+    @Test
+    void candidateHistoryIsPagedByKeyset() {
+        Score first = scoreService.calculateScoreSync(new ScoreRequest("history-1", 10, 1));
+        Score second = scoreService.calculateScoreSync(new ScoreRequest("history-1", 10, 2));
+        Score third = scoreService.calculateScoreSync(new ScoreRequest("history-1", 10, 3));
+
+        ScorePage firstPage = scoreService.findCandidateHistory("history-1", null, 2);
+        ScorePage secondPage = scoreService.findCandidateHistory("history-1",
+                ScoreCursor.decode(firstPage.getNextCursor()), 2);
+
+        assertThat(firstPage.getItems()).extracting(ScoreResponse::getId).containsExactly(third.getId(), second.getId());
+        assertThat(secondPage.getItems()).extracting(ScoreResponse::getId).containsExactly(first.getId());
+        assertThat(secondPage.getNextCursor()).isNull();
+        assertThat(scoreService.findLatestScore("history-1")).get()
+                .extracting(ScoreResponse::getId).isEqualTo(third.getId());
+    }
 }
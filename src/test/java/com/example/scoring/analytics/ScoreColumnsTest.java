@@ -0,0 +1,134 @@
+package com.example.scoring.analytics;
+
+import com.example.scoring.stats.ScoreSketch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for the off-heap score columns and their parallel scans.
+ */
+class ScoreColumnsTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void aggregatesPublishedRowsAcrossChunksWithFilters() {
+        ScoreColumns columns = new ScoreColumns(Long.MAX_VALUE);
+        int rows = 3 * ScoreColumns.CHUNK_ROWS + 5;
+        for (int i = 0; i < rows; i++) {
+            columns.append(i + 1L, "candidate-" + (i % 10), i % 2 == 0 ? "even" : "odd", i, i % 101);
+        }
+        assertThat(columns.rowCount()).isZero();
+        columns.publish();
+
+        ScoreSketch all = columns.aggregate(pool, 1_000L, 150_000L, null, null);
+        ScoreSketch filtered = columns.aggregate(pool, 0L, Long.MAX_VALUE, "odd", "candidate-3");
+
+        assertThat(columns.rowCount()).isEqualTo(rows);
+        assertThat(all.getCount()).isEqualTo(149_000L);
+        assertThat(all.getMean()).isCloseTo(expectedMean(1_000, 150_000, 1), within(1e-9));
+        assertThat(filtered.getCount()).isEqualTo(expectedCount(rows, 10, 3));
+        assertThat(filtered.getMean()).isCloseTo(expectedMean(3, rows, 10), within(1e-9));
+        assertThat(columns.aggregate(pool, 0L, Long.MAX_VALUE, null, "unknown").getCount()).isZero();
+    }
+
+    @Test
+    void dropsTheOldestChunkBeyondTheRowLimit() {
+        ScoreColumns columns = new ScoreColumns(2L * ScoreColumns.CHUNK_ROWS);
+        for (int i = 0; i < 3 * ScoreColumns.CHUNK_ROWS; i++) {
+            columns.append(i + 1L, "candidate", "default", i, 50.0);
+        }
+        columns.publish();
+
+        ScoreSketch all = columns.aggregate(pool, 0L, Long.MAX_VALUE, null, null);
+
+        assertThat(columns.rowCount()).isEqualTo(2 * ScoreColumns.CHUNK_ROWS);
+        assertThat(all.getCount()).isEqualTo(2L * ScoreColumns.CHUNK_ROWS);
+        assertThat(columns.aggregate(pool, 0L, ScoreColumns.CHUNK_ROWS, null, null).getCount()).isZero();
+    }
+
+    @Test
+    void findsIdsOfTheLoadedRowsOnly() {
+        ScoreColumns columns = new ScoreColumns(Long.MAX_VALUE);
+        for (long id = 10L; id <= 1_000L; id += 10L) {
+            columns.append(id, "candidate", "default", id, 50.0);
+        }
+        columns.markSorted();
+        columns.append(15L, "candidate", "default", 15L, 50.0);
+
+        assertThat(columns.containsSorted(20L)).isTrue();
+        assertThat(columns.containsSorted(1_000L)).isTrue();
+        assertThat(columns.containsSorted(15L)).isFalse();
+        assertThat(columns.containsSorted(1_010L)).isFalse();
+    }
+
+    @Test
+    void matchesCandidatesLeftWithoutADictionaryCodeById() {
+        ScoreColumns columns = new ScoreColumns(ScoreColumns.CHUNK_ROWS);
+        for (int i = 0; i < ScoreColumns.CHUNK_ROWS; i++) {
+            columns.append(i + 1L, "candidate-" + i, "default", i, 50.0);
+        }
+        long id = ScoreColumns.CHUNK_ROWS;
+        columns.append(++id, "late-1", "default", id, 40.0);
+        columns.append(++id, "late-2", "default", id, 60.0);
+        columns.append(++id, "late-1", "default", id, 80.0);
+        columns.publish();
+
+        ScoreSketch late = columns.aggregate(pool, 0L, Long.MAX_VALUE, "default", "late-1");
+
+        assertThat(late.getCount()).isEqualTo(2L);
+        assertThat(late.getMean()).isCloseTo(60.0, within(1e-9));
+        assertThat(columns.aggregate(pool, 0L, Long.MAX_VALUE, null, "late-2").getCount()).isEqualTo(1L);
+        assertThat(columns.aggregate(pool, 0L, Long.MAX_VALUE, null, "unknown").getCount()).isZero();
+    }
+
+    @Test
+    void aRebuildKeepsRowsNewerThanItsLoad() {
+        ScoreColumns previous = new ScoreColumns(Long.MAX_VALUE);
+        for (long id = 1L; id <= 3L; id++) {
+            previous.append(id, "candidate", "default", id, 50.0);
+        }
+        previous.markSorted();
+        previous.append(4L, "candidate", "default", 4L, 50.0);
+        previous.append(5L, "other", "java", 5L, 90.0);
+
+        ScoreColumns rebuilt = new ScoreColumns(Long.MAX_VALUE);
+        for (long id = 1L; id <= 4L; id++) {
+            rebuilt.append(id, "candidate", "default", id, 50.0);
+        }
+        rebuilt.markSorted();
+
+        assertThat(rebuilt.appendNewer(previous)).isEqualTo(1);
+        rebuilt.publish();
+        assertThat(rebuilt.rowCount()).isEqualTo(5);
+        assertThat(rebuilt.aggregate(pool, 0L, Long.MAX_VALUE, "java", "other").getMean()).isCloseTo(90.0, within(1e-9));
+    }
+
+    private static long expectedCount(int rows, int step, int first) {
+        long count = 0L;
+        for (int i = first; i < rows; i += step) {
+            count++;
+        }
+        return count;
+    }
+
+    private static double expectedMean(int from, int to, int step) {
+        double sum = 0.0;
+        long count = 0L;
+        for (int i = from; i < to; i += step) {
+            sum += i % 101;
+            count++;
+        }
+        return sum / count;
+    }
+}
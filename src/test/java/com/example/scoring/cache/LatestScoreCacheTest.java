@@ -0,0 +1,103 @@
+package com.example.scoring.cache;
+
+import com.example.scoring.candidate.CandidateDictionary;
+import com.example.scoring.dto.ScoreResponse;
+import com.example.scoring.monitoring.CacheMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the W-TinyLFU latest score cache.
+ */
+class LatestScoreCacheTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Test
+    void keepsTheMostRecentScorePerCandidate() {
+        LatestScoreCache cache = newCache(100, Duration.ofMinutes(1));
+
+        cache.put(score(2L, "candidate-1", NOW));
+        cache.put(score(1L, "candidate-1", NOW.minusSeconds(1)));
+
+        assertThat(cache.get("candidate-1")).get().extracting(ScoreResponse::getId).isEqualTo(2L);
+        assertThat(cache.get("candidate-2")).isEmpty();
+        assertThat(cache.statistics().getHits()).isEqualTo(1L);
+        assertThat(cache.statistics().getMisses()).isEqualTo(1L);
+    }
+
+    @Test
+    void frequentlyReadCandidatesSurviveAScanOfOneOffEntries() {
+        LatestScoreCache cache = newCache(100, Duration.ofMinutes(1));
+        for (int i = 0; i < 99; i++) {
+            cache.put(score(i, "hot-" + i, NOW));
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 99; i++) {
+                cache.get("hot-" + i);
+            }
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            cache.put(score(1_000L + i, "scan-" + i, NOW));
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+        long survivors = 0;
+        for (int i = 0; i < 99; i++) {
+            if (cache.get("hot-" + i).isPresent()) {
+                survivors++;
+            }
+        }
+        assertThat(survivors).isGreaterThanOrEqualTo(95L);
+        assertThat(cache.statistics().getEvictions()).isGreaterThan(0L);
+    }
+
+    @Test
+    void expiredEntriesAreNotServed() {
+        LatestScoreCache cache = newCache(100, Duration.ZERO);
+        cache.put(score(1L, "candidate-1", NOW));
+
+        assertThat(cache.get("candidate-1")).isEmpty();
+        assertThat(cache.statistics().getExpirations()).isEqualTo(1L);
+    }
+
+    @Test
+    void candidatesWithoutADictionaryCodeAreCachedByIdWithinTheSameCapacity() {
+        LatestScoreCache cache = newCache(10, Duration.ofMinutes(1), new CandidateDictionary(1));
+        cache.put(score(1L, "candidate-1", NOW));
+        cache.put(score(2L, "candidate-2", NOW));
+        cache.put(score(3L, "candidate-2", NOW.plusSeconds(1)));
+
+        assertThat(cache.get("candidate-1")).isPresent();
+        assertThat(cache.get("candidate-2")).get().extracting(ScoreResponse::getId).isEqualTo(3L);
+        assertThat(cache.size()).isEqualTo(2);
+
+        cache.invalidate("candidate-2");
+        assertThat(cache.get("candidate-2")).isEmpty();
+
+        for (int i = 3; i < 50; i++) {
+            cache.put(score(i, "candidate-" + i, NOW));
+        }
+        assertThat(cache.size()).isEqualTo(10);
+    }
+
+    private static LatestScoreCache newCache(int maximumSize, Duration ttl) {
+        return newCache(maximumSize, ttl, new CandidateDictionary(10_000));
+    }
+
+    private static LatestScoreCache newCache(int maximumSize, Duration ttl, CandidateDictionary dictionary) {
+        CacheProperties properties = new CacheProperties();
+        properties.getLatestScore().setMaximumSize(maximumSize);
+        properties.getLatestScore().setTtl(ttl);
+        return new LatestScoreCache(properties, new CacheMetrics(), dictionary);
+    }
+
+    private static ScoreResponse score(long id, String candidateId, LocalDateTime calculatedAt) {
+        return new ScoreResponse(id, candidateId, 50.0, 10, 5, calculatedAt, false);
+    }
+}
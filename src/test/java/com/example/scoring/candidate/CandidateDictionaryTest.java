@@ -0,0 +1,115 @@
+package com.example.scoring.candidate;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the candidate dictionary and the tables keyed by its codes.
+ */
+class CandidateDictionaryTest {
+
+    @Test
+    void assignsDenseCodesAndInternsIds() {
+        CandidateDictionary dictionary = new CandidateDictionary(10_000);
+        String first = "candidate-1";
+
+        int code = dictionary.encode(first);
+        String copy = new String(first.toCharArray());
+
+        assertThat(code).isZero();
+        assertThat(dictionary.encode("candidate-2")).isEqualTo(1);
+        assertThat(dictionary.find(copy)).isZero();
+        assertThat(dictionary.intern(copy)).isSameAs(first);
+        assertThat(dictionary.canonical(copy)).isSameAs(first);
+        assertThat(dictionary.canonical("candidate-3")).isEqualTo("candidate-3");
+        assertThat(dictionary.decode(1)).isEqualTo("candidate-2");
+        assertThat(dictionary.find("candidate-3")).isEqualTo(CandidateDictionary.NO_CODE);
+        assertThat(dictionary.size()).isEqualTo(2);
+    }
+
+    @Test
+    void stopsAssigningCodesOnceFull() {
+        CandidateDictionary dictionary = new CandidateDictionary(5_000);
+        for (int i = 0; i < 5_000; i++) {
+            dictionary.encode("candidate-" + i);
+        }
+        String unassigned = "candidate-5000";
+
+        assertThat(dictionary.encode(unassigned)).isEqualTo(CandidateDictionary.NO_CODE);
+        assertThat(dictionary.intern(unassigned)).isSameAs(unassigned);
+        assertThat(dictionary.find("candidate-4999")).isEqualTo(4_999);
+        assertThat(dictionary.size()).isEqualTo(5_000);
+        assertThat(dictionary.uncoded()).isEqualTo(2L);
+    }
+
+    @Test
+    void concurrentEncodersAgreeOnOneCodePerId() throws Exception {
+        CandidateDictionary dictionary = new CandidateDictionary(100_000);
+        CandidateTable<String> table = new CandidateTable<>(dictionary);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<int[]>> results = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                results.add(executor.submit(() -> {
+                    int[] codes = new int[20_000];
+                    for (int i = 0; i < codes.length; i++) {
+                        codes[i] = dictionary.encode("candidate-" + i);
+                        table.putIfAbsent(codes[i], "candidate-" + i);
+                    }
+                    return codes;
+                }));
+            }
+            int[] expected = results.get(0).get();
+            for (Future<int[]> result : results) {
+                assertThat(result.get()).isEqualTo(expected);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(dictionary.size()).isEqualTo(20_000);
+        assertThat(table.size()).isEqualTo(20_000);
+        for (int i = 0; i < 20_000; i++) {
+            int code = dictionary.find("candidate-" + i);
+            assertThat(table.get(code)).isEqualTo("candidate-" + i);
+        }
+    }
+
+    @Test
+    void concurrentInternersCanDecodeEveryCodeTheyFind() throws Exception {
+        CandidateDictionary dictionary = new CandidateDictionary(100_000);
+        CyclicBarrier start = new CyclicBarrier(8);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int interned = 0;
+                    for (int i = 0; i < 50_000; i++) {
+                        String id = "candidate-" + i;
+                        if (dictionary.intern(id).equals(id)) {
+                            interned++;
+                        }
+                    }
+                    return interned;
+                }));
+            }
+            for (Future<Integer> result : results) {
+                assertThat(result.get()).isEqualTo(50_000);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(dictionary.size()).isEqualTo(50_000);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.scoring.codec;
+
+import com.example.scoring.domain.Score;
+import com.example.scoring.dto.ScoreRequest;
+import com.example.scoring.dto.ScoreResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the streaming score codec, checked against the Jackson output it replaces.
+ */
+class ScoreJsonCodecTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    void writesTheSameBytesAsJacksonForTheResponseDto() throws Exception {
+        ScoreJsonWriter writer = new ScoreJsonWriter();
+        Score[] scores = {
+                new Score("candidate-1", 74.0, 50, 37, LocalDateTime.of(2024, 1, 1, 12, 0, 0), false),
+                new Score("c\"\\\n\u0001\u00e9\u20ac\ud83d\ude00", 100.0 / 3, 3, 1,
+                        LocalDateTime.of(2024, 2, 29, 23, 59, 7, 123_400_000), true),
+                new Score("candidate-3", 0.30000000000000004, 10, 3, LocalDateTime.of(1999, 12, 31, 0, 0, 0, 5), false),
+                new Score("candidate-4", -12.5, 10, 0, null, false)
+        };
+        scores[1].setAssessmentId("java-backend");
+
+        for (Score score : scores) {
+            byte[] expected = objectMapper.writeValueAsBytes(ScoreResponse.fromEntity(score));
+            assertThat(new String(writer.writeScore(score).toByteArray(), StandardCharsets.UTF_8))
+                    .isEqualTo(new String(expected, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void readsAllRequestFieldsAndSkipsUnknownOnes() {
+        String json = " {\"candidateId\":\"c-\\u00e9\", \"unknown\":{\"a\":[1,{\"b\":\"}\"}]}, \"totalQuestions\":\"50\","
+                + "\"correctAnswers\":37, \"incorrectAnswers\":null, \"assessmentId\":\"java\","
+                + "\"sections\":[{\"sectionId\":\"s1\",\"totalQuestions\":10,\"correctAnswers\":5}],"
+                + "\"answers\":[1,-1,3], \"idempotencyKey\":\"k-1\"} ";
+
+        ScoreRequest request = read(json);
+
+        assertThat(request.getCandidateId()).isEqualTo("c-\u00e9");
+        assertThat(request.getTotalQuestions()).isEqualTo(50);
+        assertThat(request.getCorrectAnswers()).isEqualTo(37);
+        assertThat(request.getIncorrectAnswers()).isNull();
+        assertThat(request.getAssessmentId()).isEqualTo("java");
+        assertThat(request.getSections()).singleElement().satisfies(section -> {
+            assertThat(section.getSectionId()).isEqualTo("s1");
+            assertThat(section.getTotalQuestions()).isEqualTo(10);
+            assertThat(section.getCorrectAnswers()).isEqualTo(5);
+        });
+        assertThat(request.getAnswers()).containsExactly(1, -1, 3);
+        assertThat(request.getIdempotencyKey()).isEqualTo("k-1");
+    }
+
+    @Test
+    void rejectsMalformedRequests() {
+        assertThatThrownBy(() -> read("{\"totalQuestions\":1.5}")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> read("{\"totalQuestions\":2147483648}")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> read("{\"candidateId\":\"x\"} trailing")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> read("{\"candidateId\":\"x")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void skipsOnlyValidJsonValuesOfUnknownProperties() {
+        String json = "{\"a\":true,\"b\":false,\"c\":null,\"d\":-0.5e+3,\"e\":10E2,\"candidateId\":\"x\"}";
+
+        assertThat(read(json).getCandidateId()).isEqualTo("x");
+        for (String value : new String[]{"e+.-", "tru", "falsey", "nil", "01", "1.", "-", ".5", "1e", "+1", "NaN"}) {
+            assertThatThrownBy(() -> read("{\"extra\":" + value + ",\"candidateId\":\"x\"}"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void rejectsLeadingZerosLikeJackson() {
+        String json = "{\"candidateId\":\"x\",\"totalQuestions\":050,\"correctAnswers\":7}";
+
+        assertThatThrownBy(() -> objectMapper.readValue(json, ScoreRequest.class)).isInstanceOf(Exception.class);
+        assertThatThrownBy(() -> read(json)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> read("{\"answers\":[1,-01]}")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(read("{\"totalQuestions\":\"050\",\"answers\":[0,-0]}").getTotalQuestions()).isEqualTo(50);
+    }
+
+    private static ScoreRequest read(String json) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return new ScoreRequestJsonReader().read(bytes, bytes.length);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.scoring.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the single-flight idempotency store.
+ */
+class IdempotencyStoreTest {
+
+    @Test
+    void duplicatesShareTheInFlightAndCompletedResult() {
+        IdempotencyStore<String> store = new IdempotencyStore<>(new IdempotencyProperties());
+        AtomicInteger computations = new AtomicInteger();
+        CompletableFuture<String> inFlight = new CompletableFuture<>();
+
+        CompletableFuture<String> first = store.execute("key-1", "payload", () -> {
+            computations.incrementAndGet();
+            return inFlight;
+        });
+        CompletableFuture<String> duplicate = store.execute("key-1", "payload", () -> {
+            computations.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+        assertThat(duplicate).isNotDone();
+
+        inFlight.complete("result");
+        CompletableFuture<String> replay = store.execute("key-1", "payload", () -> {
+            computations.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+
+        assertThat(first.join()).isEqualTo("result");
+        assertThat(duplicate.join()).isEqualTo("result");
+        assertThat(replay.join()).isEqualTo("result");
+        assertThat(computations).hasValue(1);
+    }
+
+    @Test
+    void failedComputationsAreRetriedAndConflictingPayloadsRejected() {
+        IdempotencyStore<String> store = new IdempotencyStore<>(new IdempotencyProperties());
+
+        assertThatThrownBy(() -> store.execute("key-1", "payload", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        CompletableFuture<String> retry = store.execute("key-1", "payload",
+                () -> CompletableFuture.completedFuture("result"));
+
+        assertThat(retry.join()).isEqualTo("result");
+        assertThatThrownBy(() -> store.execute("key-1", "different", () -> CompletableFuture.completedFuture("x")))
+                .isInstanceOf(IdempotencyConflictException.class);
+    }
+
+    @Test
+    void forgetsResultsWhoseOutcomeFails() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        IdempotencyStore<CompletableFuture<String>> store =
+                new IdempotencyStore<>(properties, Duration.ofMinutes(1), handle -> handle);
+        CompletableFuture<String> failing = new CompletableFuture<>();
+        CompletableFuture<String> succeeding = new CompletableFuture<>();
+
+        store.execute("key-1", "payload", () -> CompletableFuture.completedFuture(failing));
+        store.execute("key-2", "payload", () -> CompletableFuture.completedFuture(succeeding));
+        failing.completeExceptionally(new IllegalStateException("boom"));
+        succeeding.complete("done");
+
+        assertThat(store.execute("key-1", "payload",
+                () -> CompletableFuture.completedFuture(CompletableFuture.completedFuture("retried"))).join())
+                .isNotSameAs(failing);
+        assertThat(store.execute("key-2", "payload",
+                () -> CompletableFuture.completedFuture(CompletableFuture.completedFuture("other"))).join())
+                .isSameAs(succeeding);
+    }
+
+    @Test
+    void forgetsOldestKeysBeyondCapacity() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setMaxEntries(2);
+        IdempotencyStore<String> store = new IdempotencyStore<>(properties);
+
+        store.execute("key-1", "payload", () -> CompletableFuture.completedFuture("first"));
+        store.execute("key-2", "payload", () -> CompletableFuture.completedFuture("second"));
+        store.execute("key-3", "payload", () -> CompletableFuture.completedFuture("third"));
+        CompletableFuture<String> recomputed = store.execute("key-1", "payload",
+                () -> CompletableFuture.completedFuture("again"));
+
+        assertThat(recomputed.join()).isEqualTo("again");
+        assertThat(store.size()).isLessThanOrEqualTo(2);
+    }
+}
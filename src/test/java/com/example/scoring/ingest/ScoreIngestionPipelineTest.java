@@ -0,0 +1,316 @@
+package com.example.scoring.ingest;
+
+import com.example.scoring.domain.Score;
+import com.example.scoring.dto.ScoreBatchItemResult;
+import com.example.scoring.dto.ScoreCursor;
+import com.example.scoring.dto.ScoreIngestionAck;
+import com.example.scoring.dto.ScorePage;
+import com.example.scoring.dto.ScoreRequest;
+import com.example.scoring.dto.ScoreResponse;
+import com.example.scoring.service.ScoreService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for incremental frame decoding, chunked processing and range acknowledgements.
+ */
+class ScoreIngestionPipelineTest {
+
+    private final RecordingScoreService scoreService = new RecordingScoreService();
+    private ScoreIngestionPipeline pipeline;
+
+    @AfterEach
+    void stopPipeline() {
+        pipeline.stop();
+    }
+
+    @Test
+    void acknowledgesLengthPrefixedFramesPerChunkInStreamOrder() throws Exception {
+        pipeline = newPipeline(500);
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        for (int i = 0; i < 1203; i++) {
+            String candidate = i == 17 ? "bad" : "c-" + i;
+            writeFrame(stream, i == 600 ? "{\"candidateId\":" : "{\"candidateId\":\"" + candidate + "\",\"totalQuestions\":10,\"correctAnswers\":5}");
+        }
+        List<ScoreIngestionAck> acks = new ArrayList<>();
+
+        long frames = pipeline.ingest(new TricklingChannel(stream.toByteArray(), 7), FrameFormat.LENGTH_PREFIXED, acks::add);
+
+        assertThat(frames).isEqualTo(1203L);
+        assertThat(acks).extracting(ScoreIngestionAck::getFromIndex).containsExactly(0L, 500L, 1000L);
+        assertThat(acks).extracting(ScoreIngestionAck::getToIndex).containsExactly(499L, 999L, 1202L);
+        assertThat(acks).extracting(ScoreIngestionAck::getAccepted).containsExactly(499, 499, 203);
+        assertThat(acks.get(0).getFailures()).extracting(ScoreBatchItemResult::getIndex).containsExactly(17L);
+        assertThat(acks.get(1).getFailures()).singleElement().satisfies(failure -> {
+            assertThat(failure.getIndex()).isEqualTo(600L);
+            assertThat(failure.getError()).startsWith("Malformed frame");
+        });
+        assertThat(scoreService.candidates).hasSize(1202).contains("c-0", "c-599", "c-1202").doesNotContain("c-600");
+    }
+
+    @Test
+    void decodesNdjsonWithBlankLinesAndAnUnterminatedLastLine() throws Exception {
+        pipeline = newPipeline(2);
+        String body = "{\"candidateId\":\"a\",\"totalQuestions\":1,\"correctAnswers\":1}\r\n\n  \n"
+                + "{\"candidateId\":\"b\",\"totalQuestions\":1,\"correctAnswers\":1}\n"
+                + "{\"candidateId\":\"c\",\"totalQuestions\":1,\"correctAnswers\":1}";
+        List<ScoreIngestionAck> acks = new ArrayList<>();
+
+        pipeline.ingest(new TricklingChannel(body.getBytes(StandardCharsets.UTF_8), 5), FrameFormat.NDJSON, acks::add);
+
+        assertThat(acks).extracting(ScoreIngestionAck::getToIndex).containsExactly(1L, 2L);
+        assertThat(scoreService.candidates).containsExactlyInAnyOrder("a", "b", "c");
+    }
+
+    @Test
+    void abortsOnInvalidFrameLengthAfterAcknowledgingEarlierFrames() throws Exception {
+        pipeline = newPipeline(500);
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        writeFrame(stream, "{\"candidateId\":\"a\",\"totalQuestions\":1,\"correctAnswers\":1}");
+        stream.write(new byte[]{0x7f, 0, 0, 0});
+        List<ScoreIngestionAck> acks = new ArrayList<>();
+
+        pipeline.ingest(new TricklingChannel(stream.toByteArray(), 64), FrameFormat.LENGTH_PREFIXED, acks::add);
+
+        assertThat(acks).hasSize(2);
+        assertThat(acks.get(0).getAccepted()).isEqualTo(1);
+        assertThat(acks.get(1).getError()).startsWith("Malformed stream");
+    }
+
+    @Test
+    void acknowledgesPartialChunksToAClientThatWaitsForAcks() throws Exception {
+        pipeline = newPipeline(500, Duration.ofMillis(20));
+        BlockingQueue<ScoreIngestionAck> acks = new LinkedBlockingQueue<>();
+        ClientChannel client = new ClientChannel();
+        CompletableFuture<Long> ingestion = CompletableFuture.supplyAsync(() -> {
+            try {
+                return pipeline.ingest(client, FrameFormat.NDJSON, acks::add);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+
+        client.send("{\"candidateId\":\"a\",\"totalQuestions\":1,\"correctAnswers\":1}\n"
+                + "{\"candidateId\":\"b\",\"totalQuestions\":1,\"correctAnswers\":1}\n");
+        ScoreIngestionAck first = acks.poll(5, TimeUnit.SECONDS);
+        client.send("{\"candidateId\":\"c\",\"totalQuestions\":1,\"correctAnswers\":1}\n");
+        ScoreIngestionAck second = acks.poll(5, TimeUnit.SECONDS);
+        client.close();
+
+        assertThat(ingestion.get(5, TimeUnit.SECONDS)).isEqualTo(3L);
+        assertThat(first).isNotNull();
+        assertThat(first.getToIndex()).isEqualTo(1L);
+        assertThat(first.getAccepted()).isEqualTo(2);
+        assertThat(second).isNotNull();
+        assertThat(second.getFromIndex()).isEqualTo(2L);
+        assertThat(second.getToIndex()).isEqualTo(2L);
+        assertThat(acks).isEmpty();
+    }
+
+    @Test
+    void keepsReadingWhileAcknowledgementsCannotBeWritten() throws Exception {
+        pipeline = newPipeline(2);
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            body.append("{\"candidateId\":\"c-").append(i).append("\",\"totalQuestions\":1,\"correctAnswers\":1}\n");
+        }
+        CompletableFuture<Void> clientReads = new CompletableFuture<>();
+        TricklingChannel channel = new TricklingChannel(body.toString().getBytes(StandardCharsets.UTF_8), 16) {
+            @Override
+            public int read(ByteBuffer target) {
+                int read = super.read(target);
+                if (read < 0) {
+                    // Like a client that reads acknowledgements only after sending everything.
+                    clientReads.complete(null);
+                }
+                return read;
+            }
+        };
+        List<ScoreIngestionAck> acks = new CopyOnWriteArrayList<>();
+        CompletableFuture<Long> ingestion = CompletableFuture.supplyAsync(() -> {
+            try {
+                return pipeline.ingest(channel, FrameFormat.NDJSON, ack -> {
+                    clientReads.join();
+                    acks.add(ack);
+                });
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+
+        assertThat(ingestion.get(5, TimeUnit.SECONDS)).isEqualTo(20L);
+        assertThat(acks).extracting(ScoreIngestionAck::getFromIndex)
+                .containsExactly(0L, 2L, 4L, 6L, 8L, 10L, 12L, 14L, 16L, 18L);
+    }
+
+    private ScoreIngestionPipeline newPipeline(int chunkSize) {
+        // Long enough that only full chunks and the end of the stream close a chunk.
+        return newPipeline(chunkSize, Duration.ofMinutes(1));
+    }
+
+    private ScoreIngestionPipeline newPipeline(int chunkSize, Duration maxChunkDelay) {
+        IngestionProperties properties = new IngestionProperties();
+        properties.setChunkSize(chunkSize);
+        properties.setMaxChunkDelay(maxChunkDelay);
+        properties.setMaxInFlightChunks(2);
+        properties.setMaxFrameBytes(1024);
+        properties.setReadBufferBytes(64);
+        properties.setWorkerThreads(2);
+        return new ScoreIngestionPipeline(scoreService, properties);
+    }
+
+    private static void writeFrame(ByteArrayOutputStream stream, String json) {
+        byte[] payload = json.getBytes(StandardCharsets.UTF_8);
+        stream.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(payload.length).array());
+        stream.writeBytes(payload);
+    }
+
+    /**
+     * Channel that returns at most {@code step} bytes per read, so frames straddle reads.
+     */
+    private static class TricklingChannel implements ReadableByteChannel {
+
+        private final byte[] data;
+        private final int step;
+        private int position;
+
+        private TricklingChannel(byte[] data, int step) {
+            this.data = data;
+            this.step = step;
+        }
+
+        @Override
+        public int read(ByteBuffer target) {
+            if (position == data.length) {
+                return -1;
+            }
+            int length = Math.min(step, Math.min(target.remaining(), data.length - position));
+            target.put(data, position, length);
+            position += length;
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Channel fed by the test as a client would send data, blocking reads until data arrives
+     * or the client closes its side.
+     */
+    private static final class ClientChannel implements ReadableByteChannel {
+
+        private static final byte[] END = new byte[0];
+
+        private final BlockingQueue<byte[]> sent = new LinkedBlockingQueue<>();
+        private ByteBuffer current = ByteBuffer.allocate(0);
+
+        private void send(String data) {
+            sent.add(data.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int read(ByteBuffer target) throws IOException {
+            if (!current.hasRemaining()) {
+                try {
+                    byte[] next = sent.take();
+                    if (next == END) {
+                        sent.add(END);
+                        return -1;
+                    }
+                    current = ByteBuffer.wrap(next);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+            }
+            int length = Math.min(target.remaining(), current.remaining());
+            target.put(current.array(), current.position(), length);
+            current.position(current.position() + length);
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            sent.add(END);
+        }
+    }
+
+    /**
+     * Records the candidates it is asked to score and fails those named "bad".
+     */
+    private static final class RecordingScoreService implements ScoreService {
+
+        private final List<String> candidates = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void calculateScoresBatch(Iterator<ScoreRequest> requests, Consumer<ScoreBatchItemResult> sink) {
+            long index = 0L;
+            while (requests.hasNext()) {
+                String candidateId = requests.next().getCandidateId();
+                candidates.add(candidateId);
+                sink.accept("bad".equals(candidateId)
+                        ? ScoreBatchItemResult.failure(index++, "rejected")
+                        : ScoreBatchItemResult.success(index++, null));
+            }
+        }
+
+        @Override
+        public Score calculateScoreSync(ScoreRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<Score> calculateScoreAsync(ScoreRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<ScoreResponse> findLatestScore(String candidateId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ScorePage findCandidateHistory(String candidateId, ScoreCursor after, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ScorePage findScoresBetween(LocalDateTime from, LocalDateTime to, ScoreCursor after, int limit) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
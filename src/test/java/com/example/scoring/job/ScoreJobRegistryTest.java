@@ -0,0 +1,51 @@
+package com.example.scoring.job;
+
+import com.example.scoring.domain.Score;
+import com.example.scoring.exception.ScoreCalculationException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the bounded job table.
+ */
+class ScoreJobRegistryTest {
+
+    @Test
+    void tracksStatusOfCompletion() {
+        ScoreJobRegistry registry = new ScoreJobRegistry(new ScoreJobProperties());
+        CompletableFuture<Score> pending = new CompletableFuture<>();
+        CompletableFuture<Score> failing = new CompletableFuture<>();
+
+        ScoreJob first = registry.track("candidate-1", pending);
+        ScoreJob second = registry.track("candidate-2", failing);
+        failing.completeExceptionally(new CompletionException(new ScoreCalculationException("boom")));
+
+        assertThat(registry.find(first.getId())).get().extracting(ScoreJob::getStatus).isEqualTo(ScoreJobStatus.PENDING);
+        assertThat(registry.find(second.getId())).get().extracting(ScoreJob::getError).isEqualTo("boom");
+        assertThat(registry.find("unknown")).isEmpty();
+    }
+
+    @Test
+    void evictsOldestJobsBeyondCapacityAndAfterTtl() {
+        ScoreJobProperties properties = new ScoreJobProperties();
+        properties.setMaxJobs(2);
+        ScoreJobRegistry registry = new ScoreJobRegistry(properties);
+
+        ScoreJob first = registry.track("candidate-1", new CompletableFuture<>());
+        ScoreJob second = registry.track("candidate-2", new CompletableFuture<>());
+        ScoreJob third = registry.track("candidate-3", new CompletableFuture<>());
+
+        assertThat(registry.find(first.getId())).isEmpty();
+        assertThat(registry.find(second.getId())).isPresent();
+        assertThat(registry.find(third.getId())).isPresent();
+
+        properties.setTtl(Duration.ZERO);
+        ScoreJob expired = new ScoreJobRegistry(properties).track("candidate-4", new CompletableFuture<>());
+        assertThat(expired.isExpired(System.nanoTime())).isTrue();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.scoring.monitoring;
+
+import com.example.scoring.domain.Score;
+import com.example.scoring.dto.ScoreRequest;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for bounded, hook-aware argument rendering.
+ */
+class ArgumentFormatterTest {
+
+    @Test
+    void rendersArraysAndStopsAtLengthCap() {
+        ArgumentFormatter formatter = new ArgumentFormatter(List.of());
+
+        assertThat(formatter.format(new Object[]{"a", 1, new int[]{2, 3}}, ArgumentRenderingPolicy.FULL))
+                .isEqualTo("[a, 1, [2, 3]]");
+
+        String rendered = formatter.format(new Object[]{"x".repeat(2_000)}, ArgumentRenderingPolicy.FULL);
+        assertThat(rendered)
+                .hasSize(ArgumentFormatter.MAX_ARGUMENT_LOG_LENGTH + BoundedTextBuffer.TRUNCATION_MARKER.length())
+                .endsWith(BoundedTextBuffer.TRUNCATION_MARKER);
+    }
+
+    @Test
+    void expandsCollectionsWithinTheCapAndNeverCallsToStringOfUnknownTypes() {
+        ArgumentFormatter formatter = new ArgumentFormatter(List.of());
+        List<Integer> large = new ArrayList<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            large.add(i);
+        }
+
+        assertThat(formatter.format(new Object[]{List.of(1, 2), Map.of("k", 3)}, ArgumentRenderingPolicy.FULL))
+                .isEqualTo("[[1, 2], {k=3}]");
+        assertThat(formatter.format(new Object[]{large}, ArgumentRenderingPolicy.FULL))
+                .hasSize(ArgumentFormatter.MAX_ARGUMENT_LOG_LENGTH + BoundedTextBuffer.TRUNCATION_MARKER.length());
+        Score entity = new Score("candidate-1", 70.0, 10, 7, LocalDateTime.of(2024, 1, 1, 0, 0), false);
+        assertThat(formatter.format(new Object[]{entity, new Opaque()}, ArgumentRenderingPolicy.FULL))
+                .isEqualTo("[Score, Opaque]");
+    }
+
+    @Test
+    void appliesRegisteredRendererWithRedaction() {
+        MonitoringProperties properties = new MonitoringProperties();
+        properties.setRedactCandidateIds(true);
+        ArgumentFormatter formatter = new ArgumentFormatter(List.of(new ScoreRequestArgumentRenderer(properties)));
+
+        String rendered = formatter.format(new Object[]{new ScoreRequest("candidate-1234", 10, 7)},
+                ArgumentRenderingPolicy.FULL);
+
+        assertThat(rendered).isEqualTo("[ScoreRequest{candidateId=**********1234, totalQuestions=10, correctAnswers=7}]");
+        ScoreRequest keyed = new ScoreRequest("candidate-1234", 10, 7);
+        keyed.setIdempotencyKey("secret-key");
+        assertThat(formatter.format(new Object[]{keyed}, ArgumentRenderingPolicy.FULL))
+                .endsWith(", idempotencyKey=<redacted>}]");
+        assertThat(formatter.format(new Object[]{new ScoreRequest()}, ArgumentRenderingPolicy.NONE))
+                .isEqualTo("[omitted]");
+    }
+
+    private static final class Opaque {
+
+        @Override
+        public String toString() {
+            throw new AssertionError("toString() must not be called");
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.scoring.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for the striped latency histogram and its rolling recorder.
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void bucketsAreContiguousAndBoundedByRelativeError() {
+        for (long value = 0L; value < 1_000_000L; value += 7L) {
+            int index = LatencyHistogram.bucketIndex(value);
+            long highest = LatencyHistogram.highestEquivalentValue(index);
+            assertThat(highest).isGreaterThanOrEqualTo(value);
+            assertThat(highest - value).isLessThanOrEqualTo(Math.max(0L, value / 64));
+        }
+        assertThat(LatencyHistogram.bucketIndex(LatencyHistogram.MAX_TRACKABLE_NANOS))
+                .isEqualTo(LatencyHistogram.BUCKET_COUNT - 1);
+    }
+
+    @Test
+    void snapshotReportsPercentilesAcrossStripes() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram(4);
+        Thread[] writers = new Thread[4];
+        for (int t = 0; t < writers.length; t++) {
+            writers[t] = new Thread(() -> {
+                for (long value = 1L; value <= 1_000L; value++) {
+                    histogram.record(value * 1_000L);
+                }
+            });
+            writers[t].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot("test", 0L, 0L);
+
+        assertThat(snapshot.getCount()).isEqualTo(4_000L);
+        assertThat(snapshot.getMaxNanos()).isEqualTo(1_000_000L);
+        assertThat((double) snapshot.getP50Nanos()).isCloseTo(500_000.0, within(500_000.0 / 64));
+        assertThat((double) snapshot.getP99Nanos()).isCloseTo(990_000.0, within(990_000.0 / 64));
+        assertThat(snapshot.getMeanNanos()).isCloseTo(500_500.0, within(1.0));
+    }
+
+    @Test
+    void recorderPublishesCompletedWindowOnRollover() {
+        long window = TimeUnit.SECONDS.toNanos(60);
+        RollingLatencyRecorder recorder = new RollingLatencyRecorder("test", window, 1);
+        long now = System.nanoTime();
+        recorder.record(42L, now);
+        recorder.record(43L, now + window + 1L);
+
+        assertThat(recorder.lastCompletedWindow().getCount()).isEqualTo(1L);
+        assertThat(recorder.lastCompletedWindow().getMaxNanos()).isEqualTo(42L);
+        assertThat(recorder.currentWindow().getCount()).isEqualTo(1L);
+        assertThat(recorder.currentWindow().getMaxNanos()).isEqualTo(43L);
+    }
+
+    @Test
+    void rolloverLosesNoObservationOfConcurrentWriters() throws Exception {
+        long window = TimeUnit.SECONDS.toNanos(60);
+        RollingLatencyRecorder recorder = new RollingLatencyRecorder("test", window, 4);
+        long start = System.nanoTime();
+        int perWriter = 200_000;
+        Thread[] writers = new Thread[4];
+        for (int t = 0; t < writers.length; t++) {
+            writers[t] = new Thread(() -> {
+                for (int i = 0; i < perWriter; i++) {
+                    recorder.record(1_000L, start);
+                }
+            });
+            writers[t].start();
+        }
+        int rollovers = 200;
+        long completed = 0L;
+        for (int k = 1; k <= rollovers; k++) {
+            // Each rolls the window over and is the first observation of the new one.
+            recorder.record(1_000L, start + k * (window + 1L));
+            completed += recorder.lastCompletedWindow().getCount();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        long total = completed + recorder.currentWindow().getCount();
+        assertThat(total).isEqualTo((long) writers.length * perWriter + rollovers);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.scoring.monitoring;
+
+import com.example.scoring.dto.LoggingSamplingSettings;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for service log sampling and per-method rate limiting.
+ */
+class LoggingSamplingPolicyTest {
+
+    @Test
+    void unsampledCallsStillLogSlowExitsAndErrors() {
+        LoggingSamplingPolicy policy = new LoggingSamplingPolicy(new MonitoringProperties());
+        policy.apply(new LoggingSamplingSettings(0.0, 100L, true, 0L));
+        LogRateLimiter limiter = new LogRateLimiter();
+        long now = System.nanoTime();
+
+        assertThat(policy.sampleCall(limiter, now)).isFalse();
+        assertThat(policy.logSlowCall(limiter, TimeUnit.MILLISECONDS.toNanos(50), now)).isFalse();
+        assertThat(policy.logSlowCall(limiter, TimeUnit.MILLISECONDS.toNanos(150), now)).isTrue();
+        assertThat(policy.logError(limiter, now)).isTrue();
+    }
+
+    @Test
+    void rateCapLimitsSampledCallsPerSecond() {
+        LoggingSamplingPolicy policy = new LoggingSamplingPolicy(new MonitoringProperties());
+        policy.apply(new LoggingSamplingSettings(100.0, 0L, true, 10L));
+        LogRateLimiter limiter = new LogRateLimiter();
+        long now = System.nanoTime();
+
+        int sampled = 0;
+        for (int i = 0; i < 100; i++) {
+            if (policy.sampleCall(limiter, now)) {
+                sampled++;
+            }
+        }
+
+        // Each sampled call reserves one line for entry and one for exit.
+        assertThat(sampled).isEqualTo(5);
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        LoggingSamplingPolicy policy = new LoggingSamplingPolicy(new MonitoringProperties());
+
+        assertThatThrownBy(() -> policy.apply(new LoggingSamplingSettings(120.0, 0L, true, 0L)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> policy.apply(new LoggingSamplingSettings(Double.NaN, 0L, true, 0L)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(policy.currentSettings().getSampleRatePercent()).isEqualTo(100.0);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.scoring.monitoring;
+
+import com.example.scoring.candidate.CandidateDictionary;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the per-method meters and their Prometheus text rendering.
+ */
+class PrometheusScrapeWriterTest {
+
+    @Test
+    void rendersTimerCountersAndGaugePerMethod() throws Exception {
+        MethodMetrics methodMetrics = new MethodMetrics(new MonitoringProperties());
+        Method method = PrometheusScrapeWriterTest.class.getDeclaredMethod("declaresIoException");
+        MethodMeters meters = methodMetrics.register("Target.declaresIoException(..)", method);
+
+        meters.callStarted();
+        meters.recordSuccess(2_000_000L);
+        meters.callStarted();
+        meters.recordError(IllegalStateException.class, 30_000_000L);
+        meters.callStarted();
+
+        String scrape = new PrometheusScrapeWriter(methodMetrics, new CacheMetrics(), new CandidateDictionary(10))
+                .scrape();
+
+        String labels = "method=\"Target.declaresIoException(..)\"";
+        assertThat(scrape)
+                .contains("# TYPE scoring_service_call_duration_seconds histogram\n")
+                .contains("scoring_service_call_duration_seconds_bucket{" + labels + ",le=\"0.001\"} 0\n")
+                .contains("scoring_service_call_duration_seconds_bucket{" + labels + ",le=\"0.0025\"} 1\n")
+                .contains("scoring_service_call_duration_seconds_bucket{" + labels + ",le=\"0.05\"} 2\n")
+                .contains("scoring_service_call_duration_seconds_bucket{" + labels + ",le=\"+Inf\"} 2\n")
+                .contains("scoring_service_call_duration_seconds_sum{" + labels + "} 0.032\n")
+                .contains("scoring_service_call_duration_seconds_count{" + labels + "} 2\n")
+                .contains("scoring_service_calls_total{" + labels + ",outcome=\"success\"} 1\n")
+                .contains("scoring_service_calls_total{" + labels + ",outcome=\"error\"} 1\n")
+                .contains("scoring_service_errors_total{" + labels + ",exception=\"IOException\"} 0\n")
+                .contains("scoring_service_errors_total{" + labels + ",exception=\"IllegalStateException\"} 1\n")
+                .contains("scoring_service_in_flight{" + labels + "} 1\n");
+    }
+
+    @Test
+    void rendersCandidateDictionaryOccupancyAndUncodedIds() {
+        CandidateDictionary dictionary = new CandidateDictionary(2);
+        dictionary.encode("candidate-1");
+        dictionary.encode("candidate-2");
+        dictionary.encode("candidate-3");
+        dictionary.encode("candidate-3");
+
+        String scrape = new PrometheusScrapeWriter(
+                new MethodMetrics(new MonitoringProperties()), new CacheMetrics(), dictionary).scrape();
+
+        assertThat(scrape)
+                .contains("# TYPE scoring_candidate_dictionary_entries gauge\n")
+                .contains("scoring_candidate_dictionary_entries 2\n")
+                .contains("scoring_candidate_dictionary_capacity 2\n")
+                .contains("# TYPE scoring_candidate_dictionary_uncoded_total counter\n")
+                .contains("scoring_candidate_dictionary_uncoded_total 2\n");
+    }
+
+    @Test
+    void overloadsShareMetersAndLabelValuesAreEscaped() throws Exception {
+        MethodMetrics methodMetrics = new MethodMetrics(new MonitoringProperties());
+        Method method = PrometheusScrapeWriterTest.class.getDeclaredMethod("declaresIoException");
+
+        assertThat(methodMetrics.register("a", method)).isSameAs(methodMetrics.register("a", method));
+        assertThat(PrometheusScrapeWriter.escape("a\"b\\c\nd")).isEqualTo("a\\\"b\\\\c\\nd");
+        assertThat(PrometheusScrapeWriter.escape("plain")).isEqualTo("plain");
+    }
+
+    @SuppressWarnings("unused")
+    private void declaresIoException() throws IOException {
+    }
+}
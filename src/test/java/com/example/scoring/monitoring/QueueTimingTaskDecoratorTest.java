@@ -0,0 +1,61 @@
+package com.example.scoring.monitoring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for timing and request context propagation across an executor hop.
+ */
+class QueueTimingTaskDecoratorTest {
+
+    @AfterEach
+    void unbind() {
+        RequestTimingContext.restore(null);
+    }
+
+    @Test
+    void propagatesCorrelationIdAndMeasuresTotalFromAcceptTime() throws Exception {
+        LatencyMetrics latencyMetrics = new LatencyMetrics(new MonitoringProperties());
+        QueueTimingTaskDecorator decorator = new QueueTimingTaskDecorator(latencyMetrics, "test");
+        long acceptedAtNanos = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(50);
+        RequestTimingContext.bind(new RequestTimingContext("req-1", acceptedAtNanos));
+
+        AtomicReference<String> seenCorrelationId = new AtomicReference<>();
+        AtomicReference<String> leftoverCorrelationId = new AtomicReference<>("unset");
+        Runnable task = decorator.decorate(() -> seenCorrelationId.set(MDC.get(RequestTimingContext.CORRELATION_ID_MDC_KEY)));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(task).get();
+            executor.submit(() -> leftoverCorrelationId.set(MDC.get(RequestTimingContext.CORRELATION_ID_MDC_KEY))).get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(seenCorrelationId.get()).isEqualTo("req-1");
+        assertThat(leftoverCorrelationId.get()).isNull();
+        assertThat(latencyMetrics.currentWindows().get("test.queueWait").getCount()).isEqualTo(1L);
+        assertThat(latencyMetrics.currentWindows().get("test.execution").getCount()).isEqualTo(1L);
+        assertThat(latencyMetrics.currentWindows().get("test.total").getMaxNanos())
+                .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(49));
+    }
+
+    @Test
+    void measuresTotalFromSubmissionOutsideOfRequests() throws Exception {
+        LatencyMetrics latencyMetrics = new LatencyMetrics(new MonitoringProperties());
+        Runnable task = new QueueTimingTaskDecorator(latencyMetrics, "test").decorate(() -> { });
+
+        task.run();
+
+        assertThat(RequestTimingContext.current()).isNull();
+        assertThat(latencyMetrics.currentWindows().get("test.total").getCount()).isEqualTo(1L);
+    }
+}
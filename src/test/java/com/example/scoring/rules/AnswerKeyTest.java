@@ -0,0 +1,83 @@
+package com.example.scoring.rules;
+
+import com.example.scoring.exception.ScoreCalculationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for bitplane answer grading.
+ */
+class AnswerKeyTest {
+
+    @Test
+    void countsCorrectIncorrectAndUnansweredPerSectionAcrossWordBoundaries() {
+        int[] key = new int[150];
+        int[] answers = new int[150];
+        for (int question = 0; question < key.length; question++) {
+            key[question] = question % 4;
+            // Every third question is answered wrongly, every fifth left blank.
+            answers[question] = question % 5 == 0 ? -1 : question % 3 == 0 ? (question + 1) % 4 : question % 4;
+        }
+        AnswerKey answerKey = AnswerKey.compile("test", key, new int[]{70, 80});
+
+        int[] counts = new int[6];
+        answerKey.tally(answers, counts);
+
+        assertThat(counts).containsExactly(
+                70, expectedCorrect(answers, key, 0, 70), expectedIncorrect(answers, key, 0, 70),
+                80, expectedCorrect(answers, key, 70, 150), expectedIncorrect(answers, key, 70, 150));
+    }
+
+    @Test
+    void rulesGradeAnswerVectorsThroughTheEngine() {
+        ScoringRuleDefinition rule = new ScoringRuleDefinition();
+        rule.setNegativeMarking(0.5);
+        rule.setAnswerKey(new int[]{0, 1, 2, 3});
+        ScoringRulesProperties properties = new ScoringRulesProperties();
+        properties.getAssessments().put("quiz", rule);
+        ScoringRulesEngine engine = new ScoringRulesEngine(properties);
+
+        AnswerSheetResult result = engine.scoreAnswers("quiz", new int[]{0, 1, 0, -1});
+
+        // (2 correct - 0.5 * 1 incorrect) / 4 questions
+        assertThat(result.getScoreValue()).isEqualTo(37.5);
+        assertThat(result.getCorrectAnswers()).isEqualTo(2);
+        assertThat(result.getIncorrectAnswers()).isEqualTo(1);
+        assertThatThrownBy(() -> engine.scoreAnswers("quiz", new int[]{0, 1}))
+                .isInstanceOf(ScoreCalculationException.class);
+    }
+
+    @Test
+    void sectionQuestionCountsMustMatchTheKey() {
+        ScoringRuleDefinition rule = new ScoringRuleDefinition();
+        rule.setSections(List.of(new ScoringRuleDefinition.Section("only", 1.0)));
+        rule.setAnswerKey(new int[]{0, 1});
+
+        assertThatThrownBy(() -> CompiledScoringRule.compile("test", rule))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static int expectedCorrect(int[] answers, int[] key, int from, int to) {
+        int correct = 0;
+        for (int question = from; question < to; question++) {
+            if (answers[question] == key[question]) {
+                correct++;
+            }
+        }
+        return correct;
+    }
+
+    private static int expectedIncorrect(int[] answers, int[] key, int from, int to) {
+        int incorrect = 0;
+        for (int question = from; question < to; question++) {
+            if (answers[question] >= 0 && answers[question] != key[question]) {
+                incorrect++;
+            }
+        }
+        return incorrect;
+    }
+}
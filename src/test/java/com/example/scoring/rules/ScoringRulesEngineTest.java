@@ -0,0 +1,95 @@
+package com.example.scoring.rules;
+
+import com.example.scoring.dto.ScoreRequest;
+import com.example.scoring.dto.SectionAnswers;
+import com.example.scoring.exception.ScoreCalculationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for rule compilation and evaluation.
+ */
+class ScoringRulesEngineTest {
+
+    @Test
+    void defaultRuleIsAPlainPercentage() {
+        ScoringRulesEngine engine = new ScoringRulesEngine(new ScoringRulesProperties());
+
+        assertThat(engine.score(new ScoreRequest("candidate-1", 10, 7))).isEqualTo(70.0);
+    }
+
+    @Test
+    void appliesSectionWeightsNegativeMarkingAndCurve() {
+        ScoringRuleDefinition rule = new ScoringRuleDefinition();
+        rule.setNegativeMarking(0.5);
+        rule.setSections(List.of(
+                new ScoringRuleDefinition.Section("fundamentals", 1.0),
+                new ScoringRuleDefinition.Section("concurrency", 3.0)));
+        rule.setCurve(List.of(
+                new ScoringRuleDefinition.CurvePoint(0.0, 0.0),
+                new ScoringRuleDefinition.CurvePoint(50.0, 60.0),
+                new ScoringRuleDefinition.CurvePoint(100.0, 100.0)));
+        ScoringRulesProperties properties = new ScoringRulesProperties();
+        properties.getAssessments().put("java-backend", rule);
+        ScoringRulesEngine engine = new ScoringRulesEngine(properties);
+
+        ScoreRequest request = new ScoreRequest("candidate-1", 20, 12);
+        request.setAssessmentId("java-backend");
+        request.setSections(List.of(
+                new SectionAnswers("fundamentals", 10, 8, 2),
+                new SectionAnswers("concurrency", 10, 4, 2)));
+
+        // fundamentals: (8 - 0.5 * 2) / 10 = 0.7, concurrency: (4 - 0.5 * 2) / 10 = 0.3
+        // raw: (1 * 0.7 + 3 * 0.3) / 4 = 40%, curved: 40 * 60 / 50 = 48
+        assertThat(engine.score(request)).isCloseTo(48.0, within(1e-9));
+
+        request.setSections(List.of(
+                new SectionAnswers("fundamentals", 10, 8, 2),
+                new SectionAnswers("fundamentals", 10, 8, 2)));
+        assertThatThrownBy(() -> engine.score(request))
+                .isInstanceOf(ScoreCalculationException.class)
+                .hasMessageContaining("Duplicate section");
+
+        request.setAssessmentId("unknown");
+        assertThatThrownBy(() -> engine.score(request)).isInstanceOf(ScoreCalculationException.class);
+    }
+
+    @Test
+    void invalidRulesAreRejectedAndKeepTheActiveOnes() {
+        ScoringRulesEngine engine = new ScoringRulesEngine(new ScoringRulesProperties());
+        ScoringRuleDefinition rule = new ScoringRuleDefinition();
+        rule.setCurve(List.of(
+                new ScoringRuleDefinition.CurvePoint(50.0, 50.0),
+                new ScoringRuleDefinition.CurvePoint(40.0, 60.0)));
+        ScoringRulesDefinition definition = new ScoringRulesDefinition();
+        definition.setDefaultRule(rule);
+
+        assertThatThrownBy(() -> engine.replace(definition)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(engine.score(new ScoreRequest("candidate-1", 4, 1))).isEqualTo(25.0);
+
+        ScoringRuleDefinition nanMarking = new ScoringRuleDefinition();
+        nanMarking.setNegativeMarking(Double.NaN);
+        definition.setDefaultRule(nanMarking);
+        assertThatThrownBy(() -> engine.replace(definition)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void definitionsAreCopiedInAndOut() {
+        ScoringRulesEngine engine = new ScoringRulesEngine(new ScoringRulesProperties());
+        ScoringRuleDefinition rule = new ScoringRuleDefinition();
+        rule.setNegativeMarking(0.5);
+        ScoringRulesDefinition definition = new ScoringRulesDefinition();
+        definition.setDefaultRule(rule);
+        engine.replace(definition);
+
+        rule.setNegativeMarking(1.0);
+        engine.currentDefinition().getDefaultRule().setNegativeMarking(0.0);
+
+        assertThat(engine.currentDefinition().getDefaultRule().getNegativeMarking()).isEqualTo(0.5);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.scoring.service.impl;
+
+import com.example.scoring.domain.Score;
+import com.example.scoring.dto.ScoreCursor;
+import com.example.scoring.dto.ScoreResponse;
+import com.example.scoring.monitoring.RequestTimingContext;
+import com.example.scoring.store.ScoreStore;
+import org.slf4j.MDC;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Score store that keeps nothing and records the size and logging correlation id of every
+ * batch written to it.
+ */
+final class RecordingScoreStore implements ScoreStore {
+
+    final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    final List<String> correlationIds = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Score save(Score score) {
+        batchSizes.add(1);
+        return score;
+    }
+
+    @Override
+    public List<Score> saveAll(List<Score> scores) {
+        batchSizes.add(scores.size());
+        correlationIds.add(String.valueOf(MDC.get(RequestTimingContext.CORRELATION_ID_MDC_KEY)));
+        return scores;
+    }
+
+    @Override
+    public Optional<ScoreResponse> findLatest(String candidateId) {
+        return Optional.empty();
+    }
+
+    @Override
+    public List<ScoreResponse> findCandidateHistory(String candidateId, ScoreCursor before, int limit) {
+        return List.of();
+    }
+
+    @Override
+    public List<ScoreResponse> findCalculatedBetween(LocalDateTime from, LocalDateTime to, ScoreCursor after,
+                                                     int limit) {
+        return List.of();
+    }
+}
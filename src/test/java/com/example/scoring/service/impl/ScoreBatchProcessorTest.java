@@ -0,0 +1,99 @@
+package com.example.scoring.service.impl;
+
+import com.example.scoring.candidate.CandidateDictionary;
+import com.example.scoring.config.BatchProperties;
+import com.example.scoring.config.DatabaseBulkhead;
+import com.example.scoring.config.ScoringExecutorProperties;
+import com.example.scoring.dto.ScoreBatchItemResult;
+import com.example.scoring.dto.ScoreRequest;
+import com.example.scoring.event.PersistedScoreNotifier;
+import com.example.scoring.rules.ScoringRulesEngine;
+import com.example.scoring.rules.ScoringRulesProperties;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for chunked batch scoring.
+ */
+class ScoreBatchProcessorTest {
+
+    private final RecordingScoreStore store = new RecordingScoreStore();
+    private Executor executor = task -> new Thread(task).start();
+
+    @Test
+    void scoresTheRequestsReadBeforeMalformedInputAndReportsItsIndex() {
+        BatchProperties properties = new BatchProperties();
+        properties.setChunkSize(4);
+        List<ScoreBatchItemResult> results = new ArrayList<>();
+
+        processor(properties).process(new FailingIterator(6), results::add);
+
+        assertThat(results).extracting(ScoreBatchItemResult::getIndex).containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L);
+        assertThat(results.subList(0, 6)).extracting(ScoreBatchItemResult::getStatus)
+                .containsExactly("OK", "OK", "OK", "OK", "OK", "OK");
+        assertThat(results.get(6).getStatus()).isEqualTo(ScoreBatchItemResult.STATUS_FAILED);
+        assertThat(results.get(6).getError()).startsWith("Malformed batch input: ");
+        assertThat(store.batchSizes).containsExactly(4, 2);
+    }
+
+    @Test
+    void scoresTheChunkOnTheCallerWhenNoHelperTaskEverRuns() {
+        List<Runnable> neverRun = new ArrayList<>();
+        executor = neverRun::add;
+        BatchProperties properties = new BatchProperties();
+        properties.setChunkSize(8);
+        List<ScoreBatchItemResult> results = new ArrayList<>();
+
+        processor(properties).process(new FailingIterator(5), results::add);
+
+        assertThat(results.subList(0, 5)).extracting(ScoreBatchItemResult::getStatus)
+                .containsExactly("OK", "OK", "OK", "OK", "OK");
+        assertThat(store.batchSizes).containsExactly(5);
+    }
+
+    private ScoreBatchProcessor processor(BatchProperties properties) {
+        ScoreCalculator calculator = new ScoreCalculator(
+                new ScoringRulesEngine(new ScoringRulesProperties()), new CandidateDictionary(1_000));
+        return new ScoreBatchProcessor(calculator, new ScoreWriter(store),
+                new DatabaseBulkhead(new ScoringExecutorProperties(), 10),
+                Validation.buildDefaultValidatorFactory().getValidator(), properties,
+                new PersistedScoreNotifier(List.of()), executor);
+    }
+
+    /**
+     * Yields valid requests and then fails like a parser hitting malformed input.
+     */
+    private static final class FailingIterator implements Iterator<ScoreRequest> {
+
+        private final int validCount;
+        private int next;
+
+        private FailingIterator(int validCount) {
+            this.validCount = validCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return true;
+        }
+
+        @Override
+        public ScoreRequest next() {
+            if (next == validCount) {
+                throw new IllegalStateException("Unexpected character at item " + next);
+            }
+            if (next > validCount) {
+                throw new NoSuchElementException();
+            }
+            return new ScoreRequest("candidate-" + next++, 10, 7);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.scoring.service.impl;
+
+import com.example.scoring.candidate.CandidateDictionary;
+import com.example.scoring.dto.ScoreRequest;
+import com.example.scoring.exception.ScoreCalculationException;
+import com.example.scoring.rules.ScoringRulesEngine;
+import com.example.scoring.rules.ScoringRulesProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for request checks applied before scoring.
+ */
+class ScoreCalculatorTest {
+
+    private final ScoreCalculator calculator = new ScoreCalculator(
+            new ScoringRulesEngine(new ScoringRulesProperties()), new CandidateDictionary(1_000));
+
+    @Test
+    void rejectsAnswerVectorsCombinedWithCountsOrBeyondTheLimit() {
+        ScoreRequest mixed = new ScoreRequest("candidate-1", 10, 10);
+        mixed.setAnswers(new int[]{0, 1, 2});
+        ScoreRequest oversized = new ScoreRequest();
+        oversized.setCandidateId("candidate-1");
+        oversized.setAnswers(new int[ScoreRequest.MAX_ANSWERS + 1]);
+
+        assertThatThrownBy(() -> calculator.calculate(mixed, false))
+                .isInstanceOf(ScoreCalculationException.class)
+                .hasMessageContaining("cannot be combined");
+        assertThatThrownBy(() -> calculator.calculate(oversized, false))
+                .isInstanceOf(ScoreCalculationException.class)
+                .hasMessageContaining("At most");
+    }
+
+    @Test
+    void rejectsIdsThatDoNotFitIntoAJournalRecord() {
+        String widest = "\u20ac".repeat(ScoreRequest.MAX_ID_BYTES / 3);
+        ScoreRequest oversized = new ScoreRequest(widest + "x", 10, 7);
+        ScoreRequest oversizedAssessment = new ScoreRequest("candidate-1", 10, 7);
+        oversizedAssessment.setAssessmentId("\ud83d\ude00".repeat(ScoreRequest.MAX_ID_BYTES / 4 + 1));
+
+        assertThat(calculator.calculate(new ScoreRequest(widest, 10, 7), false).getCandidateId()).isEqualTo(widest);
+        assertThatThrownBy(() -> calculator.calculate(oversized, false))
+                .isInstanceOf(ScoreCalculationException.class)
+                .hasMessageContaining("UTF-8 bytes");
+        assertThatThrownBy(() -> calculator.calculate(oversizedAssessment, false))
+                .isInstanceOf(ScoreCalculationException.class)
+                .hasMessageContaining("UTF-8 bytes");
+    }
+}
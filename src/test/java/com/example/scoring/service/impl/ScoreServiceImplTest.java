@@ -0,0 +1,130 @@
+package com.example.scoring.service.impl;
+
+import com.example.scoring.candidate.CandidateDictionary;
+import com.example.scoring.config.DatabaseBulkhead;
+import com.example.scoring.config.ScoringExecutorProperties;
+import com.example.scoring.config.WriteBehindProperties;
+import com.example.scoring.domain.Score;
+import com.example.scoring.dto.ScoreRequest;
+import com.example.scoring.event.PersistedScoreNotifier;
+import com.example.scoring.monitoring.LatencyMetrics;
+import com.example.scoring.monitoring.MonitoringProperties;
+import com.example.scoring.monitoring.QueueTimingTaskDecorator;
+import com.example.scoring.monitoring.RequestTimingContext;
+import com.example.scoring.rules.ScoringRulesEngine;
+import com.example.scoring.rules.ScoringRulesProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for asynchronous scoring through the write-behind queue.
+ */
+class ScoreServiceImplTest {
+
+    private static final int POOL_SIZE = 8;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(POOL_SIZE);
+    private final RecordingScoreStore store = new RecordingScoreStore();
+    private ScoreWriteBehindQueue writeBehindQueue;
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        RequestTimingContext.restore(null);
+        executor.shutdownNow();
+        writeBehindQueue.stop();
+    }
+
+    @Test
+    void asyncCalculationsDoNotHoldExecutorThreadsUntilTheirBatchIsFlushed() throws Exception {
+        WriteBehindProperties properties = new WriteBehindProperties();
+        properties.setBatchSize(64);
+        properties.setMaxDelay(Duration.ofMillis(500));
+        ScoreServiceImpl service = service(properties);
+
+        List<CompletableFuture<Score>> futures = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            futures.add(service.calculateScoreAsync(new ScoreRequest("candidate-" + i, 10, 7)));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+
+        assertThat(futures.get(63).get().getCandidateId()).isEqualTo("candidate-63");
+        assertThat(store.batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(64);
+        assertThat(Collections.max(store.batchSizes)).isGreaterThan(POOL_SIZE);
+    }
+
+    @Test
+    void recordsExecutorTotalAndCorrelationIdWhenTheBatchIsFlushed() throws Exception {
+        WriteBehindProperties properties = new WriteBehindProperties();
+        properties.setBatchSize(64);
+        properties.setMaxDelay(Duration.ofMillis(200));
+        LatencyMetrics latencyMetrics = new LatencyMetrics(new MonitoringProperties());
+        QueueTimingTaskDecorator decorator = new QueueTimingTaskDecorator(latencyMetrics, "scoring");
+        ScoreServiceImpl service = service(properties, task -> executor.execute(decorator.decorate(task)));
+
+        RequestTimingContext.bind(new RequestTimingContext("req-7", System.nanoTime()));
+        AtomicReference<String> completedUnder = new AtomicReference<>();
+        service.calculateScoreAsync(new ScoreRequest("candidate-7", 10, 7))
+                .thenRun(() -> completedUnder.set(RequestTimingContext.current().getCorrelationId()))
+                .get(10, TimeUnit.SECONDS);
+
+        assertThat(store.correlationIds).containsExactly("req-7");
+        assertThat(completedUnder.get()).isEqualTo("req-7");
+        assertThat(latencyMetrics.currentWindows().get("scoring.total").getCount()).isEqualTo(1L);
+        assertThat(latencyMetrics.currentWindows().get("scoring.total").getMaxNanos())
+                .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(190));
+        assertThat(latencyMetrics.currentWindows().get("scoring.execution").getMaxNanos())
+                .isLessThan(TimeUnit.MILLISECONDS.toNanos(190));
+    }
+
+    @Test
+    void flushesABatchUnderASingleCorrelationId() throws Exception {
+        WriteBehindProperties properties = new WriteBehindProperties();
+        properties.setBatchSize(64);
+        properties.setMaxDelay(Duration.ofMillis(200));
+        QueueTimingTaskDecorator decorator = new QueueTimingTaskDecorator(
+                new LatencyMetrics(new MonitoringProperties()), "scoring");
+        ScoreServiceImpl service = service(properties, task -> executor.execute(decorator.decorate(task)));
+
+        List<CompletableFuture<Score>> futures = new ArrayList<>();
+        for (String correlationId : List.of("req-7", "req-8")) {
+            RequestTimingContext.bind(new RequestTimingContext(correlationId, System.nanoTime()));
+            futures.add(service.calculateScoreAsync(new ScoreRequest("candidate-" + correlationId, 10, 7)));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+
+        assertThat(store.correlationIds).isNotEmpty();
+        for (String correlationId : store.correlationIds) {
+            assertThat(List.of("req-7", "req-8")).contains(correlationId);
+        }
+    }
+
+    private ScoreServiceImpl service(WriteBehindProperties properties) {
+        return service(properties, executor);
+    }
+
+    private ScoreServiceImpl service(WriteBehindProperties properties, Executor scoringExecutor) {
+        ScoreWriter scoreWriter = new ScoreWriter(store);
+        DatabaseBulkhead bulkhead = new DatabaseBulkhead(new ScoringExecutorProperties(), 10);
+        PersistedScoreNotifier notifier = new PersistedScoreNotifier(List.of());
+        writeBehindQueue = new ScoreWriteBehindQueue(scoreWriter, bulkhead, properties, notifier);
+        writeBehindQueue.start();
+        ScoreCalculator calculator = new ScoreCalculator(
+                new ScoringRulesEngine(new ScoringRulesProperties()), new CandidateDictionary(1_000));
+        // Reads and the synchronous batch path are not exercised here.
+        return new ScoreServiceImpl(calculator, scoreWriter, null, bulkhead, writeBehindQueue, properties,
+                null, null, notifier, scoringExecutor);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.scoring.stats;
+
+import com.example.scoring.candidate.CandidateDictionary;
+import com.example.scoring.domain.Score;
+import com.example.scoring.dto.ScoreStatisticsResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for incremental cohort and candidate statistics.
+ */
+class ScoreStatisticsAggregatorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Test
+    void summarisesCohortsAndCandidates() {
+        ScoreStatisticsAggregator aggregator = new ScoreStatisticsAggregator(new ScoreStatisticsProperties(), new CandidateDictionary(1_000));
+        IntStream.rangeClosed(1, 100).parallel().forEach(value ->
+                aggregator.onScorePersisted(score("candidate-" + value, "exam", value, NOW)));
+        aggregator.onScorePersisted(score("candidate-0", null, 10.0, NOW));
+
+        ScoreStatisticsResponse exam = aggregator.statistics("exam", "candidate-90");
+
+        assertThat(exam.getCount()).isEqualTo(100L);
+        assertThat(exam.getMean()).isCloseTo(50.5, within(1e-9));
+        assertThat(exam.getStandardDeviation()).isCloseTo(29.011, within(1e-3));
+        assertThat(exam.getP50()).isEqualTo(50.0);
+        assertThat(exam.getMin()).isEqualTo(1.0);
+        assertThat(exam.getMax()).isEqualTo(100.0);
+        assertThat(exam.getCandidate().getPercentileRank()).isCloseTo(89.5, within(1e-9));
+
+        ScoreStatisticsResponse fallback = aggregator.statistics(null, "candidate-0");
+        assertThat(fallback.getCohort()).isEqualTo(ScoreStatisticsAggregator.DEFAULT_COHORT);
+        assertThat(fallback.getCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void keepsSummariesOfCandidatesWithoutADictionaryCode() {
+        ScoreStatisticsProperties properties = new ScoreStatisticsProperties();
+        properties.setMaxCandidates(3);
+        ScoreStatisticsAggregator aggregator = new ScoreStatisticsAggregator(properties, new CandidateDictionary(1));
+
+        aggregator.onScorePersisted(score("candidate-1", "exam", 10.0, NOW));
+        aggregator.onScorePersisted(score("candidate-2", "exam", 20.0, NOW));
+        aggregator.onScorePersisted(score("candidate-2", "exam", 30.0, NOW.plusMinutes(1)));
+        aggregator.onScorePersisted(score("candidate-3", "exam", 40.0, NOW));
+        aggregator.onScorePersisted(score("candidate-4", "exam", 50.0, NOW));
+
+        assertThat(aggregator.statistics(null, "candidate-1").getCandidate()).isNotNull();
+        ScoreStatisticsResponse uncoded = aggregator.statistics(null, "candidate-2");
+        assertThat(uncoded.getCohort()).isEqualTo("exam");
+        assertThat(uncoded.getCandidate().getLatestScore()).isEqualTo(30.0);
+        assertThat(aggregator.statistics(null, "candidate-3").getCandidate()).isNotNull();
+        assertThat(aggregator.statistics(null, "candidate-4").getCandidate()).isNull();
+    }
+
+    @Test
+    void retiresBucketsOutsideTheRetentionWindow() {
+        ScoreStatisticsProperties properties = new ScoreStatisticsProperties();
+        properties.setRetainedBuckets(2);
+        ScoreStatisticsAggregator aggregator = new ScoreStatisticsAggregator(properties, new CandidateDictionary(1_000));
+
+        aggregator.onScorePersisted(score("candidate-1", "exam", 10.0, NOW.minusHours(3)));
+        aggregator.onScorePersisted(score("candidate-1", "exam", 20.0, NOW.minusHours(1)));
+        aggregator.onScorePersisted(score("candidate-1", "exam", 30.0, NOW));
+        aggregator.onScorePersisted(score("candidate-1", "exam", 40.0, NOW.minusHours(5)));
+
+        ScoreStatisticsResponse response = aggregator.statistics("exam", null);
+        assertThat(response.getCount()).isEqualTo(2L);
+        assertThat(response.getMean()).isEqualTo(25.0);
+        assertThat(response.getWindowStart()).isEqualTo(NOW.minusHours(1));
+        assertThat(response.getWindowEnd()).isEqualTo(NOW.plusHours(1));
+    }
+
+    private static Score score(String candidateId, String assessmentId, double value, LocalDateTime calculatedAt) {
+        Score score = new Score(candidateId, value, 100, (int) value, calculatedAt, false);
+        score.setAssessmentId(assessmentId);
+        return score;
+    }
+}
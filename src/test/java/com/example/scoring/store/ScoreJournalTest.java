@@ -0,0 +1,191 @@
+package com.example.scoring.store;
+
+import com.example.scoring.candidate.CandidateDictionary;
+import com.example.scoring.domain.Score;
+import com.example.scoring.dto.ScoreResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for appending, recovering and compacting the memory-mapped score journal.
+ */
+class ScoreJournalTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_456_789);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void appendedScoresAreReadBackThroughTheCandidateIndex() throws IOException {
+        CandidateIndex index = newIndex();
+        Score assessed = score("candidate-1", NOW);
+        assessed.setAssessmentId("java-backend");
+        List<Score> scores = List.of(assessed, score("candidate-2", NOW), score("candidate-1", NOW.plusSeconds(1)));
+
+        try (ScoreJournal journal = ScoreJournal.open(directory, settings(64 * 1024), 1L, index)) {
+            journal.append(scores);
+
+            assertThat(scores).extracting(Score::getId).containsExactly(1L, 2L, 3L);
+            assertThat(journal.durableId()).isEqualTo(3L);
+            assertThat(index.ids("candidate-1")).containsExactly(1L, 3L);
+            ScoreResponse first = journal.read(1L);
+            assertThat(first.getCandidateId()).isEqualTo("candidate-1");
+            assertThat(first.getAssessmentId()).isEqualTo("java-backend");
+            assertThat(first.getScoreValue()).isEqualTo(70.0);
+            assertThat(first.getCalculatedAt()).isEqualTo(NOW);
+            assertThat(first.isAsyncCalculation()).isTrue();
+            assertThat(journal.read(2L).getAssessmentId()).isNull();
+            assertThat(journal.read(4L)).isNull();
+        }
+    }
+
+    @Test
+    void reopeningRebuildsTheIndexAndDiscardsATornTail() throws IOException {
+        try (ScoreJournal journal = ScoreJournal.open(directory, settings(64 * 1024), 100L, newIndex())) {
+            for (int i = 0; i < 5; i++) {
+                journal.append(List.of(score("candidate-" + (i % 2), NOW.plusSeconds(i))));
+            }
+        }
+        corruptRecord(singleSegment(), 4);
+
+        CandidateIndex index = newIndex();
+        try (ScoreJournal journal = ScoreJournal.open(directory, settings(64 * 1024), 1L, index)) {
+            assertThat(journal.appendedId()).isEqualTo(103L);
+            assertThat(index.ids("candidate-0")).containsExactly(100L, 102L);
+            assertThat(index.ids("candidate-1")).containsExactly(101L, 103L);
+
+            Score next = score("candidate-2", NOW);
+            journal.append(List.of(next));
+            assertThat(next.getId()).isEqualTo(104L);
+            assertThat(journal.read(104L).getCandidateId()).isEqualTo("candidate-2");
+        }
+    }
+
+    @Test
+    void fullSegmentsRollOverAndExportedOnesAreDeleted() throws IOException {
+        CandidateIndex index = newIndex();
+        long fourRecords = ScoreJournal.HEADER_BYTES + 4L * JournalRecord.BYTES;
+        try (ScoreJournal journal = ScoreJournal.open(directory, settings(fourRecords), 1L, index)) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(List.of(score("candidate-1", NOW.plusSeconds(i))));
+            }
+            assertThat(journal.segmentCount()).isEqualTo(3);
+
+            journal.deleteSegmentsThrough(6L, 0);
+            assertThat(journal.segmentCount()).isEqualTo(2);
+
+            journal.deleteSegmentsThrough(10L, 0);
+            assertThat(journal.segmentCount()).isEqualTo(1);
+            assertThat(journal.firstId()).isEqualTo(9L);
+            assertThat(journal.read(8L)).isNull();
+            assertThat(index.ids("candidate-1")).containsExactly(9L, 10L);
+        }
+
+        try (ScoreJournal journal = ScoreJournal.open(directory, settings(fourRecords), 1L, newIndex())) {
+            assertThat(journal.firstId()).isEqualTo(9L);
+            assertThat(journal.appendedId()).isEqualTo(10L);
+        }
+    }
+
+    @Test
+    void reopeningDiscardsEmptySegmentsAfterASegmentTornDuringRollover() throws IOException {
+        long fourRecords = ScoreJournal.HEADER_BYTES + 4L * JournalRecord.BYTES;
+        try (ScoreJournal journal = ScoreJournal.open(directory, settings(fourRecords), 1L, newIndex())) {
+            for (int i = 0; i < 5; i++) {
+                journal.append(List.of(score("candidate-1", NOW.plusSeconds(i))));
+            }
+        }
+        // Segment 1 lost its newest record while segment 5 only got its header.
+        corruptRecord(directory.resolve(String.format("%020d.journal", 1L)), 3);
+        clearRecord(directory.resolve(String.format("%020d.journal", 5L)), 0);
+
+        CandidateIndex index = newIndex();
+        try (ScoreJournal journal = ScoreJournal.open(directory, settings(fourRecords), 1L, index)) {
+            assertThat(journal.segmentCount()).isEqualTo(1);
+            assertThat(journal.appendedId()).isEqualTo(3L);
+            assertThat(index.ids("candidate-1")).containsExactly(1L, 2L, 3L);
+
+            Score next = score("candidate-2", NOW);
+            journal.append(List.of(next));
+            assertThat(next.getId()).isEqualTo(4L);
+            assertThat(journal.read(4L).getCandidateId()).isEqualTo("candidate-2");
+        }
+    }
+
+    @Test
+    void withoutFsyncAppendsReturnAndRecordsBecomeDurableInTheBackground() throws Exception {
+        ScoreStoreProperties.Journal settings = settings(64 * 1024);
+        settings.setFsync(false);
+        settings.setCommitWindow(Duration.ofMillis(200));
+        try (ScoreJournal journal = ScoreJournal.open(directory, settings, 1L, newIndex())) {
+            journal.append(List.of(score("candidate-1", NOW), score("candidate-2", NOW)));
+
+            assertThat(journal.appendedId()).isEqualTo(2L);
+            assertThat(journal.durableId()).isZero();
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (journal.durableId() < 2L && System.nanoTime() < deadline) {
+                Thread.sleep(10L);
+            }
+            assertThat(journal.durableId()).isEqualTo(2L);
+        }
+    }
+
+    @Test
+    void rejectsIdsThatDoNotFitIntoARecord() throws IOException {
+        try (ScoreJournal journal = ScoreJournal.open(directory, settings(64 * 1024), 1L, newIndex())) {
+            assertThatThrownBy(() -> journal.append(List.of(score("x".repeat(JournalRecord.MAX_ID_BYTES + 1), NOW))))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(journal.appendedId()).isZero();
+        }
+    }
+
+    private static CandidateIndex newIndex() {
+        return new CandidateIndex(new CandidateDictionary(1_000));
+    }
+
+    private static ScoreStoreProperties.Journal settings(long segmentBytes) {
+        ScoreStoreProperties.Journal settings = new ScoreStoreProperties.Journal();
+        settings.setSegmentBytes(segmentBytes);
+        settings.setCommitWindow(Duration.ZERO);
+        return settings;
+    }
+
+    private static Score score(String candidateId, LocalDateTime calculatedAt) {
+        return new Score(candidateId, 70.0, 10, 7, calculatedAt, true);
+    }
+
+    private Path singleSegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".journal")).findFirst().orElseThrow();
+        }
+    }
+
+    private static void clearRecord(Path segment, int slot) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[JournalRecord.BYTES]),
+                    ScoreJournal.HEADER_BYTES + (long) slot * JournalRecord.BYTES);
+        }
+    }
+
+    private static void corruptRecord(Path segment, int slot) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 0xff}),
+                    ScoreJournal.HEADER_BYTES + (long) slot * JournalRecord.BYTES + 50);
+        }
+    }
+}